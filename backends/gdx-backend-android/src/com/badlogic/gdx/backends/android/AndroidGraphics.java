@@ -48,6 +48,7 @@ import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.GLStateCache;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.WindowedMean;
 
@@ -309,6 +310,8 @@ public final class AndroidGraphics implements Graphics, Renderer {
 		Texture.invalidateAllTextures(app);
 		ShaderProgram.invalidateAllShaderPrograms(app);
 		FrameBuffer.invalidateAllFrameBuffers(app);
+		// A new context starts with the default state, which an installed cache does not know.
+		if (Gdx.gl20 instanceof GLStateCache) ((GLStateCache)Gdx.gl20).invalidate();
 
 		Gdx.app.log("AndroidGraphics", Mesh.getManagedStatus());
 		Gdx.app.log("AndroidGraphics", Texture.getManagedStatus());
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker.Page;
+
+/** Uploads the changed areas of a {@link PixmapPacker} page to its texture. The pixels of a GWT pixmap live in its canvas, so the
+ * whole page is uploaded at once, regardless of the budget. */
+class PageUploader {
+	/** @return the number of bytes uploaded. */
+	static int upload (Page page, int budget) {
+		Texture texture = page.texture;
+		texture.load(texture.getTextureData());
+		page.dirtyRects.clear();
+		Pixmap image = page.image;
+		return image.getWidth() * image.getHeight() * 4;
+	}
+}
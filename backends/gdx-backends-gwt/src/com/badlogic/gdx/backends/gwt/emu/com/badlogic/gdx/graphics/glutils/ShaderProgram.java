@@ -262,6 +262,21 @@ public class ShaderProgram implements Disposable {
 		return location;
 	}
 
+	/** Returns the location of the uniform, which can be passed to {@link #setUniformi(int, int)} to avoid looking up the name
+	 * each time.
+	 * @param pedantic if true, an IllegalArgumentException is thrown if the uniform does not exist.
+	 * @return the location of the uniform or -1. */
+	public int fetchUniformLocation (String name, boolean pedantic) {
+		GL20 gl = Gdx.graphics.getGL20();
+		Integer location;
+		if ((location = uniforms.get(name)) == null) {
+			location = gl.glGetUniformLocation(program, name);
+			uniforms.put(name, location);
+		}
+		if (location == -1 && pedantic) throw new IllegalArgumentException("no uniform with name '" + name + "' in shader");
+		return location;
+	}
+
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
 	 * {@link #begin()}/{@link #end()} block.
 	 * 
@@ -274,6 +289,16 @@ public class ShaderProgram implements Disposable {
 		gl.glUniform1i(location, value);
 	}
 
+	/** Sets the uniform at the given location, as returned by {@link #fetchUniformLocation(String, boolean)}. Must be called in
+	 * between a {@link #begin()}/{@link #end()} block.
+	 * 
+	 * @param location the location of the uniform
+	 * @param value the value */
+	public void setUniformi (int location, int value) {
+		checkManaged();
+		Gdx.graphics.getGL20().glUniform1i(location, value);
+	}
+
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
 	 * {@link #begin()}/{@link #end()} block.
 	 * 
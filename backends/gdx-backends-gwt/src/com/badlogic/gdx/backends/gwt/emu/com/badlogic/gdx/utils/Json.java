@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonPullReader.Token;
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.badlogic.gwtref.client.Constructor;
@@ -595,6 +596,45 @@ public class Json {
 		return (T)readValue(type, elementType, new JsonReader().parse(json));
 	}
 
+	/** On GWT the value is parsed into a DOM first and then deserialized, as with {@link JsonReader}. The reader is closed
+	 * afterwards. */
+	public <T> T fromJson (Class<T> type, JsonPullReader reader) {
+		return fromJson(type, null, reader);
+	}
+
+	public <T> T fromJson (Class<T> type, Class elementType, JsonPullReader reader) {
+		try {
+			reader.next();
+			Object jsonData = readTree(reader);
+			if (reader.next() != Token.end) throw new SerializationException("Unexpected data after the root value.");
+			return (T)readValue(type, elementType, jsonData);
+		} finally {
+			reader.close();
+		}
+	}
+
+	/** Reads the value at the current token of the reader into a DOM, the same as {@link JsonReader} would produce. */
+	private Object readTree (JsonPullReader reader) {
+		switch (reader.getToken()) {
+		case objectStart:
+			OrderedMap<String, Object> map = new OrderedMap();
+			while (reader.next() != Token.objectEnd)
+				map.put(reader.getName(), readTree(reader));
+			return map;
+		case arrayStart:
+			Array array = new Array();
+			while (reader.next() != Token.arrayEnd)
+				array.add(readTree(reader));
+			return array;
+		case number:
+			return reader.getFloat();
+		case bool:
+			return reader.getBoolean();
+		default:
+			return reader.getString();
+		}
+	}
+
 	public void readField (Object object, String name, Object jsonData) {
 		readField(object, name, name, null, jsonData);
 	}
@@ -42,35 +42,56 @@ import org.lwjgl.openal.AL10;
 import org.lwjgl.openal.AL11;
 
 import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.AudioDevice;
 import com.badlogic.gdx.audio.AudioRecorder;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.IntArray;
-import com.badlogic.gdx.utils.IntMap;
-import com.badlogic.gdx.utils.LongMap;
 import com.badlogic.gdx.utils.ObjectMap;
 
-/** @author Nathan Sweet */
+/** Plays sounds on a fixed number of OpenAL sources. When all are in use, a new sound replaces the least important sound
+ * playing: the one with the lowest {@link OpenALSound#setPriority(int) priority}, then the lowest volume, then the oldest. A
+ * sound does not replace sounds that are more important than itself, and a sound that has reached its
+ * {@link OpenALSound#setMaxInstances(int) maximum instances} replaces its own oldest instance. Music and audio devices
+ * reserve a source while playing, replacing a sound if necessary.<br>
+ * <br>
+ * A sound id encodes the index of its source, so looking it up needs no map.
+ * @author Nathan Sweet */
 public class OpenALAudio implements Audio {
+	static private final int SOURCE_BITS = 16, SOURCE_MASK = (1 << SOURCE_BITS) - 1;
+
 	private final int deviceBufferSize;
 	private final int deviceBufferCount;
-	private IntArray idleSources, allSources;
-	private LongMap<Integer> soundIdToSource;
-	private IntMap<Long> sourceToSoundId;
+	private IntArray allSources;
+	/** Per source: the id of the last sound played on it or -1, the sound, its priority and volume, and whether the source is
+	 * reserved for music. */
+	private long[] soundIds;
+	private OpenALSound[] sounds;
+	private int[] priorities;
+	private float[] volumes;
+	private boolean[] reserved;
 	private long nextSoundId = 0;
 	private ObjectMap<String, Class<? extends OpenALSound>> extensionToSoundClass = new ObjectMap();
 	private ObjectMap<String, Class<? extends OpenALMusic>> extensionToMusicClass = new ObjectMap();
 
 	Array<OpenALMusic> music = new Array(false, 1, OpenALMusic.class);
 	boolean noDevice = false;
+	int musicBufferCount = 3, musicBufferSize = 4096 * 10;
+	private StreamingThread streamingThread;
 
 	public OpenALAudio () {
 		this(16, 9, 512);
 	}
 
 	public OpenALAudio (int simultaneousSources, int deviceBufferCount, int deviceBufferSize) {
+		this(simultaneousSources, deviceBufferCount, deviceBufferSize, true);
+	}
+
+	/** @param streamMusic If true, music is decoded and queued on a separate thread so slow frames and decoding do not cause gaps.
+	 *           If false, music is streamed by {@link #update()}. */
+	public OpenALAudio (int simultaneousSources, int deviceBufferCount, int deviceBufferSize, boolean streamMusic) {
 		this.deviceBufferSize = deviceBufferSize;
 		this.deviceBufferCount = deviceBufferCount;
 
@@ -89,15 +110,21 @@ public class OpenALAudio implements Audio {
 			return;
 		}
 
+		if (simultaneousSources > SOURCE_MASK + 1) throw new IllegalArgumentException("Too many sources: " + simultaneousSources);
 		allSources = new IntArray(false, simultaneousSources);
 		for (int i = 0; i < simultaneousSources; i++) {
 			int sourceID = alGenSources();
 			if (alGetError() != AL_NO_ERROR) break;
 			allSources.add(sourceID);
 		}
-		idleSources = new IntArray(allSources);
-		soundIdToSource = new LongMap<Integer>();
-		sourceToSoundId = new IntMap<Long>();
+		int sourceCount = allSources.size;
+		soundIds = new long[sourceCount];
+		for (int i = 0; i < sourceCount; i++)
+			soundIds[i] = -1;
+		sounds = new OpenALSound[sourceCount];
+		priorities = new int[sourceCount];
+		volumes = new float[sourceCount];
+		reserved = new boolean[sourceCount];
 
 		FloatBuffer orientation = (FloatBuffer)BufferUtils.createFloatBuffer(6)
 			.put(new float[] {0.0f, 0.0f, -1.0f, 0.0f, 1.0f, 0.0f}).flip();
@@ -106,6 +133,19 @@ public class OpenALAudio implements Audio {
 		alListener(AL_VELOCITY, velocity);
 		FloatBuffer position = (FloatBuffer)BufferUtils.createFloatBuffer(3).put(new float[] {0.0f, 0.0f, 0.0f}).flip();
 		alListener(AL_POSITION, position);
+
+		if (streamMusic) {
+			streamingThread = new StreamingThread();
+			streamingThread.start();
+		}
+	}
+
+	/** Sets the number and size in bytes of the buffers each music created afterward streams through. More or larger buffers
+	 * tolerate longer delays before refilling at the cost of memory and latency. Default is 3 buffers of 40 KB.
+	 * @see OpenALMusic#setBuffers(int, int) */
+	public void setMusicBuffers (int bufferCount, int bufferSize) {
+		musicBufferCount = bufferCount;
+		musicBufferSize = bufferSize;
 	}
 
 	public void registerSound (String extension, Class<? extends OpenALSound> soundClass) {
@@ -142,120 +182,185 @@ public class OpenALAudio implements Audio {
 		}
 	}
 
-	int obtainSource (boolean isMusic) {
+	/** Reserves a source for streaming until {@link #freeSource(int)} is called, replacing the least important sound if none is
+	 * free.
+	 * @return the source ID, or -1 if every source is reserved. */
+	synchronized int obtainSource (boolean isMusic) {
 		if (noDevice) return 0;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceId = idleSources.get(i);
-			int state = alGetSourcei(sourceId, AL_SOURCE_STATE);
-			if (state != AL_PLAYING && state != AL_PAUSED) {
-				if (isMusic) {
-					idleSources.removeIndex(i);
-				} else {
-					if (sourceToSoundId.containsKey(sourceId)) {
-						long soundId = sourceToSoundId.get(sourceId);
-						sourceToSoundId.remove(sourceId);
-						soundIdToSource.remove(soundId);
-					}
+		int index = findSource(null, 0, 0);
+		if (index == -1) return -1;
+		int sourceId = allSources.items[index];
+		resetSource(sourceId);
+		soundIds[index] = -1;
+		sounds[index] = null;
+		reserved[index] = true;
+		return sourceId;
+	}
 
-					long soundId = nextSoundId++;
-					sourceToSoundId.put(sourceId, soundId);
-					soundIdToSource.put(soundId, sourceId);
-				}
-				alSourceStop(sourceId);
-				alSourcei(sourceId, AL_BUFFER, 0);
-				AL10.alSourcef(sourceId, AL10.AL_GAIN, 1);
-				AL10.alSourcef(sourceId, AL10.AL_PITCH, 1);
-				AL10.alSource3f(sourceId, AL10.AL_POSITION, 0, 0, 0);
-				return sourceId;
+	/** Starts playing the sound on a free source or on the source of a less important sound.
+	 * @return the sound id, or -1 if only more important sounds are playing. */
+	synchronized long playSound (OpenALSound sound, int bufferID, float volume, boolean looping) {
+		int index = findSource(sound, sound.getPriority(), volume);
+		if (index == -1) return -1;
+		int sourceId = allSources.items[index];
+		resetSource(sourceId);
+		long soundId = nextSoundId++ << SOURCE_BITS | index;
+		soundIds[index] = soundId;
+		sounds[index] = sound;
+		priorities[index] = sound.getPriority();
+		volumes[index] = volume;
+		alSourcei(sourceId, AL_BUFFER, bufferID);
+		alSourcei(sourceId, AL10.AL_LOOPING, looping ? AL10.AL_TRUE : AL10.AL_FALSE);
+		AL10.alSourcef(sourceId, AL10.AL_GAIN, volume);
+		AL10.alSourcePlay(sourceId);
+		return soundId;
+	}
+
+	/** Returns the index of a source that is not playing, or of the playing sound to replace, or -1. For music the sound is null
+	 * and any sound may be replaced. */
+	private int findSource (OpenALSound sound, int priority, float volume) {
+		int free = -1, weakest = -1, instances = 0, oldestInstance = -1;
+		int[] sources = allSources.items;
+		for (int i = 0, n = allSources.size; i < n; i++) {
+			if (reserved[i]) continue;
+			int state = alGetSourcei(sources[i], AL_SOURCE_STATE);
+			if (state != AL_PLAYING && state != AL_PAUSED) {
+				if (free == -1) free = i;
+				continue;
 			}
+			if (sound != null && sounds[i] == sound) {
+				instances++;
+				if (oldestInstance == -1 || soundIds[i] < soundIds[oldestInstance]) oldestInstance = i;
+			}
+			if (weakest == -1 || isWeaker(i, weakest)) weakest = i;
 		}
-		return -1;
+		if (sound == null) return free != -1 ? free : weakest;
+		int maxInstances = sound.getMaxInstances();
+		if (maxInstances > 0 && instances >= maxInstances) return oldestInstance;
+		if (free != -1) return free;
+		if (weakest == -1 || priorities[weakest] > priority) return -1;
+		if (priorities[weakest] == priority && volumes[weakest] > volume) return -1;
+		return weakest;
+	}
+
+	private boolean isWeaker (int index, int otherIndex) {
+		if (priorities[index] != priorities[otherIndex]) return priorities[index] < priorities[otherIndex];
+		if (volumes[index] != volumes[otherIndex]) return volumes[index] < volumes[otherIndex];
+		return soundIds[index] < soundIds[otherIndex];
 	}
 
-	void freeSource (int sourceID) {
+	private void resetSource (int sourceId) {
+		alSourceStop(sourceId);
+		alSourcei(sourceId, AL_BUFFER, 0);
+		AL10.alSourcef(sourceId, AL10.AL_GAIN, 1);
+		AL10.alSourcef(sourceId, AL10.AL_PITCH, 1);
+		AL10.alSource3f(sourceId, AL10.AL_POSITION, 0, 0, 0);
+	}
+
+	/** @return the index of the source playing the sound, or -1 if the sound has finished and its source was reused. */
+	private int soundIndex (long soundId) {
+		int index = (int)(soundId & SOURCE_MASK);
+		if (soundId < 0 || index >= allSources.size || soundIds[index] != soundId) return -1;
+		return index;
+	}
+
+	synchronized void freeSource (int sourceID) {
 		if (noDevice) return;
 		alSourceStop(sourceID);
 		alSourcei(sourceID, AL_BUFFER, 0);
-		if (sourceToSoundId.containsKey(sourceID)) {
-			long soundId = sourceToSoundId.remove(sourceID);
-			soundIdToSource.remove(soundId);
-		}
-		idleSources.add(sourceID);
+		int index = allSources.indexOf(sourceID);
+		if (index == -1) return;
+		soundIds[index] = -1;
+		sounds[index] = null;
+		reserved[index] = false;
 	}
 
-	void freeBuffer (int bufferID) {
+	synchronized void freeBuffer (int bufferID) {
 		if (noDevice) return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
+		int[] sources = allSources.items;
+		for (int i = 0, n = allSources.size; i < n; i++) {
+			if (reserved[i]) continue;
+			int sourceID = sources[i];
 			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID) {
-				if (sourceToSoundId.containsKey(sourceID)) {
-					long soundId = sourceToSoundId.remove(sourceID);
-					soundIdToSource.remove(soundId);
-				}
+				soundIds[i] = -1;
+				sounds[i] = null;
 				alSourceStop(sourceID);
 				alSourcei(sourceID, AL_BUFFER, 0);
 			}
 		}
 	}
 
-	void stopSourcesWithBuffer (int bufferID) {
+	synchronized void stopSourcesWithBuffer (int bufferID) {
 		if (noDevice) return;
-		for (int i = 0, n = idleSources.size; i < n; i++) {
-			int sourceID = idleSources.get(i);
+		int[] sources = allSources.items;
+		for (int i = 0, n = allSources.size; i < n; i++) {
+			if (reserved[i]) continue;
+			int sourceID = sources[i];
 			if (alGetSourcei(sourceID, AL_BUFFER) == bufferID) {
-				if (sourceToSoundId.containsKey(sourceID)) {
-					long soundId = sourceToSoundId.remove(sourceID);
-					soundIdToSource.remove(soundId);
-				}
+				soundIds[i] = -1;
+				sounds[i] = null;
 				alSourceStop(sourceID);
 			}
 		}
 	}
 
+	/** Streams music, unless that is done by the streaming thread. */
 	public void update () {
-		if (noDevice) return;
+		if (noDevice || streamingThread != null) return;
 		for (int i = 0; i < music.size; i++)
 			music.items[i].update();
 	}
 
-	public long getSoundId (int sourceId) {
-		if (!sourceToSoundId.containsKey(sourceId)) return -1;
-		return sourceToSoundId.get(sourceId);
+	public synchronized long getSoundId (int sourceId) {
+		int index = allSources.indexOf(sourceId);
+		if (index == -1) return -1;
+		return soundIds[index];
 	}
 
-	public void stopSound (long soundId) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		alSourceStop(sourceId);
+	public synchronized void stopSound (long soundId) {
+		int index = soundIndex(soundId);
+		if (index == -1) return;
+		alSourceStop(allSources.items[index]);
 	}
 
-	public void setSoundGain (long soundId, float volume) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		AL10.alSourcef(sourceId, AL10.AL_GAIN, volume);
+	public synchronized void setSoundGain (long soundId, float volume) {
+		int index = soundIndex(soundId);
+		if (index == -1) return;
+		volumes[index] = volume;
+		AL10.alSourcef(allSources.items[index], AL10.AL_GAIN, volume);
 	}
 
-	public void setSoundLooping (long soundId, boolean looping) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		alSourcei(sourceId, AL10.AL_LOOPING, looping ? AL10.AL_TRUE : AL10.AL_FALSE);
+	public synchronized void setSoundLooping (long soundId, boolean looping) {
+		int index = soundIndex(soundId);
+		if (index == -1) return;
+		alSourcei(allSources.items[index], AL10.AL_LOOPING, looping ? AL10.AL_TRUE : AL10.AL_FALSE);
 	}
 
-	public void setSoundPitch (long soundId, float pitch) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-		AL10.alSourcef(sourceId, AL10.AL_PITCH, pitch);
+	public synchronized void setSoundPitch (long soundId, float pitch) {
+		int index = soundIndex(soundId);
+		if (index == -1) return;
+		AL10.alSourcef(allSources.items[index], AL10.AL_PITCH, pitch);
 	}
 
-	public void setSoundPan (long soundId, float pan, float volume) {
-		if (!soundIdToSource.containsKey(soundId)) return;
-		int sourceId = soundIdToSource.get(soundId);
-
+	public synchronized void setSoundPan (long soundId, float pan, float volume) {
+		int index = soundIndex(soundId);
+		if (index == -1) return;
+		int sourceId = allSources.items[index];
+		volumes[index] = volume;
+		AL10.alSourcef(sourceId, AL10.AL_GAIN, volume);
 		AL10.alSource3f(sourceId, AL10.AL_POSITION, pan, 0, 0);
 	}
 
 	public void dispose () {
 		if (noDevice) return;
+		if (streamingThread != null) {
+			streamingThread.running = false;
+			try {
+				streamingThread.join();
+			} catch (InterruptedException ignored) {
+			}
+			streamingThread = null;
+		}
 		for (int i = 0, n = allSources.size; i < n; i++) {
 			int sourceID = allSources.get(i);
 			int state = alGetSourcei(sourceID, AL_SOURCE_STATE);
@@ -263,8 +368,10 @@ public class OpenALAudio implements Audio {
 			alDeleteSources(sourceID);
 		}
 
-		sourceToSoundId.clear();
-		soundIdToSource.clear();
+		for (int i = 0, n = sounds.length; i < n; i++) {
+			soundIds[i] = -1;
+			sounds[i] = null;
+		}
 
 		AL.destroy();
 		while (AL.isCreated()) {
@@ -318,4 +425,42 @@ public class OpenALAudio implements Audio {
 		};
 		return new JavaSoundAudioRecorder(samplingRate, isMono);
 	}
+
+	/** Refills the buffers of each playing music several times per buffer played, independent of the frame rate. */
+	class StreamingThread extends Thread {
+		volatile boolean running = true;
+		private final Array<OpenALMusic> streaming = new Array(false, 4, OpenALMusic.class);
+
+		StreamingThread () {
+			super("OpenALAudio streaming");
+			setDaemon(true);
+			setPriority(Thread.MAX_PRIORITY);
+		}
+
+		public void run () {
+			while (running) {
+				synchronized (music) {
+					streaming.addAll(music);
+				}
+				for (int i = 0; i < streaming.size; i++) {
+					OpenALMusic current = streaming.items[i];
+					try {
+						current.update();
+					} catch (Throwable ex) {
+						Gdx.app.error("OpenALAudio", "Error streaming music: " + current.file, ex);
+						// Stopping releases the source, so the failed music is not updated again until it is played again.
+						try {
+							current.stop();
+						} catch (Throwable ignored) {
+						}
+					}
+				}
+				streaming.clear();
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException ignored) {
+				}
+			}
+		}
+	}
 }
@@ -28,21 +28,24 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 
 import static org.lwjgl.openal.AL10.*;
 
-/** @author Nathan Sweet */
+/** Streams audio through a queue of OpenAL buffers. Unless {@link OpenALAudio} was created without a streaming thread, the
+ * buffers are decoded and queued by that thread, so the methods of this class are synchronized and may be called from any
+ * thread. Each music has its own buffers, {@link #setBuffers(int, int) configurable} before it is played.
+ * @author Nathan Sweet */
 public abstract class OpenALMusic implements Music {
-	static private final int bufferSize = 4096 * 10;
-	static private final int bufferCount = 3;
 	static private final int bytesPerSample = 2;
-	static private final byte[] tempBytes = new byte[bufferSize];
-	static private final ByteBuffer tempBuffer = BufferUtils.createByteBuffer(bufferSize);
 
 	private final OpenALAudio audio;
 	private IntBuffer buffers;
+	private int bufferSize, bufferCount;
+	private byte[] tempBytes;
+	private ByteBuffer tempBuffer;
 	private int sourceID = -1;
 	private int format, sampleRate;
 	private boolean isLooping, isPlaying;
 	private float volume = 1;
 	private float renderedSeconds, secondsPerBuffer;
+	private int underruns;
 
 	protected final FileHandle file;
 
@@ -50,7 +53,12 @@ public abstract class OpenALMusic implements Music {
 		this.audio = audio;
 		this.file = file;
 		if(audio != null) {
-			if(!audio.noDevice) audio.music.add(this);
+			setBuffers(audio.musicBufferCount, audio.musicBufferSize);
+			if(!audio.noDevice) {
+				synchronized (audio.music) {
+					audio.music.add(this);
+				}
+			}
 		}
 	}
 
@@ -60,7 +68,39 @@ public abstract class OpenALMusic implements Music {
 		secondsPerBuffer = (float)bufferSize / bytesPerSample / channels / sampleRate;
 	}
 
-	public void play () {
+	/** Sets the number of OpenAL buffers queued ahead and the size in bytes of each, which together determine how long playback
+	 * survives without the buffers being refilled and how much memory this music uses. The defaults are set by
+	 * {@link OpenALAudio#setMusicBuffers(int, int)}. Takes effect the next time this music is played after being stopped. */
+	public synchronized void setBuffers (int bufferCount, int bufferSize) {
+		if (bufferCount < 2) throw new IllegalArgumentException("bufferCount must be >= 2: " + bufferCount);
+		if (bufferSize < 1024) throw new IllegalArgumentException("bufferSize must be >= 1024: " + bufferSize);
+		if (sourceID != -1) throw new GdxRuntimeException("Buffers cannot be changed while the music is playing.");
+		if (buffers != null && !audio.noDevice) {
+			alDeleteBuffers(buffers);
+			buffers = null;
+		}
+		this.bufferCount = bufferCount;
+		this.bufferSize = bufferSize;
+		tempBytes = new byte[bufferSize];
+		tempBuffer = BufferUtils.createByteBuffer(bufferSize);
+		if (sampleRate > 0) secondsPerBuffer = (float)bufferSize / bytesPerSample / getChannels() / sampleRate;
+	}
+
+	public int getBufferCount () {
+		return bufferCount;
+	}
+
+	public int getBufferSize () {
+		return bufferSize;
+	}
+
+	/** Returns the number of times playback stopped because every queued buffer had been played before it was refilled. Each
+	 * underrun is heard as a gap, so this indicates the buffers are too few or too small. */
+	public synchronized int getUnderruns () {
+		return underruns;
+	}
+
+	public synchronized void play () {
 		if(audio.noDevice) return;
 		if (sourceID == -1) {
 			sourceID = audio.obtainSource(true);
@@ -86,7 +126,7 @@ public abstract class OpenALMusic implements Music {
 		isPlaying = true;
 	}
 
-	public void stop () {
+	public synchronized void stop () {
 		if(audio.noDevice) return;
 		if (sourceID == -1) return;
 		reset();
@@ -96,33 +136,33 @@ public abstract class OpenALMusic implements Music {
 		isPlaying = false;
 	}
 
-	public void pause () {
+	public synchronized void pause () {
 		if(audio.noDevice) return;
 		if (sourceID != -1) alSourcePause(sourceID);
 		isPlaying = false;
 	}
 
-	public boolean isPlaying () {
+	public synchronized boolean isPlaying () {
 		if(audio.noDevice) return false;
 		if (sourceID == -1) return false;
 		return isPlaying;
 	}
 
-	public void setLooping (boolean isLooping) {
+	public synchronized void setLooping (boolean isLooping) {
 		this.isLooping = isLooping;
 	}
 
-	public boolean isLooping () {
+	public synchronized boolean isLooping () {
 		return isLooping;
 	}
 
-	public void setVolume (float volume) {
+	public synchronized void setVolume (float volume) {
 		this.volume = volume;
 		if(audio.noDevice) return;
 		if (sourceID != -1) alSourcef(sourceID, AL_GAIN, volume);
 	}
 
-	public float getPosition () {
+	public synchronized float getPosition () {
 		if(audio.noDevice) return 0;
 		if (sourceID == -1) return 0;
 		return renderedSeconds + alGetSourcef(sourceID, AL11.AL_SEC_OFFSET);
@@ -143,7 +183,7 @@ public abstract class OpenALMusic implements Music {
 		return sampleRate;
 	}
 
-	public void update () {
+	public synchronized void update () {
 		if(audio.noDevice) return;
 		if (sourceID == -1) return;
 
@@ -162,7 +202,10 @@ public abstract class OpenALMusic implements Music {
 		if (end && alGetSourcei(sourceID, AL_BUFFERS_QUEUED) == 0) stop();
 
 		// A buffer underflow will cause the source to stop.
-		if (isPlaying && alGetSourcei(sourceID, AL_SOURCE_STATE) != AL_PLAYING) alSourcePlay(sourceID);
+		if (isPlaying && alGetSourcei(sourceID, AL_SOURCE_STATE) != AL_PLAYING) {
+			underruns++;
+			alSourcePlay(sourceID);
+		}
 	}
 
 	private boolean fill (int bufferID) {
@@ -182,12 +225,15 @@ public abstract class OpenALMusic implements Music {
 		return true;
 	}
 
-	public void dispose () {
+	public synchronized void dispose () {
 		if(audio.noDevice) return;
+		// Music is in the list from construction, not only once it was played and has buffers or a source.
+		synchronized (audio.music) {
+			audio.music.removeValue(this, true);
+		}
 		if (buffers == null) return;
 		if (sourceID != -1) {
 			reset();
-			audio.music.removeValue(this, true);
 			audio.freeSource(sourceID);
 			sourceID = -1;
 		}
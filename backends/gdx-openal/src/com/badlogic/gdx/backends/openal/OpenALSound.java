@@ -27,6 +27,7 @@ import static org.lwjgl.openal.AL10.*;
 public class OpenALSound implements Sound {
 	private int bufferID = -1;
 	private final OpenALAudio audio;
+	private int priority, maxInstances;
 
 	public OpenALSound (OpenALAudio audio) {
 		this.audio = audio;
@@ -51,14 +52,7 @@ public class OpenALSound implements Sound {
 
 	public long play (float volume) {
 		if(audio.noDevice) return 0;
-		int sourceID = audio.obtainSource(false);
-		if (sourceID == -1) return -1;
-		long soundId = audio.getSoundId(sourceID);
-		alSourcei(sourceID, AL_BUFFER, bufferID);
-		alSourcei(sourceID, AL_LOOPING, AL_FALSE);
-		alSourcef(sourceID, AL_GAIN, volume);
-		alSourcePlay(sourceID);
-		return soundId;
+		return audio.playSound(this, bufferID, volume, false);
 	}
 
 	public long loop () {
@@ -68,14 +62,27 @@ public class OpenALSound implements Sound {
 	@Override
 	public long loop (float volume) {
 		if(audio.noDevice) return 0;
-		int sourceID = audio.obtainSource(false);
-		if (sourceID == -1) return -1;
-		long soundId = audio.getSoundId(sourceID);
-		alSourcei(sourceID, AL_BUFFER, bufferID);
-		alSourcei(sourceID, AL_LOOPING, AL_TRUE);
-		alSourcef(sourceID, AL_GAIN, volume);
-		alSourcePlay(sourceID);
-		return soundId;
+		return audio.playSound(this, bufferID, volume, true);
+	}
+
+	/** Sets the importance of this sound when all sources are in use. A new sound replaces a playing sound with a lower priority,
+	 * or with the same priority and a lower or equal volume, and is not played otherwise. Default is 0. */
+	public void setPriority (int priority) {
+		this.priority = priority;
+	}
+
+	public int getPriority () {
+		return priority;
+	}
+
+	/** Sets how many instances of this sound can play at once. When the limit is reached, playing the sound again replaces its
+	 * oldest instance. Default is 0, which is unlimited. */
+	public void setMaxInstances (int maxInstances) {
+		this.maxInstances = maxInstances;
+	}
+
+	public int getMaxInstances () {
+		return maxInstances;
 	}
 
 	public void stop () {
@@ -124,7 +131,7 @@ public class OpenALSound implements Sound {
 
 	@Override
 	public long play (float volume, float pitch, float pan) {
-		long id = play();
+		long id = play(volume);
 		setPitch(id, pitch);
 		setPan(id, pan, volume);
 		return id;
@@ -132,7 +139,7 @@ public class OpenALSound implements Sound {
 
 	@Override
 	public long loop (float volume, float pitch, float pan) {
-		long id = loop();
+		long id = loop(volume);
 		setPitch(id, pitch);
 		setPan(id, pan, volume);
 		return id;
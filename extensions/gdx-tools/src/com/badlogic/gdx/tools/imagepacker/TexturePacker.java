@@ -28,6 +28,7 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.math.BigInteger;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -36,8 +37,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.CRC32;
@@ -56,6 +63,7 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 
 public class TexturePacker {
 	static Pattern indexPattern = Pattern.compile(".+_(\\d+)(_.*|$)");
+	static Pattern pageSuffixPattern = Pattern.compile("\\d+\\.[^.]+");
 	static public boolean quiet;
 
 	ArrayList<Image> images = new ArrayList();
@@ -67,6 +75,11 @@ public class TexturePacker {
 	int minWidth, minHeight;
 	int maxWidth, maxHeight;
 	final Settings settings;
+	/** Page images being encoded by {@link Settings#executor}. */
+	ArrayList<Future> pageWrites = new ArrayList();
+	HashSet<File> pageFiles = new HashSet();
+	/** The cache paths of the images written to the current page. */
+	ArrayList<String> pagePaths = new ArrayList();
 
 	/**
 	 * Used by squeeze method when ignoreBlankImages is false to add empty
@@ -89,9 +102,27 @@ public class TexturePacker {
 		File[] files = inputDir.listFiles(filter);
 		if (files == null)
 			return;
-		for (File file : files) {
+
+		// Reuse the unchanged pages previously packed with this filter.
+		HashSet<String> reusedPaths = new HashSet();
+		for (PackedPage page : settings.reusablePages) {
+			if (!page.key.equals(getPageKey()))
+				continue;
+			FileWriter writer = new FileWriter(packFile, true);
+			writer.append(settings.pageSections.get(page.name));
+			writer.close();
+			log("Reusing unchanged page: " + page.name);
+			reusedPaths.addAll(page.paths);
+			settings.packedPages.add(page);
+		}
+
+		ArrayList<Future<Image>> loaded = new ArrayList();
+		for (final File file : files) {
 			if (file.isDirectory())
 				continue;
+			final String path = getCachePath(settings, file);
+			if (reusedPaths.contains(path))
+				continue;
 			String imageName = file.getAbsolutePath().substring(
 					inputDir.getAbsolutePath().length())
 					+ "\n";
@@ -100,8 +131,21 @@ public class TexturePacker {
 			int dotIndex = imageName.lastIndexOf('.');
 			if (dotIndex != -1)
 				imageName = imageName.substring(0, dotIndex);
-			addImage(ImageIO.read(file), imageName);
+			if (settings.executor == null) {
+				addImage(prepareImage(ImageIO.read(file), imageName, path));
+				continue;
+			}
+			final String name = imageName;
+			loaded.add(settings.executor.submit(new Callable<Image>() {
+				public Image call() throws IOException {
+					return prepareImage(ImageIO.read(file), name, path);
+				}
+			}));
 		}
+		// Images are added in file order, so aliases are the same as when
+		// loading on one thread.
+		for (Future<Image> image : loaded)
+			addImage(get(image));
 
 		if (images.isEmpty())
 			return;
@@ -128,16 +172,34 @@ public class TexturePacker {
 	}
 
 	public void addImage(BufferedImage image, String name) {
+		addImage(prepareImage(image, name, null));
+	}
+
+	/**
+	 * Strips whitespace from the image and hashes it if aliases are enabled.
+	 * Can be called by multiple threads.
+	 * @param path The path of the image file in the incremental cache, or
+	 *           null.
+	 */
+	private Image prepareImage(BufferedImage image, String name, String path) {
 		Image squeezed = squeeze(image, name, false);
+		if (squeezed != null) {
+			squeezed.path = path;
+			if (settings.alias)
+				squeezed.hash = hash(squeezed);
+		}
+		return squeezed;
+	}
+
+	private void addImage(Image squeezed) {
 		if (squeezed != null) {
 			if (settings.alias) {
-				String crc = hash(squeezed);
-				Image existing = imageCrcs.get(crc);
+				Image existing = imageCrcs.get(squeezed.hash);
 				if (existing != null) {
 					existing.aliases.add(squeezed);
 					return;
 				}
-				imageCrcs.put(crc, squeezed);
+				imageCrcs.put(squeezed.hash, squeezed);
 			}
 			images.add(squeezed);
 		}
@@ -168,6 +230,10 @@ public class TexturePacker {
 			while (!images.isEmpty())
 				if (!writePage(prefix, outputDir))
 					break;
+			for (Future pageWrite : pageWrites)
+				get(pageWrite);
+			pageWrites.clear();
+			pageFiles.clear();
 			if (writer != null) {
 				log("Pixels eliminated: "
 						+ (1 - compressedSize / (float) uncompressedSize) * 100
@@ -186,100 +252,57 @@ public class TexturePacker {
 		int bestWidth = 99999, bestHeight = 99999;
 		int secondBestWidth = 99999, secondBestHeight = 99999;
 		int bestUsedPixels = 0;
-		int width = minWidth, height = minHeight;
-		int grownPixels = 0, grownPixels2 = 0;
-		int i = 0, ii = 0;
-		while (true) {
-			for (Comparator comparator : imageComparators) {
-				// Pack as many images as possible, sorting the images different
-				// ways.
-				Collections.sort(images, comparator);
-				int usedPixels = insert(null, new ArrayList(images), width,
-						height);
-				// Store the best pack, in case not all images fit on the max
-				// texture size.
-				if (usedPixels > bestUsedPixels) {
-					secondBestComparator = comparator;
-					secondBestWidth = width;
-					secondBestHeight = height;
-				}
-				// If all images fit and this sort is the best so far, take
-				// note.
-				if (usedPixels == -1) {
-					if (width * height < bestWidth * bestHeight) {
-						bestComparator = comparator;
-						bestWidth = width;
-						bestHeight = height;
-					}
-				}
+		int comparatorCount = imageComparators.size();
+		// With multiple threads, several sizes are tried at once. The results
+		// are used in order, so the outcome is the same as trying one at a
+		// time.
+		int sizeCount = settings.executor == null ? 1 : Math.max(1,
+				settings.threads / comparatorCount);
+		int[] widths = new int[sizeCount], heights = new int[sizeCount];
+		PageSizes sizes = new PageSizes();
+		outer: while (true) {
+			int count = 0;
+			while (true) {
+				widths[count] = sizes.width;
+				heights[count] = sizes.height;
+				count++;
+				if (count == sizeCount || sizes.isMax())
+					break;
+				sizes.next();
 			}
-			if (width == maxWidth && height == maxHeight)
-				break;
-			if (bestComparator != null)
-				break;
-			if (settings.pot) {
-				// 64,64 -> 128,64 -> 256,64 etc 64,128 -> 64,256 etc -> 128,128
-				// -> 256,128 etc.
-				if (i % 3 == 0) {
-					grownPixels += MathUtils.nextPowerOfTwo(width + 1) - width;
-					width = MathUtils.nextPowerOfTwo(width + 1);
-					if (width > maxWidth) {
-						i++;
-						width -= grownPixels;
-						grownPixels = 0;
-					}
-				} else if (i % 3 == 1) {
-					grownPixels += MathUtils.nextPowerOfTwo(height + 1)
-							- height;
-					height = MathUtils.nextPowerOfTwo(height + 1);
-					if (height > maxHeight) {
-						i++;
-						height -= grownPixels;
-						grownPixels = 0;
-					}
-				} else {
-					ii++;
-					if (ii % 2 == 1)
-						width = MathUtils.nextPowerOfTwo(width + 1);
-					else
-						height = MathUtils.nextPowerOfTwo(height + 1);
-					i++;
-				}
-			} else {
-				// 64-127,64 -> 64,64-127 -> 128-255,128 -> 128,128-255 etc.
-				int incr = 2;
-				if (i % 3 == 0) {
-					if (width + incr >= MathUtils.nextPowerOfTwo(width)) {
-						width -= grownPixels;
-						grownPixels = 0;
-						i++;
-					} else {
-						width += incr;
-						grownPixels += incr;
+			int[] results = tryInsert(widths, heights, count);
+			for (int s = 0; s < count; s++) {
+				int width = widths[s], height = heights[s];
+				for (int c = 0; c < comparatorCount; c++) {
+					// Pack as many images as possible, sorting the images
+					// different ways.
+					Comparator comparator = imageComparators.get(c);
+					int usedPixels = results[s * comparatorCount + c];
+					// Store the best pack, in case not all images fit on the
+					// max texture size.
+					if (usedPixels > bestUsedPixels) {
+						secondBestComparator = comparator;
+						secondBestWidth = width;
+						secondBestHeight = height;
 					}
-				} else if (i % 3 == 1) {
-					if (height + incr >= MathUtils.nextPowerOfTwo(height)) {
-						height -= grownPixels;
-						grownPixels = 0;
-						i++;
-					} else {
-						height += incr;
-						grownPixels += incr;
+					// If all images fit and this sort is the best so far, take
+					// note.
+					if (usedPixels == -1) {
+						if (width * height < bestWidth * bestHeight) {
+							bestComparator = comparator;
+							bestWidth = width;
+							bestHeight = height;
+						}
 					}
-				} else {
-					if (width == MathUtils.nextPowerOfTwo(width)
-							&& height == MathUtils.nextPowerOfTwo(height))
-						ii++;
-					if (ii % 2 == 1)
-						width += incr;
-					else
-						height += incr;
-					i++;
 				}
+				if (width == maxWidth && height == maxHeight)
+					break outer;
+				if (bestComparator != null)
+					break outer;
 			}
-			width = Math.min(maxWidth, width);
-			height = Math.min(maxHeight, height);
+			sizes.next();
 		}
+		int width, height;
 		if (bestComparator != null) {
 			Collections.sort(images, bestComparator);
 		} else {
@@ -329,7 +352,7 @@ public class TexturePacker {
 		int imageNumber = 1;
 		File outputFile = new File(outputDir, prefix + imageNumber + "."
 				+ getFileExtension(fileFormat));
-		while (outputFile.exists())
+		while (outputFile.exists() || pageFiles.contains(outputFile))
 			outputFile = new File(outputDir, prefix + ++imageNumber + "."
 					+ getFileExtension(fileFormat));
 
@@ -351,10 +374,36 @@ public class TexturePacker {
 		writer.write("repeat: " + filter.direction + "\n");
 
 		BufferedImage canvas = new BufferedImage(width, height, type);
+		pagePaths.clear();
 		insert(canvas, images, bestWidth, bestHeight);
+		if (settings.incremental)
+			settings.packedPages.add(new PackedPage(outputFile.getName(),
+					getPageKey(), new ArrayList(pagePaths)));
 		log("Writing " + canvas.getWidth() + "x" + canvas.getHeight() + ": "
 				+ outputFile);
 
+		if (settings.executor == null)
+			writeImage(canvas, outputFile, fileFormat, imageQuality);
+		else {
+			final BufferedImage image = canvas;
+			final File file = outputFile;
+			final FileFormat pageFormat = fileFormat;
+			final float quality = imageQuality;
+			pageFiles.add(outputFile);
+			pageWrites.add(settings.executor.submit(new Callable() {
+				public Object call() throws IOException {
+					writeImage(image, file, pageFormat, quality);
+					return null;
+				}
+			}));
+		}
+
+		compressedSize += canvas.getWidth() * canvas.getHeight();
+		return true;
+	}
+
+	private void writeImage(BufferedImage canvas, File outputFile,
+			FileFormat fileFormat, float imageQuality) throws IOException {
 		if (fileFormat == FileFormat.JPEG) {
 			Iterator<ImageWriter> writers = ImageIO
 					.getImageWritersByFormatName("jpg");
@@ -377,9 +426,92 @@ public class TexturePacker {
 				ImageIO.write(squeeze(ImageIO.read(outputFile), "", true),
 						getFileExtension(fileFormat), outputFile);
 		}
+	}
 
-		compressedSize += canvas.getWidth() * canvas.getHeight();
-		return true;
+	/**
+	 * Returns the number of pixels used when inserting the images sorted by
+	 * each comparator into each page size, or -1 if all the images fit. The
+	 * results are ordered by size, then comparator.
+	 */
+	private int[] tryInsert(int[] widths, int[] heights, int count)
+			throws IOException {
+		int comparatorCount = imageComparators.size();
+		int[] results = new int[count * comparatorCount];
+		if (settings.executor == null) {
+			for (int i = 0; i < results.length; i++)
+				results[i] = tryInsert(
+						imageComparators.get(i % comparatorCount),
+						widths[i / comparatorCount],
+						heights[i / comparatorCount]);
+			return results;
+		}
+		ArrayList<Future<Integer>> futures = new ArrayList(results.length);
+		for (int i = 0; i < results.length; i++) {
+			final Comparator comparator = imageComparators.get(i
+					% comparatorCount);
+			final int width = widths[i / comparatorCount];
+			final int height = heights[i / comparatorCount];
+			futures.add(settings.executor.submit(new Callable<Integer>() {
+				public Integer call() throws IOException {
+					return tryInsert(comparator, width, height);
+				}
+			}));
+		}
+		for (int i = 0; i < results.length; i++)
+			results[i] = get(futures.get(i));
+		return results;
+	}
+
+	/**
+	 * Inserts a sorted copy of the images without drawing them, so it can be
+	 * called by multiple threads.
+	 */
+	private int tryInsert(Comparator comparator, int width, int height)
+			throws IOException {
+		ArrayList<Image> sorted = new ArrayList(images);
+		Collections.sort(sorted, comparator);
+		return insert(null, sorted, width, height);
+	}
+
+	/**
+	 * Returns the result of a task, rethrowing the exception that caused it
+	 * to fail.
+	 */
+	static <T> T get(Future<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException ex) {
+			throw new GdxRuntimeException(ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new GdxRuntimeException(cause);
+		}
+	}
+
+	/**
+	 * Returns a string identifying the settings and filter that pages are
+	 * packed with, so pages are only reused when packing the same way.
+	 */
+	private String getPageKey() {
+		return settings.hash + "," + filter.direction + "," + filter.fileFormat
+				+ "," + filter.format + "," + filter.width + ","
+				+ filter.height + "," + filter.minFilter + ","
+				+ filter.magFilter;
+	}
+
+	/**
+	 * Returns true if the file name is that of a page written for the input
+	 * directory with the given name, which is the name followed by the page
+	 * number and the extension. A directory "a" does not own the pages of "ab".
+	 */
+	static boolean isPageName(String fileName, String prefix) {
+		return fileName.startsWith(prefix)
+				&& pageSuffixPattern.matcher(fileName.substring(prefix.length()))
+						.matches();
 	}
 
 	private static String getFileExtension(FileFormat fileFormat) {
@@ -437,6 +569,9 @@ public class TexturePacker {
 			usedPixels += image.getWidth() * image.getHeight();
 			images.remove(i);
 			if (canvas != null) {
+				// Trials for other sizes insert the same images concurrently,
+				// so the rotation is only stored on the image once it is drawn.
+				image.rotate = node.rotate;
 				node.writePackEntry();
 				Graphics2D g = (Graphics2D) canvas.getGraphics();
 				if (image.rotate) {
@@ -503,7 +638,7 @@ public class TexturePacker {
 			return null;
 		if (!filter.accept(source))
 			return null;
-		uncompressedSize += source.getWidth() * source.getHeight();
+		addUncompressedSize(source.getWidth() * source.getHeight());
 		WritableRaster alphaRaster = source.getAlphaRaster();
 		if (alphaRaster == null || !settings.stripWhitespace
 				|| name.contains("_ws"))
@@ -579,6 +714,10 @@ public class TexturePacker {
 		return new Image(name, source, left, top, newWidth, newHeight);
 	}
 
+	private synchronized void addUncompressedSize(int pixels) {
+		uncompressedSize += pixels;
+	}
+
 	static private String hash(BufferedImage image) {
 		try {
 			MessageDigest digest = MessageDigest.getInstance("SHA1");
@@ -596,10 +735,89 @@ public class TexturePacker {
 		}
 	}
 
+	/**
+	 * The page sizes tried when packing a page, growing from the minimum size
+	 * to the maximum size.
+	 */
+	private class PageSizes {
+		int width = minWidth, height = minHeight;
+		int grownPixels, i, ii;
+
+		boolean isMax() {
+			return width == maxWidth && height == maxHeight;
+		}
+
+		void next() {
+			if (settings.pot) {
+				// 64,64 -> 128,64 -> 256,64 etc 64,128 -> 64,256 etc -> 128,128
+				// -> 256,128 etc.
+				if (i % 3 == 0) {
+					grownPixels += MathUtils.nextPowerOfTwo(width + 1) - width;
+					width = MathUtils.nextPowerOfTwo(width + 1);
+					if (width > maxWidth) {
+						i++;
+						width -= grownPixels;
+						grownPixels = 0;
+					}
+				} else if (i % 3 == 1) {
+					grownPixels += MathUtils.nextPowerOfTwo(height + 1)
+							- height;
+					height = MathUtils.nextPowerOfTwo(height + 1);
+					if (height > maxHeight) {
+						i++;
+						height -= grownPixels;
+						grownPixels = 0;
+					}
+				} else {
+					ii++;
+					if (ii % 2 == 1)
+						width = MathUtils.nextPowerOfTwo(width + 1);
+					else
+						height = MathUtils.nextPowerOfTwo(height + 1);
+					i++;
+				}
+			} else {
+				// 64-127,64 -> 64,64-127 -> 128-255,128 -> 128,128-255 etc.
+				int incr = 2;
+				if (i % 3 == 0) {
+					if (width + incr >= MathUtils.nextPowerOfTwo(width)) {
+						width -= grownPixels;
+						grownPixels = 0;
+						i++;
+					} else {
+						width += incr;
+						grownPixels += incr;
+					}
+				} else if (i % 3 == 1) {
+					if (height + incr >= MathUtils.nextPowerOfTwo(height)) {
+						height -= grownPixels;
+						grownPixels = 0;
+						i++;
+					} else {
+						height += incr;
+						grownPixels += incr;
+					}
+				} else {
+					if (width == MathUtils.nextPowerOfTwo(width)
+							&& height == MathUtils.nextPowerOfTwo(height))
+						ii++;
+					if (ii % 2 == 1)
+						width += incr;
+					else
+						height += incr;
+					i++;
+				}
+			}
+			width = Math.min(maxWidth, width);
+			height = Math.min(maxHeight, height);
+		}
+	}
+
 	private class Node {
 		int left, top, width, height;
 		Node child1, child2;
 		Image image;
+		boolean rotate;
 
 		public Node(int left, int top, int width, int height) {
 			this.left = left;
@@ -634,7 +852,7 @@ public class TexturePacker {
 				return null;
 			if (neededWidth == width && neededHeight == height) {
 				this.image = image;
-				image.rotate = rotate;
+				this.rotate = rotate;
 				return this;
 			}
 			int dw = width - neededWidth;
@@ -663,6 +881,8 @@ public class TexturePacker {
 			imageName = imageName.replace("\\", "/");
 
 			log("Packing... " + imageName + (alias ? " (alias)" : ""));
+			if (image.path != null)
+				pagePaths.add(image.path);
 
 			Matcher matcher = indexPattern.matcher(imageName);
 			int index = -1;
@@ -674,7 +894,7 @@ public class TexturePacker {
 				imageName = imageName.substring(0, underscoreIndex);
 
 			writer.write(imageName + "\n");
-			writer.write("  rotate: " + image.rotate + "\n");
+			writer.write("  rotate: " + rotate + "\n");
 			writer.write("  xy: " + left + ", " + top + "\n");
 			writer.write("  size: " + image.getWidth() + ", "
 					+ image.getHeight() + "\n");
@@ -694,6 +914,7 @@ public class TexturePacker {
 		final int offsetX, offsetY;
 		final int originalWidth, originalHeight;
 		boolean rotate;
+		String hash, path;
 		ArrayList<Image> aliases = new ArrayList();
 
 		public Image(String name, BufferedImage src, int left, int top,
@@ -876,10 +1097,24 @@ public class TexturePacker {
 		public int maxWidth = 1024;
 		public int maxHeight = 1024;
 		public boolean stripWhitespace = false;
+		/**
+		 * If true, the checksums of the input images and the pages they were
+		 * packed on are stored. Directories without changes are skipped and
+		 * pages whose images are all unchanged are reused, so only the
+		 * changed images are packed again. Changing the settings packs
+		 * everything again.
+		 */
 		public boolean incremental;
 		public boolean alias = true;
 		public boolean edgePadding = true;
 
+		/**
+		 * The number of threads used by {@link TexturePacker#process} to read
+		 * and strip the input images, try page sizes and write the page
+		 * images. 1 does everything on the calling thread.
+		 */
+		public int threads = 1;
+
 		/**
 		 * True if blank images should be ignored when building the texture pack
 		 * or false if empty regions should be created for them.
@@ -895,6 +1130,30 @@ public class TexturePacker {
 
 		HashMap<String, Long> crcs = new HashMap();
 		HashMap<String, String> packSections = new HashMap();
+		ExecutorService executor;
+		File rootDir;
+		/** Identifies the settings that affect the packed pages. */
+		String hash;
+		/** The pack file text for each page, by page image name. */
+		HashMap<String, String> pageSections = new HashMap();
+		/** The pages written by the previous run, by page image name. */
+		HashMap<String, PackedPage> previousPages = new HashMap();
+		/** The pages of the current directory that can be reused. */
+		ArrayList<PackedPage> reusablePages = new ArrayList();
+		/** The pages written or reused by this run. */
+		ArrayList<PackedPage> packedPages = new ArrayList();
+	}
+
+	/** A page written by an incremental run and the images on it. */
+	static private class PackedPage {
+		final String name, key;
+		final ArrayList<String> paths;
+
+		PackedPage(String name, String key, ArrayList<String> paths) {
+			this.name = name;
+			this.key = key;
+			this.paths = paths;
+		}
 	}
 
 	static private void process(Settings settings, File rootDir, File inputDir,
@@ -911,41 +1170,24 @@ public class TexturePacker {
 			boolean noneHaveChanged = true;
 			int childCountNow = 0;
 
-			// added flag to generate the crc file using local paths in case the
-			// incrementalFilePath is
-			// specified.
-			boolean useAbsolutePaths = true;
-
-			if (settings.incrementalFilePath != null)
-				useAbsolutePaths = false;
-
+			HashSet<String> unchangedPaths = new HashSet();
 			for (File file : files) {
 				if (file.isDirectory())
 					continue;
-				String path = file.getAbsolutePath();
-
-				if (!useAbsolutePaths) {
-					String rootFolderAbsolutePath = rootDir.getAbsolutePath();
-					if (isSubPath(rootFolderAbsolutePath, path))
-						path = removeSubPath(rootFolderAbsolutePath, path);
-				}
+				String path = getCachePath(settings, file);
 
 				Long crcOld = settings.crcs.get(path);
 				long crcNow = crc(file);
 				if (crcOld == null || crcOld != crcNow)
 					noneHaveChanged = false;
+				else
+					unchangedPaths.add(path);
 
 				settings.crcs.put(path, crcNow);
 				childCountNow++;
 			}
 
-			String path = inputDir.getAbsolutePath();
-
-			if (!useAbsolutePaths) {
-				String rootFolderAbsolutePath = rootDir.getAbsolutePath();
-				if (isSubPath(rootFolderAbsolutePath, path))
-					path = removeSubPath(rootFolderAbsolutePath, path);
-			}
+			String path = getCachePath(settings, inputDir);
 
 			Long childCountOld = settings.crcs.get(path);
 			if (childCountOld == null || childCountNow != childCountOld)
@@ -956,7 +1198,7 @@ public class TexturePacker {
 				boolean foundPage = false;
 				String prefix = inputDir.getName();
 				for (File file : outputDir.listFiles()) {
-					if (file.getName().startsWith(prefix)) {
+					if (isPageName(file.getName(), prefix)) {
 						foundPage = true;
 						break;
 					}
@@ -965,11 +1207,26 @@ public class TexturePacker {
 					noneHaveChanged = false;
 			}
 
+			// Pages are reused when all of their images are unchanged.
+			settings.reusablePages.clear();
+			String prefix = inputDir.getName();
+			for (PackedPage page : settings.previousPages.values()) {
+				if (!isPageName(page.name, prefix)
+						|| !settings.pageSections.containsKey(page.name)
+						|| !new File(outputDir, page.name).exists()
+						|| !unchangedPaths.containsAll(page.paths))
+					continue;
+				settings.reusablePages.add(page);
+			}
+
 			String section = settings.packSections.get(inputDir.getName());
 			if (noneHaveChanged && section != null) {
 				FileWriter writer = new FileWriter(packFile, true);
 				writer.append(section);
 				writer.close();
+				for (PackedPage page : settings.previousPages.values())
+					if (isPageName(page.name, prefix))
+						settings.packedPages.add(page);
 
 				log(inputDir.toString());
 				log("Skipping unchanged directory.");
@@ -982,13 +1239,18 @@ public class TexturePacker {
 			// Clean existing page images.
 			if (outputDir.exists()) {
 				String prefix = inputDir.getName();
-				for (File file : outputDir.listFiles())
-					if (file.getName().startsWith(prefix)
+				outer: for (File file : outputDir.listFiles()) {
+					if (isPageName(file.getName(), prefix)
 							&& file.getName()
 									.endsWith(
 											"."
-													+ getFileExtension(settings.defaultFileFormat)))
+													+ getFileExtension(settings.defaultFileFormat))) {
+						for (PackedPage page : settings.reusablePages)
+							if (page.name.equals(file.getName()))
+								continue outer;
 						file.delete();
+					}
+				}
 			}
 
 			// Just check all combinations, because we are extremely lazy.
@@ -1044,6 +1306,8 @@ public class TexturePacker {
 			}
 		}
 
+		settings.reusablePages.clear();
+
 		// Process subdirectories.
 		File[] files = inputDir.listFiles();
 		if (files == null)
@@ -1072,8 +1336,13 @@ public class TexturePacker {
 
 			// Load incremental file.
 			File incrmentalFile = null;
+			settings.rootDir = inputDir;
+			settings.hash = hash(settings);
+			settings.crcs.clear();
+			settings.pageSections.clear();
+			settings.previousPages.clear();
+			settings.packedPages.clear();
 			if (settings.incremental && packFile.exists()) {
-				settings.crcs.clear();
 
 				// if localIncrementFile
 				String incrementalFilePath = settings.incrementalFilePath;
@@ -1100,6 +1369,37 @@ public class TexturePacker {
 					reader.close();
 				}
 
+				// Load the pages written by the previous run, each as its
+				// name, key and image paths.
+				File pagesFile = new File(incrementalFilePath + ".pages");
+				boolean sameSettings = false;
+				if (pagesFile.exists()) {
+					BufferedReader reader = new BufferedReader(new FileReader(
+							pagesFile));
+					if (settings.hash.equals(reader.readLine())) {
+						sameSettings = true;
+						while (true) {
+							String name = reader.readLine();
+							if (name == null)
+								break;
+							String key = reader.readLine();
+							ArrayList<String> paths = new ArrayList();
+							while (true) {
+								String path = reader.readLine();
+								if (path == null || path.length() == 0)
+									break;
+								paths.add(path);
+							}
+							settings.previousPages.put(name, new PackedPage(
+									name, key, paths));
+						}
+					}
+					reader.close();
+				}
+				// If the settings changed, everything is packed again.
+				if (!sameSettings)
+					settings.crcs.clear();
+
 				// Store the pack file text for each section.
 				BufferedReader reader = new BufferedReader(new FileReader(
 						packFile));
@@ -1119,6 +1419,7 @@ public class TexturePacker {
 						buffer.append(section);
 
 					// buffer.append("****start\n");
+					int pageStart = buffer.length();
 					buffer.append('\n');
 					buffer.append(imageName);
 					buffer.append('\n');
@@ -1130,6 +1431,8 @@ public class TexturePacker {
 						buffer.append('\n');
 					}
 					settings.packSections.put(pageName, buffer.toString());
+					settings.pageSections.put(imageName,
+							buffer.substring(pageStart));
 					buffer.setLength(0);
 				}
 				reader.close();
@@ -1138,6 +1441,9 @@ public class TexturePacker {
 			// Clean pack file.
 			packFile.delete();
 
+			if (settings.threads > 1)
+				settings.executor = Executors
+						.newFixedThreadPool(settings.threads);
 			process(settings, inputDir, inputDir, outputDir, packFile);
 
 			// Write incrmental file.
@@ -1149,10 +1455,69 @@ public class TexturePacker {
 					writer.write(entry.getValue() + "\n");
 				}
 				writer.close();
+
+				writer = new FileWriter(new File(incrmentalFile.getPath()
+						+ ".pages"));
+				writer.write(settings.hash + "\n");
+				for (PackedPage page : settings.packedPages) {
+					writer.write(page.name + "\n");
+					writer.write(page.key + "\n");
+					for (String path : page.paths)
+						writer.write(path + "\n");
+					writer.write("\n");
+				}
+				writer.close();
 			}
 		} catch (IOException ex) {
 			throw new GdxRuntimeException("Error packing images: " + input, ex);
+		} finally {
+			if (settings.executor != null) {
+				settings.executor.shutdown();
+				settings.executor = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the path of a file as stored in the incremental file. Paths are
+	 * local to the input directory if {@link Settings#incrementalFilePath} is
+	 * set, so the file can be shared.
+	 */
+	static String getCachePath(Settings settings, File file) {
+		String path = file.getAbsolutePath();
+		if (settings.incrementalFilePath != null && settings.rootDir != null) {
+			String rootFolderAbsolutePath = settings.rootDir.getAbsolutePath();
+			if (isSubPath(rootFolderAbsolutePath, path))
+				path = removeSubPath(rootFolderAbsolutePath, path);
+		}
+		return path;
+	}
+
+	/**
+	 * Hashes the public settings that affect how images are packed.
+	 */
+	static private String hash(Settings settings) {
+		Field[] fields = Settings.class.getFields();
+		Arrays.sort(fields, new Comparator<Field>() {
+			public int compare(Field field1, Field field2) {
+				return field1.getName().compareTo(field2.getName());
+			}
+		});
+		StringBuilder buffer = new StringBuilder(256);
+		try {
+			for (Field field : fields) {
+				String name = field.getName();
+				if (name.equals("incremental")
+						|| name.equals("incrementalFilePath")
+						|| name.equals("threads"))
+					continue;
+				buffer.append(name).append('=').append(field.get(settings))
+						.append('\n');
+			}
+		} catch (IllegalAccessException ex) {
+			throw new GdxRuntimeException(ex);
 		}
+		return hash(buffer.toString());
 	}
 
 	static private String hash(String value) {
@@ -23,15 +23,23 @@ public class AssetDescriptor<T> {
 	public final String fileName;
 	public final Class<T> type;
 	public final AssetLoaderParameters params;
+	/** assets with a higher priority are taken from the load queue first, assets with the same priority are loaded in the order
+	 * they were queued. **/
+	public final int priority;
 
 	public AssetDescriptor (String fileName, Class<T> assetType) {
 		this(fileName, assetType, null);
 	}
 
 	public AssetDescriptor (String fileName, Class<T> assetType, AssetLoaderParameters<T> params) {
+		this(fileName, assetType, params, 0);
+	}
+
+	public AssetDescriptor (String fileName, Class<T> assetType, AssetLoaderParameters<T> params, int priority) {
 		this.fileName = fileName.replaceAll("\\\\", "/");
 		this.type = assetType;
 		this.params = params;
+		this.priority = priority;
 	}
 
 	@Override
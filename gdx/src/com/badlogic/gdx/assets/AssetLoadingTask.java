@@ -30,7 +30,8 @@ import com.badlogic.gdx.utils.TimeUtils;
 
 /** Responsible for loading an asset through an {@link AssetLoader} based on an {@link AssetDescriptor}. Implements
  * {@link Callable} and is used with an {@link ExecutorService threadpool} to load parts of an asset asynchronously if the asset is
- * loaded with an {@link AsynchronousAssetLoader}.
+ * loaded with an {@link AsynchronousAssetLoader}. The worker thread never touches the {@link AssetManager}, it only publishes its
+ * results through volatile fields and the {@link Future}, dependencies are injected on the rendering thread.
  * 
  * @author mzechner */
 class AssetLoadingTask implements Callable<Void> {
@@ -38,11 +39,16 @@ class AssetLoadingTask implements Callable<Void> {
 	final AssetDescriptor assetDesc;
 	final AssetLoader loader;
 	final ExecutorService threadPool;
+	/** the lane whose stack holds the task, changed if the task is moved to another lane before it starts **/
+	int lane;
 	final long startTime;
 
 	volatile boolean asyncDone = false;
+	/** true once loadAsync returned, so the loader may hold state for the asset until loadSync **/
+	volatile boolean asyncLoaded = false;
+	boolean dropped = false;
 	boolean dependenciesLoaded = false;
-	Array<AssetDescriptor> dependencies;
+	volatile Array<AssetDescriptor> dependencies;
 	Future<Void> depsFuture = null;
 
 	Future<Void> loadFuture = null;
@@ -51,11 +57,13 @@ class AssetLoadingTask implements Callable<Void> {
 	int ticks = 0;
 	boolean cancel = false;
 
-	public AssetLoadingTask (AssetManager manager, AssetDescriptor assetDesc, AssetLoader loader, ExecutorService threadPool) {
+	public AssetLoadingTask (AssetManager manager, AssetDescriptor assetDesc, AssetLoader loader, ExecutorService threadPool,
+		int lane) {
 		this.manager = manager;
 		this.assetDesc = assetDesc;
 		this.loader = loader;
 		this.threadPool = threadPool;
+		this.lane = lane;
 		startTime = manager.log.getLevel() == Logger.DEBUG ? TimeUtils.nanoTime() : 0;
 	}
 
@@ -64,18 +72,17 @@ class AssetLoadingTask implements Callable<Void> {
 	public Void call () throws Exception {
 		AsynchronousAssetLoader asyncLoader = (AsynchronousAssetLoader)loader;
 		if (dependenciesLoaded == false) {
+			// the dependencies are injected by the rendering thread once this future is done
 			dependencies = asyncLoader.getDependencies(assetDesc.fileName, assetDesc.params);
-			if (dependencies != null) {
-				for (AssetDescriptor desc : dependencies) {
-					manager.injectDependency(assetDesc.fileName, desc);
-				}
-			} else {
+			if (dependencies == null) {
 				// if we have no dependencies, we load the async part of the task immediately.
 				asyncLoader.loadAsync(manager, assetDesc.fileName, assetDesc.params);
+				asyncLoaded = true;
 				asyncDone = true;
 			}
 		} else {
 			asyncLoader.loadAsync(manager, assetDesc.fileName, assetDesc.params);
+			asyncLoaded = true;
 		}
 		return null;
 	}
@@ -126,6 +133,11 @@ class AssetLoadingTask implements Callable<Void> {
 						throw new GdxRuntimeException("Couldn't load dependencies of asset '" + assetDesc.fileName + "'", e);
 					}
 					dependenciesLoaded = true;
+					if (dependencies != null) {
+						for (AssetDescriptor desc : dependencies) {
+							manager.injectDependency(assetDesc.fileName, desc);
+						}
+					}
 					if(asyncDone) {
 						asset = asyncLoader.loadSync(manager, assetDesc.fileName, assetDesc.params);
 					}
@@ -149,6 +161,32 @@ class AssetLoadingTask implements Callable<Void> {
 		}
 	}
 
+	/** @return whether the task waits for a loader thread, so updating it does nothing until the thread is done. */
+	boolean isWaiting () {
+		if (!dependenciesLoaded) return depsFuture != null && !depsFuture.isDone();
+		return !asyncDone && loadFuture != null && !loadFuture.isDone();
+	}
+
+	/** Called on the rendering thread when the task is removed before its asset was loaded. Doesn't wait for a running
+	 * {@link AsynchronousAssetLoader#loadAsync(AssetManager, String, AssetLoaderParameters)}, the loader is released by
+	 * {@link #release()} once it returned.
+	 * @return true if {@link #release()} has to be called, false if the loader holds nothing for the task. */
+	boolean drop () {
+		if (dropped || asset != null || !(loader instanceof AsynchronousAssetLoader)) return false;
+		dropped = true;
+		return loadFuture != null || depsFuture != null;
+	}
+
+	/** Lets the loader of a {@link #drop() dropped} task release what it kept for
+	 * {@link AsynchronousAssetLoader#loadSync(AssetManager, String, AssetLoaderParameters)}.
+	 * @return false if the worker thread is still running the task and release has to be called again later. */
+	boolean release () {
+		Future<Void> future = loadFuture != null ? loadFuture : depsFuture;
+		if (future != null && !future.isDone()) return false;
+		if (asyncLoaded) ((AsynchronousAssetLoader)loader).unloadAsync(manager, assetDesc.fileName, assetDesc.params);
+		return true;
+	}
+
 	public Object getAsset () {
 		return asset;
 	}
@@ -38,7 +38,9 @@ import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.tiled.TileAtlas;
@@ -47,13 +49,23 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
 import com.badlogic.gdx.utils.Logger;
 import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.TimeUtils;
 
 /**
- * Loads and stores assets like textures, bitmapfonts, tile maps, sounds, music and so on.
+ * Loads and stores assets like textures, bitmapfonts, tile maps, sounds, music and so on.</p>
+ * 
+ * Assets are taken from the load queue by {@link AssetDescriptor#priority} and loaded in lanes, one lane per loader thread. Each
+ * lane is a stack holding a queued asset and its not yet loaded dependencies. With more than one loader thread, independent
+ * assets and their dependency trees are decoded in parallel, while the OpenGL part of loading still happens one step per lane
+ * in {@link #update()} on the rendering thread. Since {@link AssetLoader} instances keep state between the asynchronous and
+ * synchronous part of loading, a loader is only ever used by a single lane at a time.</p>
+ * 
+ * The AssetManager must only be used from the rendering thread. The loader threads never call it, they hand their results over
+ * through the futures of the loading tasks, so its methods don't lock.
  * @author mzechner
  *
  */
@@ -66,10 +78,20 @@ public class AssetManager implements Disposable {
 	final Array<AssetDescriptor> loadQueue = new Array<AssetDescriptor>();
 	final ExecutorService threadPool;
 
-	Stack<AssetLoadingTask> tasks = new Stack<AssetLoadingTask>();
+	/** one task stack per loader thread **/
+	final Array<Stack<AssetLoadingTask>> lanes = new Array<Stack<AssetLoadingTask>>();
+	/** the task currently using a loader, see {@link #acquireLoader(AssetLoadingTask)} **/
+	final IdentityMap<AssetLoader, AssetLoadingTask> loaderOwners = new IdentityMap<AssetLoader, AssetLoadingTask>();
+	/** references taken on dependencies that were still being loaded by another lane when they were injected **/
+	final ObjectIntMap<String> pendingReferences = new ObjectIntMap<String>();
+	/** tasks removed while a loader thread may still run them, see {@link #releaseDroppedTasks()} **/
+	final Array<AssetLoadingTask> droppedTasks = new Array<AssetLoadingTask>();
+	/** whether the last pass over the lanes made progress, see {@link #updateLanes(int)} **/
+	boolean progressed;
 	AssetErrorListener listener = null;
 	int loaded = 0;
 	int toLoad = 0;
+	final UpdateStats stats = new UpdateStats();
 
 	Logger log = new Logger(AssetManager.class.getSimpleName(), Application.LOG_NONE);
 
@@ -80,6 +102,16 @@ public class AssetManager implements Disposable {
 
 	/** Creates a new AssetManager with all default loaders. */
 	public AssetManager (FileHandleResolver resolver) {
+		this(resolver, 1);
+	}
+
+	/** Creates a new AssetManager with all default loaders.
+	 * @param loaderThreads the number of threads used to load assets asynchronously, independent assets are loaded in parallel if
+	 *           this is greater than 1 */
+	public AssetManager (FileHandleResolver resolver, int loaderThreads) {
+		if (loaderThreads < 1) throw new IllegalArgumentException("loaderThreads must be >= 1: " + loaderThreads);
+		for (int i = 0; i < loaderThreads; i++)
+			lanes.add(new Stack<AssetLoadingTask>());
 		setLoader(BitmapFont.class, new BitmapFontLoader(resolver));
 		setLoader(Music.class, new MusicLoader(resolver));
 		setLoader(Pixmap.class, new PixmapLoader(resolver));
@@ -89,7 +121,7 @@ public class AssetManager implements Disposable {
 		setLoader(Skin.class, new SkinLoader(resolver));
 		setLoader(TileAtlas.class, new TileAtlasLoader(resolver));
 		setLoader(TileMapRenderer.class, new TileMapRendererLoader(resolver));
-		threadPool = Executors.newFixedThreadPool(1, new ThreadFactory() {
+		threadPool = Executors.newFixedThreadPool(loaderThreads, new ThreadFactory() {
 			@Override
 			public Thread newThread (Runnable r) {
 				Thread thread = new Thread(r, "AssetManager-Loader-Thread");
@@ -102,7 +134,7 @@ public class AssetManager implements Disposable {
 	/** @param fileName the asset file name
 	 * @param type the asset type
 	 * @return the asset */
-	public synchronized <T> T get (String fileName, Class<T> type) {
+	public <T> T get (String fileName, Class<T> type) {
 		ObjectMap<String, RefCountedContainer> assetsByType = assets.get(type);
 		if (assetsByType == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
 		RefCountedContainer assetContainer = assetsByType.get(fileName);
@@ -114,7 +146,7 @@ public class AssetManager implements Disposable {
 
 	/** Removes the asset and all its dependencies if they are not used by other assets.
 	 * @param fileName the file name */
-	public synchronized void unload (String fileName) {
+	public void unload (String fileName) {
 		// check if it's in the queue
 		int foundIndex = -1;
 		for (int i = 0; i < loadQueue.size; i++) {
@@ -129,9 +161,11 @@ public class AssetManager implements Disposable {
 			return;
 		}
 
-		// check if it's currently processed (and the first element in the stack, thus not a dependency)
+		// check if it's currently processed (and the first element in a stack, thus not a dependency)
 		// and cancel if necessary
-		if (tasks.size() > 0) {
+		for (int i = 0; i < lanes.size; i++) {
+			Stack<AssetLoadingTask> tasks = lanes.get(i);
+			if (tasks.size() == 0) continue;
 			AssetLoadingTask currAsset = tasks.firstElement();
 			if (currAsset.assetDesc.fileName.equals(fileName)) {
 				currAsset.cancel = true;
@@ -176,7 +210,7 @@ public class AssetManager implements Disposable {
 
 	/** @param asset the asset
 	 * @return whether the asset is contained in this manager */
-	public synchronized <T> boolean containsAsset (T asset) {
+	public <T> boolean containsAsset (T asset) {
 		ObjectMap<String, RefCountedContainer> typedAssets = assets.get(asset.getClass());
 		if(typedAssets == null) return false;
 		for (String fileName : typedAssets.keys()) {
@@ -188,7 +222,7 @@ public class AssetManager implements Disposable {
 
 	/** @param asset the asset
 	 * @return the filename of the asset or null */
-	public synchronized <T> String getAssetFileName (T asset) {
+	public <T> String getAssetFileName (T asset) {
 		for (Class assetType : assets.keys()) {
 			ObjectMap<String, RefCountedContainer> typedAssets = assets.get(assetType);
 			for (String fileName : typedAssets.keys()) {
@@ -201,14 +235,14 @@ public class AssetManager implements Disposable {
 
 	/** @param fileName the file name of the asset
 	 * @return whether the asset is loaded */
-	public synchronized boolean isLoaded (String fileName) {
+	public boolean isLoaded (String fileName) {
 		if (fileName == null) return false;
 		return assetTypes.containsKey(fileName);
 	}
 
 	/** @param fileName the file name of the asset
 	 * @return whether the asset is loaded */
-	public synchronized boolean isLoaded (String fileName, Class type) {
+	public boolean isLoaded (String fileName, Class type) {
 		ObjectMap<String, RefCountedContainer> assetsByType = assets.get(type);
 		if (assetsByType == null) return false;
 		RefCountedContainer assetContainer = assetsByType.get(fileName);
@@ -219,7 +253,7 @@ public class AssetManager implements Disposable {
 	/** Adds the given asset to the loading queue of the AssetManager.
 	 * @param fileName the file name (interpretation depends on {@link AssetLoader})
 	 * @param type the type of the asset. */
-	public synchronized <T> void load (String fileName, Class<T> type) {
+	public <T> void load (String fileName, Class<T> type) {
 		load(fileName, type, null);
 	}
 
@@ -227,7 +261,16 @@ public class AssetManager implements Disposable {
 	 * @param fileName the file name (interpretation depends on {@link AssetLoader})
 	 * @param type the type of the asset.
 	 * @param parameter parameters for the AssetLoader. */
-	public synchronized <T> void load (String fileName, Class<T> type, AssetLoaderParameters<T> parameter) {
+	public <T> void load (String fileName, Class<T> type, AssetLoaderParameters<T> parameter) {
+		load(fileName, type, parameter, 0);
+	}
+
+	/** Adds the given asset to the loading queue of the AssetManager.
+	 * @param fileName the file name (interpretation depends on {@link AssetLoader})
+	 * @param type the type of the asset.
+	 * @param parameter parameters for the AssetLoader.
+	 * @param priority assets with a higher priority are loaded first. */
+	public <T> void load (String fileName, Class<T> type, AssetLoaderParameters<T> parameter, int priority) {
 		AssetLoader loader = loaders.get(type);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + type.getSimpleName());
 
@@ -248,13 +291,10 @@ public class AssetManager implements Disposable {
 		}
 
 		// check task list
-		for (int i = 0; i < tasks.size(); i++) {
-			AssetDescriptor desc = tasks.get(i).assetDesc;
-			if (desc.fileName.equals(fileName) && !desc.type.equals(type))
-				throw new GdxRuntimeException("Asset with name '" + fileName
-					+ "' already in task list, but has different type (expected: " + type.getSimpleName() + ", found: "
-					+ desc.type.getSimpleName() + ")");
-		}
+		AssetLoadingTask task = findTask(fileName);
+		if (task != null && !task.assetDesc.type.equals(type))
+			throw new GdxRuntimeException("Asset with name '" + fileName + "' already in task list, but has different type (expected: "
+				+ type.getSimpleName() + ", found: " + task.assetDesc.type.getSimpleName() + ")");
 
 		// check loaded assets
 		Class otherType = assetTypes.get(fileName);
@@ -263,15 +303,18 @@ public class AssetManager implements Disposable {
 				+ type.getSimpleName() + ", found: " + otherType.getSimpleName() + ")");
 
 		toLoad++;
-		AssetDescriptor assetDesc = new AssetDescriptor(fileName, type, parameter);
-		loadQueue.add(assetDesc);
+		AssetDescriptor assetDesc = new AssetDescriptor(fileName, type, parameter, priority);
+		int index = loadQueue.size;
+		while (index > 0 && loadQueue.get(index - 1).priority < priority)
+			index--;
+		loadQueue.insert(index, assetDesc);
 		log.debug("Queued: " + assetDesc);
 	}
 
 	/** Adds the given asset to the loading queue of the AssetManager.
 	 * @param desc the {@link AssetDescriptor} */
-	public synchronized void load (AssetDescriptor desc) {
-		load(desc.fileName, desc.type, desc.params);
+	public void load (AssetDescriptor desc) {
+		load(desc.fileName, desc.type, desc.params, desc.priority);
 	}
 
 	/** Disposes the given asset and all its dependencies recursively, depth first.
@@ -291,21 +334,88 @@ public class AssetManager implements Disposable {
 
 	/** Updates the AssetManager, keeping it loading any assets in the preload queue.
 	 * @return true if all loading is finished. */
-	public synchronized boolean update () {
-		try {
-			if (tasks.size() == 0) {
+	public boolean update () {
+		stats.reset();
+		long startTime = TimeUtils.nanoTime();
+		releaseDroppedTasks();
+		boolean done = updateLanes(0);
+		stats.nanoTime = TimeUtils.nanoTime() - startTime;
+		return done;
+	}
+
+	/** Updates the AssetManager for at most the given number of milliseconds, keeping it loading any assets in the preload queue.
+	 * A single step of loading an asset is never interrupted, so a large upload can exceed the budget.
+	 * @param millis the time budget, the update returns earlier if all loading is finished or all loading assets wait for the
+	 *           loader threads
+	 * @return true if all loading is finished. */
+	public boolean update (int millis) {
+		return update(millis, 0);
+	}
+
+	/** Updates the AssetManager until the time budget or the upload quota is used up, keeping it loading any assets in the preload
+	 * queue. A single texture upload is never split, the quota only stops further uploads once it is exceeded. At least one step
+	 * of each loading asset is always performed. {@link #getUpdateStats()} reports what was done.</p>
+	 * 
+	 * Only the uploads of {@link Texture} assets are counted. The built-in loaders of texture atlases, bitmap fonts and skins
+	 * load their textures as Texture dependencies, so these are included, and a {@link Pixmap} isn't uploaded at all. Textures a
+	 * custom loader creates itself are not counted.
+	 * @param millis the time budget, the update returns earlier if all loading is finished or all loading assets wait for the
+	 *           loader threads
+	 * @param uploadBytes the estimated number of texture bytes that may be uploaded to OpenGL, 0 for no limit
+	 * @return true if all loading is finished. */
+	public boolean update (int millis, int uploadBytes) {
+		stats.reset();
+		long startTime = TimeUtils.nanoTime();
+		long endTime = startTime + millis * 1000000l;
+		releaseDroppedTasks();
+		// the first pass ignores the quota, so every lane performs a step
+		boolean done = updateLanes(0);
+		// stop once a pass made no progress, rather than spinning until the loader threads are done
+		while (!done && progressed && TimeUtils.nanoTime() < endTime && (uploadBytes <= 0 || stats.uploadedBytes < uploadBytes))
+			done = updateLanes(uploadBytes);
+		stats.nanoTime = TimeUtils.nanoTime() - startTime;
+		return done;
+	}
+
+	/** Performs one step of the task on top of each lane, stopping early once the upload quota is exceeded. Sets
+	 * {@link #progressed} if a task was started or a step did something other than wait for a loader thread.
+	 * @param uploadBytes the quota for {@link UpdateStats#uploadedBytes} or 0 for no limit
+	 * @return true if all loading is finished. */
+	private boolean updateLanes (int uploadBytes) {
+		int busyLanes = 0, blockedLanes = 0;
+		progressed = false;
+		for (int i = 0; i < lanes.size; i++) {
+			if (uploadBytes > 0 && stats.uploadedBytes >= uploadBytes) return false;
+			Stack<AssetLoadingTask> tasks = lanes.get(i);
+			try {
 				// loop until we have a new task ready to be processed
 				while (loadQueue.size != 0 && tasks.size() == 0) {
-					nextTask();
+					if (!nextTask(i)) break;
+					progressed = true;
 				}
-				// have we not found a task? We are done!
-				if (tasks.size() == 0) return true;
+				// have we not found a task? This lane is idle.
+				if (tasks.size() == 0) continue;
+				busyLanes++;
+				if (isBlocked(tasks.peek())) {
+					blockedLanes++;
+					continue;
+				}
+				if (!tasks.peek().isWaiting()) progressed = true;
+				stats.steps++;
+				updateTask(i);
+			} catch (Throwable t) {
+				progressed = true;
+				handleTaskError(i, t);
 			}
-			return updateTask() && loadQueue.size == 0 && tasks.size() == 0;
-		} catch (Throwable t) {
-			handleTaskError(t);
-			return loadQueue.size == 0;
 		}
+		// lanes only wait on each other, if all of them are waiting a task is moved so one of them can continue
+		if (busyLanes > 0 && blockedLanes == busyLanes) {
+			if (!unblockLanes())
+				throw new GdxRuntimeException("Couldn't load assets, all loader threads are waiting on each other: "
+					+ getQueuedAssets() + " assets queued");
+			progressed = true;
+		}
+		return loadQueue.size == 0 && getActiveTasks() == 0;
 	}
 
 	/**
@@ -318,7 +428,7 @@ public class AssetManager implements Disposable {
 		log.debug("Loading complete.");
 	}
 
-	synchronized void injectDependency (String parentAssetFilename, AssetDescriptor dependendAssetDesc) {
+	void injectDependency (String parentAssetFilename, AssetDescriptor dependendAssetDesc) {
 		// add the asset as a dependency of the parent asset
 		Array<String> dependencies = assetDependencies.get(parentAssetFilename);
 		if (dependencies == null) {
@@ -335,17 +445,128 @@ public class AssetManager implements Disposable {
 			assetRef.incRefCount();
 			incrementRefCountedDependencies(dependendAssetDesc.fileName);
 		}
-		// else add a new task for the asset.
+		// if the asset is currently loading, take the reference once it is done.
+		else if (findTask(dependendAssetDesc.fileName) != null) {
+			log.debug("Dependency already loading: " + dependendAssetDesc);
+			pendingReferences.getAndIncrement(dependendAssetDesc.fileName, 0, 1);
+		}
+		// else add a new task for the asset in the lane of the parent.
 		else {
 			log.info("Loading dependency: " + dependendAssetDesc);
-			addTask(dependendAssetDesc);
+			AssetLoadingTask parent = findTask(parentAssetFilename);
+			addTask(dependendAssetDesc, parent != null ? parent.lane : 0);
+		}
+	}
+
+	/** @return the task loading the given asset in any lane or null */
+	private AssetLoadingTask findTask (String fileName) {
+		for (int i = 0; i < lanes.size; i++) {
+			Stack<AssetLoadingTask> tasks = lanes.get(i);
+			for (int j = tasks.size() - 1; j >= 0; j--) {
+				AssetLoadingTask task = tasks.get(j);
+				if (task.assetDesc.fileName.equals(fileName)) return task;
+			}
+		}
+		return null;
+	}
+
+	/** @return the number of tasks in all lanes */
+	private int getActiveTasks () {
+		int count = 0;
+		for (int i = 0; i < lanes.size; i++)
+			count += lanes.get(i).size();
+		return count;
+	}
+
+	/** @return whether the given loader can be used by a task in the given lane */
+	private boolean isLoaderAvailable (AssetLoader loader, int lane) {
+		if (loader == null || loader.canLoadConcurrently()) return true;
+		AssetLoadingTask owner = loaderOwners.get(loader);
+		// a dropped owner may still be running on a loader thread
+		return owner == null || (owner.lane == lane && !owner.dropped);
+	}
+
+	/** Marks the loader of the task as used until the task is done, unless it {@link AssetLoader#canLoadConcurrently() can load
+	 * concurrently}. Tasks in the same lane share the loader, as they did before loading was split into lanes.
+	 * @return false if the loader is in use by another lane */
+	private boolean acquireLoader (AssetLoadingTask task) {
+		if (!isLoaderAvailable(task.loader, task.lane)) return false;
+		if (!task.loader.canLoadConcurrently() && loaderOwners.get(task.loader) == null) loaderOwners.put(task.loader, task);
+		return true;
+	}
+
+	private void releaseLoader (AssetLoadingTask task) {
+		if (loaderOwners.get(task.loader) == task) loaderOwners.remove(task.loader);
+	}
+
+	/** @return whether the task has to wait for another lane, either because its loader is in use or because one of its
+	 *         dependencies is still loading there.
+	 * @throws GdxRuntimeException if a dependency the task waits for failed to load */
+	private boolean isBlocked (AssetLoadingTask task) {
+		if (task.dependenciesLoaded && task.dependencies != null) {
+			for (AssetDescriptor desc : task.dependencies) {
+				if (isLoaded(desc.fileName)) continue;
+				if (findTask(desc.fileName) == null)
+					throw new GdxRuntimeException("Couldn't load dependency '" + desc.fileName + "' of asset '"
+						+ task.assetDesc.fileName + "'");
+				return true;
+			}
 		}
+		return !acquireLoader(task);
 	}
 
-	/** Removes a task from the loadQueue and adds it to the task stack. If the asset is already loaded (which can happen if it was
-	 * a dependency of a previously loaded asset) its reference count will be increased. */
-	private void nextTask () {
-		AssetDescriptor assetDesc = loadQueue.removeIndex(0);
+	/** Called when all busy lanes are blocked. Moves a task that hasn't started yet, so the lanes no longer wait on each other:
+	 * a task waiting for a loader is moved to the lane using the loader, which shares it like a single lane always did, and a
+	 * dependency waited for is moved to the lane of the task waiting for it. The task at the bottom of a lane is never moved, as
+	 * it is the queued asset the lane counts as loaded.
+	 * @return false if no task could be moved, so the assets depend on each other. */
+	private boolean unblockLanes () {
+		for (int i = 0; i < lanes.size; i++) {
+			Stack<AssetLoadingTask> tasks = lanes.get(i);
+			if (tasks.size() == 0) continue;
+			AssetLoadingTask task = tasks.peek();
+			if (task.dependenciesLoaded && task.dependencies != null) {
+				for (AssetDescriptor desc : task.dependencies) {
+					if (isLoaded(desc.fileName)) continue;
+					AssetLoadingTask dependency = findTask(desc.fileName);
+					if (dependency.ticks == 0 && lanes.get(dependency.lane).indexOf(dependency) > 0) {
+						moveTask(dependency, i);
+						return true;
+					}
+				}
+				continue;
+			}
+			AssetLoadingTask owner = loaderOwners.get(task.loader);
+			if (owner != null && owner.lane != i && !owner.dropped && task.ticks == 0 && tasks.size() > 1) {
+				moveTask(task, owner.lane);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void moveTask (AssetLoadingTask task, int lane) {
+		log.debug("Moved to lane " + lane + ": " + task.assetDesc);
+		lanes.get(task.lane).remove(task);
+		task.lane = lane;
+		lanes.get(lane).push(task);
+	}
+
+	/** Removes a task from the loadQueue and adds it to the task stack of the lane. If the asset is already loaded (which can happen
+	 * if it was a dependency of a previously loaded asset) its reference count will be increased. Assets that are loading in another
+	 * lane or need a loader another lane is using are skipped.
+	 * @return false if no task could be taken from the loadQueue */
+	private boolean nextTask (int lane) {
+		int index = -1;
+		for (int i = 0; i < loadQueue.size; i++) {
+			AssetDescriptor desc = loadQueue.get(i);
+			if (isLoaded(desc.fileName) || (findTask(desc.fileName) == null && isLoaderAvailable(loaders.get(desc.type), lane))) {
+				index = i;
+				break;
+			}
+		}
+		if (index == -1) return false;
+		AssetDescriptor assetDesc = loadQueue.removeIndex(index);
 
 		// if the asset not meant to be reloaded and is already loaded, increase its reference count
 		if (isLoaded(assetDesc.fileName)) {
@@ -358,21 +579,23 @@ public class AssetManager implements Disposable {
 		} else {
 			// else add a new task for the asset.
 			log.info("Loading: " + assetDesc);
-			addTask(assetDesc);
+			addTask(assetDesc, lane);
 		}
+		return true;
 	}
 
-	/** Adds a {@link AssetLoadingTask} to the task stack for the given asset.
+	/** Adds a {@link AssetLoadingTask} to the task stack of the lane for the given asset.
 	 * @param assetDesc */
-	private void addTask (AssetDescriptor assetDesc) {
+	private void addTask (AssetDescriptor assetDesc, int lane) {
 		AssetLoader loader = loaders.get(assetDesc.type);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + assetDesc.type.getSimpleName());
-		tasks.push(new AssetLoadingTask(this, assetDesc, loader, threadPool));
+		lanes.get(lane).push(new AssetLoadingTask(this, assetDesc, loader, threadPool, lane));
 	}
 
-	/** Updates the current task on the top of the task stack.
+	/** Updates the current task on the top of the task stack of the lane.
 	 * @return true if the asset is loaded. */
-	private boolean updateTask () {
+	private boolean updateTask (int lane) {
+		Stack<AssetLoadingTask> tasks = lanes.get(lane);
 		AssetLoadingTask task = tasks.peek();
 		// if the task has finished loading
 		if (task.update()) {
@@ -390,6 +613,20 @@ public class AssetManager implements Disposable {
 			// increase the number of loaded assets and pop the task from the stack
 			if (tasks.size() == 1) loaded++;
 			tasks.pop();
+			releaseLoader(task);
+
+			stats.loadedAssets++;
+			if (task.getAsset() instanceof Texture) {
+				stats.uploads++;
+				stats.uploadedBytes += getUploadSize(((Texture)task.getAsset()).getTextureData());
+			}
+
+			// hand out the references other lanes took while the asset was loading
+			int references = pendingReferences.remove(task.assetDesc.fileName, 0);
+			for (int i = 0; i < references; i++) {
+				typeToAssets.get(task.assetDesc.fileName).incRefCount();
+				incrementRefCountedDependencies(task.assetDesc.fileName);
+			}
 
 			// remove the asset if it was canceled.
 			if (task.cancel) {
@@ -410,6 +647,30 @@ public class AssetManager implements Disposable {
 		}
 	}
 
+	/** @return the estimated number of bytes uploaded to OpenGL for the texture data, including mipmaps */
+	static long getUploadSize (TextureData data) {
+		long bytes = (long)data.getWidth() * data.getHeight() * getBytesPerPixel(data.getFormat());
+		if (data.useMipMaps()) bytes += bytes / 3;
+		return bytes;
+	}
+
+	static int getBytesPerPixel (Format format) {
+		if (format == null) return 4;
+		switch (format) {
+		case Alpha:
+		case Intensity:
+			return 1;
+		case LuminanceAlpha:
+		case RGB565:
+		case RGBA4444:
+			return 2;
+		case RGB888:
+			return 3;
+		default:
+			return 4;
+		}
+	}
+
 	private void incrementRefCountedDependencies (String parent) {
 		Array<String> dependencies = assetDependencies.get(parent);
 		if (dependencies == null) return;
@@ -424,13 +685,15 @@ public class AssetManager implements Disposable {
 
 	/** Handles a runtime/loading error in {@link #update()} by optionally invoking the {@link AssetErrorListener}.
 	 * @param t */
-	private void handleTaskError (Throwable t) {
+	private void handleTaskError (int lane, Throwable t) {
 		log.error("Error loading asset.", t);
 
+		Stack<AssetLoadingTask> tasks = lanes.get(lane);
 		if (tasks.isEmpty()) throw new GdxRuntimeException(t);
 
 		// pop the faulty task from the stack
 		AssetLoadingTask task = tasks.pop();
+		dropTask(task);
 		AssetDescriptor assetDesc = task.assetDesc;
 
 		// remove all dependencies
@@ -441,6 +704,11 @@ public class AssetManager implements Disposable {
 		}
 
 		// clear the rest of the stack
+		for (int i = 0; i < tasks.size(); i++) {
+			dropTask(tasks.get(i));
+			pendingReferences.remove(tasks.get(i).assetDesc.fileName, 0);
+		}
+		pendingReferences.remove(assetDesc.fileName, 0);
 		tasks.clear();
 
 		// inform the listener that something bad happened
@@ -451,10 +719,30 @@ public class AssetManager implements Disposable {
 		}
 	}
 
+	/** Removes a task that didn't load its asset. Its loader stays in use until {@link #releaseDroppedTasks()} found that no loader
+	 * thread runs the task anymore. */
+	private void dropTask (AssetLoadingTask task) {
+		if (task.drop())
+			droppedTasks.add(task);
+		else
+			releaseLoader(task);
+	}
+
+	/** Lets the loaders of dropped tasks release their state once the loader threads are done with the tasks, without waiting for
+	 * them. */
+	private void releaseDroppedTasks () {
+		for (int i = droppedTasks.size - 1; i >= 0; i--) {
+			AssetLoadingTask task = droppedTasks.get(i);
+			if (!task.release()) continue;
+			releaseLoader(task);
+			droppedTasks.removeIndex(i);
+		}
+	}
+
 	/** Sets a new {@link AssetLoader} for the given type.
 	 * @param type the type of the asset
 	 * @param loader the loader */
-	public synchronized <T, P extends AssetLoaderParameters<T>> void setLoader (Class<T> type, AssetLoader<T, P> loader) {
+	public <T, P extends AssetLoaderParameters<T>> void setLoader (Class<T> type, AssetLoader<T, P> loader) {
 		if (type == null) throw new IllegalArgumentException("type cannot be null.");
 		if (loader == null) throw new IllegalArgumentException("loader cannot be null.");
 		log.debug("Loader set: " + type.getSimpleName() + " -> " + loader.getClass().getSimpleName());
@@ -462,29 +750,34 @@ public class AssetManager implements Disposable {
 	}
 
 	/** @return the number of loaded assets */
-	public synchronized int getLoadedAssets () {
+	public int getLoadedAssets () {
 		return assetTypes.size;
 	}
 
 	/** @return the number of currently queued assets */
-	public synchronized int getQueuedAssets () {
-		return loadQueue.size + (tasks.size());
+	public int getQueuedAssets () {
+		return loadQueue.size + getActiveTasks();
 	}
 
 	/** @return the progress in percent of completion. */
-	public synchronized float getProgress () {
+	public float getProgress () {
 		if (toLoad == 0) return 1;
 		return Math.min(1, loaded / (float)toLoad);
 	}
 
+	/** @return the statistics of the last call to {@link #update()} or {@link #update(int, int)}. The instance is reused. */
+	public UpdateStats getUpdateStats () {
+		return stats;
+	}
+
 	/** Sets an {@link AssetErrorListener} to be invoked in case loading an asset failed.
 	 * @param listener the listener or null */
-	public synchronized void setErrorListener (AssetErrorListener listener) {
+	public void setErrorListener (AssetErrorListener listener) {
 		this.listener = listener;
 	}
 
 	/** Disposes all assets in the manager and stops all asynchronous loading. */
-	public synchronized void dispose () {
+	public void dispose () {
 		log.debug("Disposing.");
 		clear();
 		threadPool.shutdown();
@@ -493,10 +786,11 @@ public class AssetManager implements Disposable {
 		} catch (InterruptedException e) {
 			new GdxRuntimeException("Couldn't shutdown loading thread");
 		}
+		releaseDroppedTasks();
 	}
 
 	/** Clears and disposes all assets and the preloading queue. */
-	public synchronized void clear () {
+	public void clear () {
 		loadQueue.clear();
 		while (!update())
 			;
@@ -534,7 +828,13 @@ public class AssetManager implements Disposable {
 		this.loaded = 0;
 		this.toLoad = 0;
 		this.loadQueue.clear();
-		this.tasks.clear();
+		for (int i = 0; i < lanes.size; i++) {
+			Stack<AssetLoadingTask> tasks = lanes.get(i);
+			for (int ii = 0; ii < tasks.size(); ii++)
+				dropTask(tasks.get(ii));
+			tasks.clear();
+		}
+		this.pendingReferences.clear();
 	}
 
 	/** @return the {@link Logger} used by the {@link AssetManager} */
@@ -544,7 +844,7 @@ public class AssetManager implements Disposable {
 
 	/** Returns the reference count of an asset.
 	 * @param fileName */
-	public synchronized int getReferenceCount (String fileName) {
+	public int getReferenceCount (String fileName) {
 		Class type = assetTypes.get(fileName);
 		if (type == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
 		return assets.get(type).get(fileName).getRefCount();
@@ -552,14 +852,14 @@ public class AssetManager implements Disposable {
 
 	/** Sets the reference count of an asset.
 	 * @param fileName */
-	public synchronized void setReferenceCount (String fileName, int refCount) {
+	public void setReferenceCount (String fileName, int refCount) {
 		Class type = assetTypes.get(fileName);
 		if (type == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
 		assets.get(type).get(fileName).setRefCount(refCount);
 	}
 
 	/** @return a string containg ref count and dependency information for all assets. */
-	public synchronized String getDiagnostics () {
+	public String getDiagnostics () {
 		StringBuffer buffer = new StringBuffer();
 		for (String fileName : assetTypes.keys()) {
 			buffer.append(fileName);
@@ -586,4 +886,26 @@ public class AssetManager implements Disposable {
 		}
 		return buffer.toString();
 	}
+
+	/** What a single call to {@link AssetManager#update()} or {@link AssetManager#update(int, int)} did. */
+	static public class UpdateStats {
+		/** the number of steps performed on loading assets **/
+		public int steps;
+		/** the number of assets that finished loading, including dependencies **/
+		public int loadedAssets;
+		/** the number of textures uploaded to OpenGL **/
+		public int uploads;
+		/** the estimated number of bytes uploaded to OpenGL **/
+		public long uploadedBytes;
+		/** the time spent in the update in nanoseconds **/
+		public long nanoTime;
+
+		void reset () {
+			steps = 0;
+			loadedAssets = 0;
+			uploads = 0;
+			uploadedBytes = 0;
+			nanoTime = 0;
+		}
+	}
 }
@@ -55,4 +55,13 @@ public abstract class AssetLoader<T, P extends AssetLoaderParameters<T>> {
 	 * @return other assets that the asset depends on and need to be loaded first or null if there are no dependencies.
 	 */
 	public abstract Array<AssetDescriptor> getDependencies (String fileName, P parameter);
+
+	/**
+	 * @return whether the loader keeps its per asset state keyed by file name, so the {@link AssetManager} may use it to load
+	 * several assets at once on different loader threads. Loaders that store state in plain fields between loading steps must
+	 * return false.
+	 */
+	public boolean canLoadConcurrently () {
+		return false;
+	}
 }
@@ -52,4 +52,16 @@ public abstract class AsynchronousAssetLoader<T, P extends AssetLoaderParameters
 	 * @return
 	 */
 	public abstract T loadSync (AssetManager manager, String fileName, P parameter);
+
+	/**
+	 * Called instead of {@link #loadSync(AssetManager, String, AssetLoaderParameters)} when loading the asset was stopped after
+	 * {@link #loadAsync(AssetManager, String, AssetLoaderParameters)} returned, e.g. because of an error in the task stack or
+	 * because the AssetManager was cleared. Loaders that keep state between the two calls release it here. The default
+	 * implementation does nothing.
+	 * @param manager
+	 * @param fileName the name of the asset that is not loaded
+	 * @param parameter the parameters that were used for loading the asset
+	 */
+	public void unloadAsync (AssetManager manager, String fileName, P parameter) {
+	}
 }
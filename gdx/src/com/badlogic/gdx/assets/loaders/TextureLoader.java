@@ -27,9 +27,11 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.TextureData.TextureDataType;
 import com.badlogic.gdx.graphics.glutils.ETC1TextureData;
 import com.badlogic.gdx.graphics.glutils.FileTextureData;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /**
  * {@link AssetLoader} for {@link Texture} instances. The pixel data is loaded asynchronously. The texture
@@ -40,8 +42,12 @@ import com.badlogic.gdx.utils.Array;
  *
  */
 public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter> {
-	TextureData data;
-	Texture texture;
+	static class TextureLoaderInfo {
+		TextureData data;
+		Texture texture;
+	}
+
+	final ObjectMap<String, TextureLoaderInfo> infos = new ObjectMap<String, TextureLoaderInfo>();
 
 	public TextureLoader (FileHandleResolver resolver) {
 		super(resolver);
@@ -49,40 +55,47 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, TextureParameter parameter) {
+		TextureLoaderInfo info = new TextureLoaderInfo();
 		if (parameter == null || (parameter != null && parameter.textureData == null)) {
 			Pixmap pixmap = null;
 			Format format = null;
 			boolean genMipMaps = false;
-			texture = null;
 
 			if (parameter != null) {
 				format = parameter.format;
 				genMipMaps = parameter.genMipMaps;
-				texture = parameter.texture;
+				info.texture = parameter.texture;
 			}
 
 			FileHandle handle = resolve(fileName);
 			if (!fileName.contains(".etc1")) {
 				if(fileName.contains(".cim")) pixmap = PixmapIO.readCIM(handle);
 				else pixmap = new Pixmap(handle);
-				data = new FileTextureData(handle, pixmap, format, genMipMaps);
+				info.data = new FileTextureData(handle, pixmap, format, genMipMaps);
 			} else {
-				data = new ETC1TextureData(handle, genMipMaps);
+				info.data = new ETC1TextureData(handle, genMipMaps);
 			}
 		} else {
-			data = parameter.textureData;
-			if(!data.isPrepared()) data.prepare();
-			texture = parameter.texture;
+			info.data = parameter.textureData;
+			if(!info.data.isPrepared()) info.data.prepare();
+			info.texture = parameter.texture;
+		}
+		synchronized (infos) {
+			infos.put(fileName, info);
 		}
 	}
 
 	@Override
 	public Texture loadSync (AssetManager manager, String fileName, TextureParameter parameter) {
-		Texture texture = this.texture;
+		TextureLoaderInfo info;
+		synchronized (infos) {
+			info = infos.remove(fileName);
+		}
+		Texture texture = info.texture;
 		if (texture != null) {
-			texture.load(data);
+			texture.load(info.data);
 		} else {
-			texture = new Texture(data);
+			texture = new Texture(info.data);
 		}
 		if (parameter != null) {
 			texture.setFilter(parameter.minFilter, parameter.magFilter);
@@ -91,11 +104,31 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 		return texture;
 	}
 
+	@Override
+	public void unloadAsync (AssetManager manager, String fileName, TextureParameter parameter) {
+		TextureLoaderInfo info;
+		synchronized (infos) {
+			info = infos.remove(fileName);
+		}
+		if (info == null) return;
+		// Texture data passed in the parameter belongs to the caller.
+		if (parameter != null && parameter.textureData != null) return;
+		if (info.data.getType() == TextureDataType.Pixmap && info.data.isPrepared()) {
+			Pixmap pixmap = info.data.consumePixmap();
+			if (info.data.disposePixmap()) pixmap.dispose();
+		}
+	}
+
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, TextureParameter parameter) {
 		return null;
 	}
 
+	@Override
+	public boolean canLoadConcurrently () {
+		return true;
+	}
+
 	static public class TextureParameter extends AssetLoaderParameters<Texture> {
 		/** the format of the final Texture. Uses the source images format if null **/
 		public Format format = null;
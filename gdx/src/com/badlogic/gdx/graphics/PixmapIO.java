@@ -2,16 +2,20 @@
 package com.badlogic.gdx.graphics;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.InflaterInputStream;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
 import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** Class with static methods to read and write Pixmaps to a custom zlib based format. First three integers define the width,
@@ -33,21 +37,22 @@ public class PixmapIO {
 		return CIM.read(file);
 	}
 
-	/** Writes the pixmap as a PNG. Note this method uses quite a bit of working memory. {@link #writeCIM(FileHandle, Pixmap)} is
-	 * faster if the file does not need to be read outside of libgdx. */
+	/** Writes the pixmap as a PNG. {@link #writeCIM(FileHandle, Pixmap)} is faster if the file does not need to be read outside of
+	 * libgdx. To write many PNGs, reuse a {@link PNG} instance per thread instead. */
 	static public void writePNG (FileHandle file, Pixmap pixmap) {
+		PNG writer = new PNG();
 		try {
-			file.writeBytes(PNG.write(pixmap), false);
+			writer.write(file, pixmap);
 		} catch (IOException ex) {
 			throw new GdxRuntimeException("Error writing PNG: " + file, ex);
+		} finally {
+			writer.dispose();
 		}
 	}
 
 	/** @author mzechner */
 	static private class CIM {
 		static private final int BUFFER_SIZE = 32000;
-		static private final byte[] writeBuffer = new byte[BUFFER_SIZE];
-		static private final byte[] readBuffer = new byte[BUFFER_SIZE];
 
 		static public void write (FileHandle file, Pixmap pixmap) {
 			DataOutputStream out = null;
@@ -67,16 +72,16 @@ public class PixmapIO {
 				int remainingBytes = pixelBuf.capacity() % BUFFER_SIZE;
 				int iterations = pixelBuf.capacity() / BUFFER_SIZE;
 
-				synchronized (writeBuffer) {
-					for (int i = 0; i < iterations; i++) {
-						pixelBuf.get(writeBuffer);
-						out.write(writeBuffer);
-					}
-
-					pixelBuf.get(writeBuffer, 0, remainingBytes);
-					out.write(writeBuffer, 0, remainingBytes);
+				// Each call has its own buffer so pixmaps can be written by multiple threads at once.
+				byte[] writeBuffer = new byte[BUFFER_SIZE];
+				for (int i = 0; i < iterations; i++) {
+					pixelBuf.get(writeBuffer);
+					out.write(writeBuffer);
 				}
 
+				pixelBuf.get(writeBuffer, 0, remainingBytes);
+				out.write(writeBuffer, 0, remainingBytes);
+
 				pixelBuf.position(0);
 				pixelBuf.limit(pixelBuf.capacity());
 				// Gdx.app.log("PixmapIO", "write (" + file.name() + "):" + (System.nanoTime() - start) / 1000000000.0f + ", " +
@@ -106,11 +111,10 @@ public class PixmapIO {
 				pixelBuf.position(0);
 				pixelBuf.limit(pixelBuf.capacity());
 
-				synchronized (readBuffer) {
-					int readBytes = 0;
-					while ((readBytes = in.read(readBuffer)) > 0) {
-						pixelBuf.put(readBuffer, 0, readBytes);
-					}
+				byte[] readBuffer = new byte[BUFFER_SIZE];
+				int readBytes = 0;
+				while ((readBytes = in.read(readBuffer)) > 0) {
+					pixelBuf.put(readBuffer, 0, readBytes);
 				}
 
 				pixelBuf.position(0);
@@ -128,161 +132,231 @@ public class PixmapIO {
 		}
 	}
 
-	/** Minimal PNG encoder to create PNG streams (and MIDP images) from RGBA arrays.<br>
-	 * Copyright 2006-2009 Christian Fröschlin www.chrfr.de<br>
-	 * Terms of Use: You may use the PNG encoder free of charge for any purpose you desire, as long as you do not claim credit for
-	 * the original sources and agree not to hold me responsible for any damage arising out of its use.<br>
-	 * If you have a suitable location in GUI or documentation for giving credit, I'd appreciate a non-mandatory mention of:<br>
-	 * PNG encoder (C) 2006-2009 by Christian Fröschlin, www.chrfr.de */
-	static private class PNG {
-		static int[] crcTable;
-		static final int ZLIB_BLOCK_SIZE = 32000;
-
-		static byte[] write (Pixmap pixmap) throws IOException {
-			byte[] signature = new byte[] {(byte)137, (byte)80, (byte)78, (byte)71, (byte)13, (byte)10, (byte)26, (byte)10};
-			byte[] header = PNG.createHeaderChunk(pixmap.getWidth(), pixmap.getHeight());
-			byte[] data = PNG.createDataChunk(pixmap);
-			byte[] trailer = PNG.createTrailerChunk();
-
-			ByteArrayOutputStream png = new ByteArrayOutputStream(signature.length + header.length + data.length + trailer.length);
-			png.write(signature);
-			png.write(header);
-			png.write(data);
-			png.write(trailer);
-			return png.toByteArray();
+	/** PNG encoder that streams the pixels of a pixmap straight from its buffer through a deflater to the output, so the image is
+	 * never held in memory in another form. Each row is compressed with the PNG filter that is estimated to compress it best.
+	 * RGBA8888 and RGB888 pixmaps are written without conversion, other formats are converted to RGBA8888 first.<br>
+	 * <br>
+	 * An instance reuses its buffers and deflater for each PNG it writes, but must only be used by one thread at a time. Instances
+	 * share no state, so PNGs can be written in parallel with an instance per thread. Call {@link #dispose()} to release the
+	 * deflater's native memory. */
+	static public class PNG implements Disposable {
+		static private final byte[] SIGNATURE = {(byte)137, 80, 78, 71, 13, 10, 26, 10};
+		static private final int IHDR = 0x49484452, IDAT = 0x49444154, IEND = 0x49454E44;
+		static private final byte COLOR_RGB = 2, COLOR_RGBA = 6;
+		static private final int FILTER_NONE = 0, FILTER_SUB = 1, FILTER_UP = 2, FILTER_AVERAGE = 3, FILTER_PAETH = 4;
+
+		private final Deflater deflater;
+		private final CRC32 crc = new CRC32();
+		private final IdatOutputStream idat;
+		private final byte[] header = new byte[13], chunkHeader = new byte[8];
+		private byte[] line, previousLine;
+		private final byte[][] filtered = new byte[5][];
+		private boolean flipY;
+
+		public PNG () {
+			this(32 * 1024);
+		}
+
+		/** @param chunkSize The maximum size of each IDAT chunk. The compressed data is buffered until a chunk is full. */
+		public PNG (int chunkSize) {
+			deflater = new Deflater();
+			idat = new IdatOutputStream(chunkSize);
 		}
 
-		static private byte[] createHeaderChunk (int width, int height) throws IOException {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream(13);
-			DataOutputStream chunk = new DataOutputStream(baos);
-			chunk.writeInt(width);
-			chunk.writeInt(height);
-			chunk.writeByte(8); // Bitdepth
-			chunk.writeByte(6); // Colortype ARGB
-			chunk.writeByte(0); // Compression
-			chunk.writeByte(0); // Filter
-			chunk.writeByte(0); // Interlace
-			return toChunk("IHDR", baos.toByteArray());
+		/** If true, the rows are written from the bottom of the pixmap to the top, as needed for pixmaps read from the framebuffer
+		 * such as with {@link com.badlogic.gdx.utils.ScreenUtils}. Default is false. */
+		public void setFlipY (boolean flipY) {
+			this.flipY = flipY;
 		}
 
-		static private byte[] createDataChunk (Pixmap pixmap) throws IOException {
-			int width = pixmap.getWidth();
-			int height = pixmap.getHeight();
-			int dest = 0;
-			byte[] raw = new byte[4 * width * height + height];
-			for (int y = 0; y < height; y++) {
-				raw[dest++] = 0; // No filter
-				for (int x = 0; x < width; x++) {
-					// 32-bit RGBA8888
-					int pixel = pixmap.getPixel(x, y);
-
-					int mask = pixel & 0xFFFFFFFF;
-					int rr = mask >> 24 & 0xff;
-					int gg = mask >> 16 & 0xff;
-					int bb = mask >> 8 & 0xff;
-					int aa = mask & 0xff;
-
-					raw[dest++] = (byte)rr;
-					raw[dest++] = (byte)gg;
-					raw[dest++] = (byte)bb;
-					raw[dest++] = (byte)aa;
+		/** Sets the deflate compression level. Default is {@link Deflater#DEFAULT_COMPRESSION}. */
+		public void setCompression (int level) {
+			deflater.setLevel(level);
+		}
+
+		public void write (FileHandle file, Pixmap pixmap) throws IOException {
+			OutputStream output = file.write(false);
+			try {
+				write(output, pixmap);
+			} finally {
+				try {
+					output.close();
+				} catch (IOException ignored) {
 				}
 			}
-			return toChunk("IDAT", toZLIB(raw));
 		}
 
-		static private byte[] createTrailerChunk () throws IOException {
-			return toChunk("IEND", new byte[] {});
+		/** Writes the pixmap as a PNG to the stream, which is not closed. */
+		public void write (OutputStream output, Pixmap pixmap) throws IOException {
+			Pixmap source = pixmap;
+			Format format = pixmap.getFormat();
+			if (format != Format.RGBA8888 && format != Format.RGB888) {
+				source = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Format.RGBA8888);
+				Blending blending = Pixmap.getBlending();
+				Pixmap.setBlending(Blending.None);
+				source.drawPixmap(pixmap, 0, 0);
+				Pixmap.setBlending(blending);
+				format = Format.RGBA8888;
+			}
+			try {
+				int width = source.getWidth(), height = source.getHeight();
+				int bytesPerPixel = format == Format.RGBA8888 ? 4 : 3;
+				int lineLength = width * bytesPerPixel;
+				if (line == null || line.length < lineLength) {
+					line = new byte[lineLength];
+					previousLine = new byte[lineLength];
+					for (int i = 1; i < filtered.length; i++)
+						filtered[i] = new byte[lineLength];
+				}
+				for (int i = 0; i < lineLength; i++)
+					previousLine[i] = 0;
+
+				output.write(SIGNATURE);
+
+				byte[] header = this.header;
+				writeInt(header, 0, width);
+				writeInt(header, 4, height);
+				header[8] = 8; // Bit depth.
+				header[9] = format == Format.RGBA8888 ? COLOR_RGBA : COLOR_RGB;
+				header[10] = 0; // Deflate compression.
+				header[11] = 0; // Adaptive filtering.
+				header[12] = 0; // No interlace.
+				writeChunk(output, IHDR, header, 13);
+
+				idat.output = output;
+				deflater.reset();
+				DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(idat, deflater, 16 * 1024);
+				ByteBuffer pixels = source.getPixels();
+				int oldPosition = pixels.position();
+				for (int y = 0; y < height; y++) {
+					pixels.position((flipY ? height - y - 1 : y) * lineLength);
+					pixels.get(line, 0, lineLength);
+					int filter = filter(line, previousLine, lineLength, bytesPerPixel);
+					deflaterOutput.write(filter);
+					deflaterOutput.write(filtered[filter], 0, lineLength);
+
+					byte[] temp = line;
+					line = previousLine;
+					previousLine = temp;
+				}
+				pixels.position(oldPosition);
+				deflaterOutput.finish();
+				idat.flushChunk();
+				idat.output = null;
+
+				writeChunk(output, IEND, header, 0);
+				output.flush();
+			} finally {
+				if (source != pixmap) source.dispose();
+			}
 		}
 
-		static private byte[] toChunk (String id, byte[] raw) throws IOException {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream(raw.length + 12);
-			DataOutputStream chunk = new DataOutputStream(baos);
+		/** Applies each PNG filter to the line and returns the type of the one with the smallest sum of absolute differences, the
+		 * heuristic recommended by the PNG specification. The filtered line is in {@link #filtered} at the returned index. */
+		private int filter (byte[] line, byte[] previousLine, int length, int bytesPerPixel) {
+			byte[] sub = filtered[FILTER_SUB], up = filtered[FILTER_UP], average = filtered[FILTER_AVERAGE];
+			byte[] paeth = filtered[FILTER_PAETH];
+			int noneSum = 0, subSum = 0, upSum = 0, averageSum = 0, paethSum = 0;
+			for (int i = 0; i < length; i++) {
+				int x = line[i] & 0xFF, b = previousLine[i] & 0xFF, a = 0, c = 0;
+				if (i >= bytesPerPixel) {
+					a = line[i - bytesPerPixel] & 0xFF;
+					c = previousLine[i - bytesPerPixel] & 0xFF;
+				}
+				noneSum += Math.abs(line[i]);
 
-			chunk.writeInt(raw.length);
+				byte value = (byte)(x - a);
+				sub[i] = value;
+				subSum += Math.abs(value);
 
-			byte[] bid = new byte[4];
-			for (int i = 0; i < 4; i++) {
-				bid[i] = (byte)id.charAt(i);
-			}
+				value = (byte)(x - b);
+				up[i] = value;
+				upSum += Math.abs(value);
 
-			chunk.write(bid);
+				value = (byte)(x - ((a + b) >>> 1));
+				average[i] = value;
+				averageSum += Math.abs(value);
 
-			chunk.write(raw);
+				int p = a + b - c, pa = Math.abs(p - a), pb = Math.abs(p - b), pc = Math.abs(p - c);
+				value = (byte)(x - (pa <= pb && pa <= pc ? a : pb <= pc ? b : c));
+				paeth[i] = value;
+				paethSum += Math.abs(value);
+			}
+			filtered[FILTER_NONE] = line;
 
-			int crc = 0xFFFFFFFF;
-			crc = updateCRC(crc, bid);
-			crc = updateCRC(crc, raw);
-			chunk.writeInt(~crc);
+			int filter = FILTER_NONE, min = noneSum;
+			if (subSum < min) {
+				filter = FILTER_SUB;
+				min = subSum;
+			}
+			if (upSum < min) {
+				filter = FILTER_UP;
+				min = upSum;
+			}
+			if (averageSum < min) {
+				filter = FILTER_AVERAGE;
+				min = averageSum;
+			}
+			if (paethSum < min) filter = FILTER_PAETH;
+			return filter;
+		}
 
-			return baos.toByteArray();
+		void writeChunk (OutputStream output, int type, byte[] data, int length) throws IOException {
+			byte[] header = chunkHeader;
+			writeInt(header, 0, length);
+			writeInt(header, 4, type);
+			output.write(header, 0, 8);
+			output.write(data, 0, length);
+			crc.reset();
+			crc.update(header, 4, 4);
+			crc.update(data, 0, length);
+			writeInt(header, 0, (int)crc.getValue());
+			output.write(header, 0, 4);
 		}
 
-		static private void createCRCTable () {
-			crcTable = new int[256];
-			for (int i = 0; i < 256; i++) {
-				int c = i;
-				for (int k = 0; k < 8; k++)
-					c = (c & 1) > 0 ? 0xedb88320 ^ c >>> 1 : c >>> 1;
-				crcTable[i] = c;
-			}
+		static private void writeInt (byte[] bytes, int offset, int value) {
+			bytes[offset] = (byte)(value >>> 24);
+			bytes[offset + 1] = (byte)(value >>> 16);
+			bytes[offset + 2] = (byte)(value >>> 8);
+			bytes[offset + 3] = (byte)value;
 		}
 
-		static private int updateCRC (int crc, byte[] raw) {
-			if (crcTable == null) createCRCTable();
-			for (byte element : raw)
-				crc = crcTable[(crc ^ element) & 0xFF] ^ crc >>> 8;
-			return crc;
+		/** Releases the native memory of the deflater. */
+		public void dispose () {
+			deflater.end();
 		}
 
-		/*
-		 * This method is called to encode the image data as a zlib block as required by the PNG specification. This file comes with
-		 * a minimal ZLIB encoder which uses uncompressed deflate blocks (fast, short, easy, but no compression). If you want
-		 * compression, call another encoder (such as JZLib?) here.
-		 */
-		static private byte[] toZLIB (byte[] raw) throws IOException {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream(raw.length + 6 + raw.length / ZLIB_BLOCK_SIZE * 5);
-			DataOutputStream zlib = new DataOutputStream(baos);
-
-			byte tmp = (byte)8;
-			zlib.writeByte(tmp); // CM = 8, CMINFO = 0
-			zlib.writeByte((31 - (tmp << 8) % 31) % 31); // FCHECK
-			// (FDICT/FLEVEL=0)
-
-			int pos = 0;
-			while (raw.length - pos > ZLIB_BLOCK_SIZE) {
-				writeUncompressedDeflateBlock(zlib, false, raw, pos, (char)ZLIB_BLOCK_SIZE);
-				pos += ZLIB_BLOCK_SIZE;
-			}
+		/** Collects the compressed image data and writes it to the output as IDAT chunks. */
+		private class IdatOutputStream extends OutputStream {
+			final byte[] buffer;
+			int size;
+			OutputStream output;
 
-			writeUncompressedDeflateBlock(zlib, true, raw, pos, (char)(raw.length - pos));
+			IdatOutputStream (int chunkSize) {
+				buffer = new byte[chunkSize];
+			}
 
-			// zlib check sum of uncompressed data
-			zlib.writeInt(calcADLER32(raw));
+			public void write (int b) throws IOException {
+				if (size == buffer.length) flushChunk();
+				buffer[size++] = (byte)b;
+			}
 
-			return baos.toByteArray();
-		}
+			public void write (byte[] bytes, int offset, int length) throws IOException {
+				while (length > 0) {
+					if (size == buffer.length) flushChunk();
+					int count = Math.min(length, buffer.length - size);
+					System.arraycopy(bytes, offset, buffer, size, count);
+					size += count;
+					offset += count;
+					length -= count;
+				}
+			}
 
-		static private void writeUncompressedDeflateBlock (DataOutputStream zlib, boolean last, byte[] raw, int off, char len)
-			throws IOException {
-			zlib.writeByte((byte)(last ? 1 : 0)); // Final flag, Compression type 0
-			zlib.writeByte((byte)(len & 0xFF)); // Length LSB
-			zlib.writeByte((byte)((len & 0xFF00) >> 8)); // Length MSB
-			zlib.writeByte((byte)(~len & 0xFF)); // Length 1st complement LSB
-			zlib.writeByte((byte)((~len & 0xFF00) >> 8)); // Length 1st complement
-			// MSB
-			zlib.write(raw, off, len); // Data
+			void flushChunk () throws IOException {
+				if (size == 0) return;
+				writeChunk(output, IDAT, buffer, size);
+				size = 0;
+			}
 		}
-		
-		private static int calcADLER32(final byte[ ] raw) {
-	        int s1 = 1;
-	        int s2 = 0;
-	        for ( int i = 0 ; i < raw.length ; i++ ) {
-	            final int abs = raw[ i ] >= 0 ? raw[ i ] : ( raw[ i ] + 256 );
-	            s1 = ( s1 + abs ) % 65521;
-	            s2 = ( s2 + s1 ) % 65521;
-	        }
-	        return ( s2 << 16 ) + s1;
-	    }
 	}
 }
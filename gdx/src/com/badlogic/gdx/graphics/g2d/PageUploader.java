@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker.Page;
+import com.badlogic.gdx.math.Rectangle;
+
+/** Uploads the changed areas of a {@link PixmapPacker} page to its texture. The GWT backend replaces this class, as its pixmaps
+ * can't be uploaded in parts. */
+class PageUploader {
+	/** Uploads the dirty areas of the page to its texture, oldest first, until the next area would exceed the budget. At least one
+	 * area is uploaded. Areas wider than half the page are uploaded as full rows directly from the page pixmap, narrower areas are
+	 * copied to a temporary pixmap first.
+	 * @return the number of bytes uploaded. */
+	static int upload (Page page, int budget) {
+		Pixmap image = page.image;
+		ByteBuffer pixels = image.getPixels();
+		int width = image.getWidth();
+		int bytesPerPixel = pixels.capacity() / (width * image.getHeight());
+
+		page.texture.bind();
+		Gdx.gl.glPixelStorei(GL10.GL_UNPACK_ALIGNMENT, 1);
+		int uploaded = 0;
+		while (page.dirtyRects.size > 0) {
+			Rectangle rect = page.dirtyRects.get(0);
+			int x = (int)rect.x, y = (int)rect.y, rectWidth = (int)rect.width, rectHeight = (int)rect.height;
+			boolean rows = rectWidth * 2 > width;
+			int bytes = (rows ? width : rectWidth) * rectHeight * bytesPerPixel;
+			if (uploaded > 0 && bytes > budget - uploaded) break;
+			if (rows) {
+				pixels.position(y * width * bytesPerPixel);
+				Gdx.gl.glTexSubImage2D(GL10.GL_TEXTURE_2D, 0, 0, y, width, rectHeight, image.getGLFormat(), image.getGLType(), pixels);
+				pixels.position(0);
+			} else {
+				Pixmap area = new Pixmap(rectWidth, rectHeight, image.getFormat());
+				Blending blending = Pixmap.getBlending();
+				Pixmap.setBlending(Blending.None);
+				area.drawPixmap(image, 0, 0, x, y, rectWidth, rectHeight);
+				Pixmap.setBlending(blending);
+				Gdx.gl.glTexSubImage2D(GL10.GL_TEXTURE_2D, 0, x, y, rectWidth, rectHeight, area.getGLFormat(), area.getGLType(),
+					area.getPixels());
+				area.dispose();
+			}
+			page.dirtyRects.removeIndex(0);
+			uploaded += bytes;
+		}
+		return uploaded;
+	}
+}
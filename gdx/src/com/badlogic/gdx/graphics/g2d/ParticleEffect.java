@@ -101,6 +101,13 @@ public class ParticleEffect implements Disposable {
 			emitters.get(i).setFlip(flipX, flipY);
 	}
 
+	/** Gives each emitter its own random number generator, seeded from the specified seed.
+	 * @see ParticleEmitter#setSeed(long) */
+	public void setSeed (long seed) {
+		for (int i = 0, n = emitters.size; i < n; i++)
+			emitters.get(i).setSeed(seed + i);
+	}
+
 	public Array<ParticleEmitter> getEmitters () {
 		return emitters;
 	}
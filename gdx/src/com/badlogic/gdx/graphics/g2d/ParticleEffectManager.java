@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Updates and draws many {@link ParticleEffect}s on multiple threads. The effects are split into one contiguous range per
+ * thread. Each thread updates its range and writes the vertices of its range to its own buffer. Only the buffers are submitted
+ * to the SpriteBatch on the calling thread, in the order the effects were added.<br>
+ * <br>
+ * Adding an effect {@link ParticleEmitter#setPacked(boolean) packs} its emitters. It also gives them their own random number
+ * generators, seeded from the manager's seed in the order effects are added, and restarts them. The particles do not depend on how the effects are
+ * split between threads. A replay that adds the same effects and passes the same deltas to {@link #update(float)} draws the
+ * same particles. Effects that complete are removed during update, and {@link PooledEffect pooled} effects are freed. */
+public class ParticleEffectManager implements Disposable {
+	private final Array<ParticleEffect> effects = new Array();
+	private final Random seeds;
+	private final ExecutorService executor;
+	private final Worker[] workers;
+	private final Array<Future> futures = new Array();
+	private int workerCount;
+	private float delta;
+
+	/** Creates a manager with a thread per processor and a seed of 0. */
+	public ParticleEffectManager () {
+		this(Runtime.getRuntime().availableProcessors(), 0);
+	}
+
+	/** @param threads The number of threads that update effects, including the thread calling {@link #update(float)}.
+	 * @param seed Determines the random numbers used by the effects that are added. */
+	public ParticleEffectManager (int threads, long seed) {
+		if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+		seeds = new Random(seed);
+		workers = new Worker[threads];
+		for (int i = 0; i < threads; i++)
+			workers[i] = new Worker();
+		if (threads == 1)
+			executor = null;
+		else {
+			executor = Executors.newFixedThreadPool(threads - 1, new ThreadFactory() {
+				public Thread newThread (Runnable runnable) {
+					Thread thread = new Thread(runnable, "ParticleEffectManager");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+	}
+
+	/** Adds the effect, which is updated and drawn after the effects already added. Its emitters are
+	 * {@link ParticleEmitter#reset() reset} after seeding, so the effect starts over. */
+	public void add (ParticleEffect effect) {
+		effect.setSeed(seeds.nextLong());
+		Array<ParticleEmitter> emitters = effect.getEmitters();
+		for (int i = 0, n = emitters.size; i < n; i++) {
+			ParticleEmitter emitter = emitters.get(i);
+			emitter.setPacked(true);
+			emitter.reset();
+		}
+		effects.add(effect);
+	}
+
+	/** Removes the effect without freeing it.
+	 * @return true if the effect was managed. */
+	public boolean remove (ParticleEffect effect) {
+		return effects.removeValue(effect, true);
+	}
+
+	/** Removes all effects without freeing them. */
+	public void clear () {
+		effects.clear();
+	}
+
+	/** Returns the effects in the order they are drawn. Effects must not be added or removed through the array. */
+	public Array<ParticleEffect> getEffects () {
+		return effects;
+	}
+
+	/** Updates all effects, then removes those that are complete. */
+	public void update (float delta) {
+		this.delta = delta;
+		run(false);
+
+		Array<ParticleEffect> effects = this.effects;
+		int size = 0;
+		for (int i = 0, n = effects.size; i < n; i++) {
+			ParticleEffect effect = effects.get(i);
+			if (effect.isComplete()) {
+				if (effect instanceof PooledEffect) ((PooledEffect)effect).free();
+			} else
+				effects.set(size++, effect);
+		}
+		effects.truncate(size);
+	}
+
+	/** Writes the vertices of all effects on multiple threads, then draws them with the batch, which must have been begun. */
+	public void draw (SpriteBatch batch) {
+		run(true);
+
+		boolean additive = false;
+		for (int i = 0; i < workerCount; i++) {
+			Worker worker = workers[i];
+			float[] vertices = worker.vertices;
+			Array<ParticleEmitter> emitters = worker.emitters;
+			int[] lengths = worker.lengths.items;
+			for (int ii = 0, offset = 0, n = emitters.size; ii < n; ii++) {
+				ParticleEmitter emitter = emitters.get(ii);
+				if (emitter.isAdditive() != additive) {
+					additive = !additive;
+					batch.setBlendFunction(GL10.GL_SRC_ALPHA, additive ? GL10.GL_ONE : GL10.GL_ONE_MINUS_SRC_ALPHA);
+				}
+				// the last argument is the index after the last vertex, not the number of floats
+				int end = offset + lengths[ii];
+				batch.draw(emitter.getSprite().getTexture(), vertices, offset, end);
+				offset = end;
+			}
+		}
+		if (additive) batch.setBlendFunction(GL10.GL_SRC_ALPHA, GL10.GL_ONE_MINUS_SRC_ALPHA);
+	}
+
+	/** Splits the effects between the workers and runs them, using the calling thread for the first worker. */
+	private void run (boolean draw) {
+		int count = effects.size;
+		int workerCount = Math.max(1, Math.min(workers.length, count));
+		this.workerCount = workerCount;
+		for (int i = 0; i < workerCount; i++) {
+			Worker worker = workers[i];
+			worker.start = (int)((long)count * i / workerCount);
+			worker.end = (int)((long)count * (i + 1) / workerCount);
+			worker.draw = draw;
+		}
+
+		Array<Future> futures = this.futures;
+		for (int i = 1; i < workerCount; i++)
+			futures.add(executor.submit(workers[i]));
+		try {
+			workers[0].run();
+		} finally {
+			try {
+				for (int i = 0, n = futures.size; i < n; i++)
+					futures.get(i).get();
+			} catch (ExecutionException ex) {
+				throw new GdxRuntimeException("Error updating particle effects.", ex.getCause());
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new GdxRuntimeException("Interrupted updating particle effects.", ex);
+			} finally {
+				futures.clear();
+			}
+		}
+	}
+
+	/** Shuts down the threads. The effects are not disposed. */
+	public void dispose () {
+		if (executor != null) executor.shutdown();
+	}
+
+	private class Worker implements Runnable {
+		int start, end;
+		boolean draw;
+		float[] vertices = new float[0];
+		/** The emitters whose vertices were written and the number of floats written for each, in order. */
+		final Array<ParticleEmitter> emitters = new Array();
+		final IntArray lengths = new IntArray();
+
+		public void run () {
+			Array<ParticleEffect> effects = ParticleEffectManager.this.effects;
+			if (!draw) {
+				float delta = ParticleEffectManager.this.delta;
+				for (int i = start; i < end; i++)
+					effects.get(i).update(delta);
+				return;
+			}
+
+			emitters.clear();
+			lengths.clear();
+			int size = 0;
+			for (int i = start; i < end; i++) {
+				Array<ParticleEmitter> effectEmitters = effects.get(i).getEmitters();
+				for (int ii = 0, n = effectEmitters.size; ii < n; ii++) {
+					ParticleEmitter emitter = effectEmitters.get(ii);
+					int length = emitter.getActiveCount() * Sprite.SPRITE_SIZE;
+					if (length == 0) continue;
+					if (size + length > vertices.length) {
+						float[] newVertices = new float[Math.max(size + length, (int)(vertices.length * 1.75f))];
+						System.arraycopy(vertices, 0, newVertices, 0, size);
+						vertices = newVertices;
+					}
+					emitter.getVertices(0, vertices, size);
+					emitters.add(emitter);
+					lengths.add(length);
+					size += length;
+				}
+			}
+		}
+	}
+}
@@ -20,11 +20,13 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.BitSet;
+import java.util.Random;
 
 import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.NumberUtils;
 
 // BOZO - Javadoc.
 // BOZO - Add a duplicate emitter button.
@@ -70,6 +72,11 @@ public class ParticleEmitter {
 	private boolean flipX, flipY;
 	private int updateFlags;
 	private boolean allowCompletion;
+	private boolean packed;
+	private ParticleArrays packedParticles;
+	private float[] packedVertices;
+	private float spawnX, spawnY, spawnAngle, spawnAngleCos, spawnAngleSin;
+	private Random random;
 
 	private int emission, emissionDiff, emissionDelta;
 	private int lifeOffset, lifeOffsetDiff;
@@ -97,6 +104,7 @@ public class ParticleEmitter {
 	public ParticleEmitter (ParticleEmitter emitter) {
 		sprite = emitter.sprite;
 		name = emitter.name;
+		packed = emitter.packed;
 		setMaxParticleCount(emitter.maxParticleCount);
 		minParticleCount = emitter.minParticleCount;
 		delayValue.load(emitter.delayValue);
@@ -137,14 +145,57 @@ public class ParticleEmitter {
 
 	public void setMaxParticleCount (int maxParticleCount) {
 		this.maxParticleCount = maxParticleCount;
-		active = new boolean[maxParticleCount];
 		activeCount = 0;
-		particles = new Particle[maxParticleCount];
+		packedVertices = null;
+		if (packed) {
+			packedParticles = new ParticleArrays(maxParticleCount);
+			active = null;
+			particles = null;
+		} else {
+			packedParticles = null;
+			active = new boolean[maxParticleCount];
+			particles = new Particle[maxParticleCount];
+		}
+	}
+
+	/** When true, particle state is kept in parallel primitive arrays instead of a {@link Sprite} per particle, and the live
+	 * particles are kept in a dense list so updating never visits dead ones. Drawing writes the vertices of all particles to an
+	 * array that is submitted to the SpriteBatch at once, see {@link #getVertices(int, float[], int)}. This is much faster for
+	 * large numbers of particles, but {@link #newParticle(Sprite)} is not used and the order particles are drawn in changes as
+	 * they die. Changing this removes all particles. */
+	public void setPacked (boolean packed) {
+		if (this.packed == packed) return;
+		this.packed = packed;
+		setMaxParticleCount(maxParticleCount);
+	}
+
+	public boolean isPacked () {
+		return packed;
+	}
+
+	/** Gives the emitter its own random number generator, so the particles it emits depend only on the seed and the sequence of
+	 * calls made on the emitter. By default {@link MathUtils#random} is used, which is shared by all emitters and so is not
+	 * deterministic when emitters are updated on multiple threads. */
+	public void setSeed (long seed) {
+		if (random == null)
+			random = new Random(seed);
+		else
+			random.setSeed(seed);
+	}
+
+	private Random random () {
+		Random random = this.random;
+		return random != null ? random : MathUtils.random;
 	}
 
 	public void addParticle () {
 		int activeCount = this.activeCount;
 		if (activeCount == maxParticleCount) return;
+		if (packed) {
+			activatePackedParticle(packedParticles.live[activeCount]);
+			this.activeCount = activeCount + 1;
+			return;
+		}
 		boolean[] active = this.active;
 		for (int i = 0, n = active.length; i < n; i++) {
 			if (!active[i]) {
@@ -158,7 +209,14 @@ public class ParticleEmitter {
 
 	public void addParticles (int count) {
 		count = Math.min(count, maxParticleCount - activeCount);
-		if (count == 0) return;
+		if (count <= 0) return;
+		if (packed) {
+			int[] live = packedParticles.live;
+			for (int i = activeCount, n = activeCount + count; i < n; i++)
+				activatePackedParticle(live[i]);
+			this.activeCount += count;
+			return;
+		}
 		boolean[] active = this.active;
 		int index = 0, n = active.length;
 		outer:
@@ -181,12 +239,17 @@ public class ParticleEmitter {
 		int deltaMillis = (int)accumulator;
 		accumulator -= deltaMillis;
 
-		boolean[] active = this.active;
-		int activeCount = this.activeCount;
-		for (int i = 0, n = active.length; i < n; i++) {
-			if (active[i] && !updateParticle(particles[i], delta, deltaMillis)) {
-				active[i] = false;
-				activeCount--;
+		int activeCount;
+		if (packed)
+			activeCount = updatePackedParticles(delta, deltaMillis);
+		else {
+			boolean[] active = this.active;
+			activeCount = this.activeCount;
+			for (int i = 0, n = active.length; i < n; i++) {
+				if (active[i] && !updateParticle(particles[i], delta, deltaMillis)) {
+					active[i] = false;
+					activeCount--;
+				}
 			}
 		}
 		this.activeCount = activeCount;
@@ -226,13 +289,14 @@ public class ParticleEmitter {
 	public void draw (SpriteBatch spriteBatch) {
 		if (additive) spriteBatch.setBlendFunction(GL10.GL_SRC_ALPHA, GL10.GL_ONE);
 
-		Particle[] particles = this.particles;
-		boolean[] active = this.active;
-		int activeCount = this.activeCount;
-
-		for (int i = 0, n = active.length; i < n; i++)
-			if (active[i]) particles[i].draw(spriteBatch);
-		this.activeCount = activeCount;
+		if (packed)
+			drawPackedParticles(spriteBatch);
+		else {
+			Particle[] particles = this.particles;
+			boolean[] active = this.active;
+			for (int i = 0, n = active.length; i < n; i++)
+				if (active[i]) particles[i].draw(spriteBatch);
+		}
 
 		if (additive) spriteBatch.setBlendFunction(GL10.GL_SRC_ALPHA, GL10.GL_ONE_MINUS_SRC_ALPHA);
 	}
@@ -240,6 +304,11 @@ public class ParticleEmitter {
 	/** Updates and draws the particles. This is slightly more efficient than calling {@link #update(float)} and
 	 * {@link #draw(SpriteBatch)} separately. */
 	public void draw (SpriteBatch spriteBatch, float delta) {
+		if (packed) {
+			update(delta);
+			draw(spriteBatch);
+			return;
+		}
 		accumulator += Math.min(delta * 1000, 250);
 		if (accumulator < 1) {
 			draw(spriteBatch);
@@ -313,30 +382,30 @@ public class ParticleEmitter {
 	}
 
 	private void restart () {
-		delay = delayValue.active ? delayValue.newLowValue() : 0;
+		delay = delayValue.active ? delayValue.newLowValue(random()) : 0;
 		delayTimer = 0;
 
 		durationTimer -= duration;
-		duration = durationValue.newLowValue();
+		duration = durationValue.newLowValue(random());
 
-		emission = (int)emissionValue.newLowValue();
-		emissionDiff = (int)emissionValue.newHighValue();
+		emission = (int)emissionValue.newLowValue(random());
+		emissionDiff = (int)emissionValue.newHighValue(random());
 		if (!emissionValue.isRelative()) emissionDiff -= emission;
 
-		life = (int)lifeValue.newLowValue();
-		lifeDiff = (int)lifeValue.newHighValue();
+		life = (int)lifeValue.newLowValue(random());
+		lifeDiff = (int)lifeValue.newHighValue(random());
 		if (!lifeValue.isRelative()) lifeDiff -= life;
 
-		lifeOffset = lifeOffsetValue.active ? (int)lifeOffsetValue.newLowValue() : 0;
-		lifeOffsetDiff = (int)lifeOffsetValue.newHighValue();
+		lifeOffset = lifeOffsetValue.active ? (int)lifeOffsetValue.newLowValue(random()) : 0;
+		lifeOffsetDiff = (int)lifeOffsetValue.newHighValue(random());
 		if (!lifeOffsetValue.isRelative()) lifeOffsetDiff -= lifeOffset;
 
-		spawnWidth = spawnWidthValue.newLowValue();
-		spawnWidthDiff = spawnWidthValue.newHighValue();
+		spawnWidth = spawnWidthValue.newLowValue(random());
+		spawnWidthDiff = spawnWidthValue.newHighValue(random());
 		if (!spawnWidthValue.isRelative()) spawnWidthDiff -= spawnWidth;
 
-		spawnHeight = spawnHeightValue.newLowValue();
-		spawnHeightDiff = spawnHeightValue.newHighValue();
+		spawnHeight = spawnHeightValue.newLowValue(random());
+		spawnHeightDiff = spawnHeightValue.newHighValue(random());
 		if (!spawnHeightValue.isRelative()) spawnHeightDiff -= spawnHeight;
 
 		updateFlags = 0;
@@ -367,13 +436,13 @@ public class ParticleEmitter {
 		particle.life = particle.currentLife = life + (int)(lifeDiff * lifeValue.getScale(percent));
 
 		if (velocityValue.active) {
-			particle.velocity = velocityValue.newLowValue();
-			particle.velocityDiff = velocityValue.newHighValue();
+			particle.velocity = velocityValue.newLowValue(random());
+			particle.velocityDiff = velocityValue.newHighValue(random());
 			if (!velocityValue.isRelative()) particle.velocityDiff -= particle.velocity;
 		}
 
-		particle.angle = angleValue.newLowValue();
-		particle.angleDiff = angleValue.newHighValue();
+		particle.angle = angleValue.newLowValue(random());
+		particle.angleDiff = angleValue.newHighValue(random());
 		if (!angleValue.isRelative()) particle.angleDiff -= particle.angle;
 		float angle = 0;
 		if ((updateFlags & UPDATE_ANGLE) == 0) {
@@ -384,14 +453,14 @@ public class ParticleEmitter {
 		}
 
 		float spriteWidth = sprite.getWidth();
-		particle.scale = scaleValue.newLowValue() / spriteWidth;
-		particle.scaleDiff = scaleValue.newHighValue() / spriteWidth;
+		particle.scale = scaleValue.newLowValue(random()) / spriteWidth;
+		particle.scaleDiff = scaleValue.newHighValue(random()) / spriteWidth;
 		if (!scaleValue.isRelative()) particle.scaleDiff -= particle.scale;
 		particle.setScale(particle.scale + particle.scaleDiff * scaleValue.getScale(0));
 
 		if (rotationValue.active) {
-			particle.rotation = rotationValue.newLowValue();
-			particle.rotationDiff = rotationValue.newHighValue();
+			particle.rotation = rotationValue.newLowValue(random());
+			particle.rotationDiff = rotationValue.newHighValue(random());
 			if (!rotationValue.isRelative()) particle.rotationDiff -= particle.rotation;
 			float rotation = particle.rotation + particle.rotationDiff * rotationValue.getScale(0);
 			if (aligned) rotation += angle;
@@ -399,14 +468,14 @@ public class ParticleEmitter {
 		}
 
 		if (windValue.active) {
-			particle.wind = windValue.newLowValue();
-			particle.windDiff = windValue.newHighValue();
+			particle.wind = windValue.newLowValue(random());
+			particle.windDiff = windValue.newHighValue(random());
 			if (!windValue.isRelative()) particle.windDiff -= particle.wind;
 		}
 
 		if (gravityValue.active) {
-			particle.gravity = gravityValue.newLowValue();
-			particle.gravityDiff = gravityValue.newHighValue();
+			particle.gravity = gravityValue.newLowValue(random());
+			particle.gravityDiff = gravityValue.newHighValue(random());
 			if (!gravityValue.isRelative()) particle.gravityDiff -= particle.gravity;
 		}
 
@@ -417,20 +486,33 @@ public class ParticleEmitter {
 		color[1] = temp[1];
 		color[2] = temp[2];
 
-		particle.transparency = transparencyValue.newLowValue();
-		particle.transparencyDiff = transparencyValue.newHighValue() - particle.transparency;
+		particle.transparency = transparencyValue.newLowValue(random());
+		particle.transparencyDiff = transparencyValue.newHighValue(random()) - particle.transparency;
+
+		if (spawn(percent) && (updateFlags & UPDATE_ANGLE) == 0) {
+			particle.angle = spawnAngle;
+			particle.angleCos = spawnAngleCos;
+			particle.angleSin = spawnAngleSin;
+		}
+		float spriteHeight = sprite.getHeight();
+		particle.setBounds(spawnX - spriteWidth / 2, spawnY - spriteHeight / 2, spriteWidth, spriteHeight);
+	}
 
-		// Spawn.
+	/** Picks the position of a new particle and stores it in spawnX and spawnY. When spawning on the edge of an ellipse, the angle
+	 * of the position is stored in spawnAngle, spawnAngleCos and spawnAngleSin.
+	 * @return true if the spawn angle was set. */
+	private boolean spawn (float percent) {
 		float x = this.x;
-		if (xOffsetValue.active) x += xOffsetValue.newLowValue();
+		if (xOffsetValue.active) x += xOffsetValue.newLowValue(random());
 		float y = this.y;
-		if (yOffsetValue.active) y += yOffsetValue.newLowValue();
+		if (yOffsetValue.active) y += yOffsetValue.newLowValue(random());
+		boolean edge = false;
 		switch (spawnShapeValue.shape) {
 		case square: {
 			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
 			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
-			x += MathUtils.random(width) - width / 2;
-			y += MathUtils.random(height) - height / 2;
+			x += random().nextFloat() * width - width / 2;
+			y += random().nextFloat() * height - height / 2;
 			break;
 		}
 		case ellipse: {
@@ -444,29 +526,28 @@ public class ParticleEmitter {
 				float spawnAngle;
 				switch (spawnShapeValue.side) {
 				case top:
-					spawnAngle = -MathUtils.random(179f);
+					spawnAngle = -random().nextFloat() * 179f;
 					break;
 				case bottom:
-					spawnAngle = MathUtils.random(179f);
+					spawnAngle = random().nextFloat() * 179f;
 					break;
 				default:
-					spawnAngle = MathUtils.random(360f);
+					spawnAngle = random().nextFloat() * 360f;
 					break;
 				}
 				float cosDeg = MathUtils.cosDeg(spawnAngle);
 				float sinDeg = MathUtils.sinDeg(spawnAngle);
 				x += cosDeg * radiusX;
 				y += sinDeg * radiusX / scaleY;
-				if ((updateFlags & UPDATE_ANGLE) == 0) {
-					particle.angle = spawnAngle;
-					particle.angleCos = cosDeg;
-					particle.angleSin = sinDeg;
-				}
+				this.spawnAngle = spawnAngle;
+				spawnAngleCos = cosDeg;
+				spawnAngleSin = sinDeg;
+				edge = true;
 			} else {
 				float radius2 = radiusX * radiusX;
 				while (true) {
-					float px = MathUtils.random(width) - radiusX;
-					float py = MathUtils.random(width) - radiusX;
+					float px = random().nextFloat() * width - radiusX;
+					float py = random().nextFloat() * width - radiusX;
 					if (px * px + py * py <= radius2) {
 						x += px;
 						y += py / scaleY;
@@ -480,17 +561,18 @@ public class ParticleEmitter {
 			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
 			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
 			if (width != 0) {
-				float lineX = width * MathUtils.random();
+				float lineX = width * random().nextFloat();
 				x += lineX;
 				y += lineX * (height / (float)width);
 			} else
-				y += height * MathUtils.random();
+				y += height * random().nextFloat();
 			break;
 		}
 		}
 
-		float spriteHeight = sprite.getHeight();
-		particle.setBounds(x - spriteWidth / 2, y - spriteHeight / 2, spriteWidth, spriteHeight);
+		spawnX = x;
+		spawnY = y;
+		return edge;
 	}
 
 	private boolean updateParticle (Particle particle, float delta, int deltaMillis) {
@@ -550,13 +632,286 @@ public class ParticleEmitter {
 		return true;
 	}
 
+	private void activatePackedParticle (int i) {
+		ParticleArrays p = packedParticles;
+		float percent = durationTimer / duration;
+		int updateFlags = this.updateFlags;
+
+		p.life[i] = p.currentLife[i] = life + (int)(lifeDiff * lifeValue.getScale(percent));
+
+		if (velocityValue.active) {
+			float velocity = velocityValue.newLowValue(random());
+			float velocityDiff = velocityValue.newHighValue(random());
+			if (!velocityValue.isRelative()) velocityDiff -= velocity;
+			p.velocity[i] = velocity;
+			p.velocityDiff[i] = velocityDiff;
+		}
+
+		float angle = angleValue.newLowValue(random());
+		float angleDiff = angleValue.newHighValue(random());
+		if (!angleValue.isRelative()) angleDiff -= angle;
+		float alignAngle = 0;
+		if ((updateFlags & UPDATE_ANGLE) == 0) {
+			angle += angleDiff * angleValue.getScale(0);
+			alignAngle = angle;
+			p.angleCos[i] = MathUtils.cosDeg(angle);
+			p.angleSin[i] = MathUtils.sinDeg(angle);
+		}
+		p.angle[i] = angle;
+		p.angleDiff[i] = angleDiff;
+
+		float spriteWidth = sprite.getWidth();
+		float scale = scaleValue.newLowValue(random()) / spriteWidth;
+		float scaleDiff = scaleValue.newHighValue(random()) / spriteWidth;
+		if (!scaleValue.isRelative()) scaleDiff -= scale;
+		p.scale[i] = scale;
+		p.scaleDiff[i] = scaleDiff;
+		p.currentScale[i] = scale + scaleDiff * scaleValue.getScale(0);
+
+		if (rotationValue.active) {
+			float rotation = rotationValue.newLowValue(random());
+			float rotationDiff = rotationValue.newHighValue(random());
+			if (!rotationValue.isRelative()) rotationDiff -= rotation;
+			p.rotation[i] = rotation;
+			p.rotationDiff[i] = rotationDiff;
+			rotation += rotationDiff * rotationValue.getScale(0);
+			if (aligned) rotation += alignAngle;
+			p.currentRotation[i] = rotation;
+		} else {
+			p.rotation[i] = 0;
+			p.rotationDiff[i] = 0;
+			p.currentRotation[i] = 0;
+		}
+
+		if (windValue.active) {
+			float wind = windValue.newLowValue(random());
+			float windDiff = windValue.newHighValue(random());
+			if (!windValue.isRelative()) windDiff -= wind;
+			p.wind[i] = wind;
+			p.windDiff[i] = windDiff;
+		}
+
+		if (gravityValue.active) {
+			float gravity = gravityValue.newLowValue(random());
+			float gravityDiff = gravityValue.newHighValue(random());
+			if (!gravityValue.isRelative()) gravityDiff -= gravity;
+			p.gravity[i] = gravity;
+			p.gravityDiff[i] = gravityDiff;
+		}
+
+		float[] color = tintValue.getColor(0);
+		float[] tint = p.tint;
+		tint[i * 3] = color[0];
+		tint[i * 3 + 1] = color[1];
+		tint[i * 3 + 2] = color[2];
+
+		float transparency = transparencyValue.newLowValue(random());
+		float transparencyDiff = transparencyValue.newHighValue(random()) - transparency;
+		p.transparency[i] = transparency;
+		p.transparencyDiff[i] = transparencyDiff;
+		p.color[i] = packColor(color[0], color[1], color[2], transparency + transparencyDiff * transparencyValue.getScale(0));
+
+		if (spawn(percent) && (updateFlags & UPDATE_ANGLE) == 0) {
+			p.angle[i] = spawnAngle;
+			p.angleCos[i] = spawnAngleCos;
+			p.angleSin[i] = spawnAngleSin;
+		}
+		p.x[i] = spawnX - spriteWidth / 2;
+		p.y[i] = spawnY - sprite.getHeight() / 2;
+	}
+
+	/** Updates the live packed particles, moving those that die to the end of the live list.
+	 * @return The number of particles still alive. */
+	private int updatePackedParticles (float delta, int deltaMillis) {
+		ParticleArrays p = packedParticles;
+		int[] live = p.live, life = p.life, currentLife = p.currentLife;
+		float[] scale = p.scale, scaleDiff = p.scaleDiff, currentScale = p.currentScale;
+		float[] rotation = p.rotation, rotationDiff = p.rotationDiff, currentRotation = p.currentRotation;
+		float[] velocity = p.velocity, velocityDiff = p.velocityDiff;
+		float[] angle = p.angle, angleDiff = p.angleDiff, angleCos = p.angleCos, angleSin = p.angleSin;
+		float[] wind = p.wind, windDiff = p.windDiff, gravity = p.gravity, gravityDiff = p.gravityDiff;
+		float[] transparency = p.transparency, transparencyDiff = p.transparencyDiff, tint = p.tint;
+		float[] x = p.x, y = p.y, color = p.color;
+		int updateFlags = this.updateFlags;
+		boolean aligned = this.aligned;
+
+		int activeCount = this.activeCount;
+		for (int ii = 0; ii < activeCount;) {
+			int i = live[ii];
+			int remaining = currentLife[i] - deltaMillis;
+			if (remaining <= 0) {
+				// Swap the dead particle with the last live one, which is updated next.
+				activeCount--;
+				live[ii] = live[activeCount];
+				live[activeCount] = i;
+				continue;
+			}
+			currentLife[i] = remaining;
+			ii++;
+
+			float percent = 1 - remaining / (float)life[i];
+
+			if ((updateFlags & UPDATE_SCALE) != 0) currentScale[i] = scale[i] + scaleDiff[i] * scaleValue.getScale(percent);
+
+			if ((updateFlags & UPDATE_VELOCITY) != 0) {
+				float particleVelocity = (velocity[i] + velocityDiff[i] * velocityValue.getScale(percent)) * delta;
+
+				float velocityX, velocityY;
+				if ((updateFlags & UPDATE_ANGLE) != 0) {
+					float particleAngle = angle[i] + angleDiff[i] * angleValue.getScale(percent);
+					velocityX = particleVelocity * MathUtils.cosDeg(particleAngle);
+					velocityY = particleVelocity * MathUtils.sinDeg(particleAngle);
+					if ((updateFlags & UPDATE_ROTATION) != 0) {
+						float particleRotation = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent);
+						if (aligned) particleRotation += particleAngle;
+						currentRotation[i] = particleRotation;
+					}
+				} else {
+					velocityX = particleVelocity * angleCos[i];
+					velocityY = particleVelocity * angleSin[i];
+					if (aligned || (updateFlags & UPDATE_ROTATION) != 0) {
+						float particleRotation = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent);
+						if (aligned) particleRotation += angle[i];
+						currentRotation[i] = particleRotation;
+					}
+				}
+
+				if ((updateFlags & UPDATE_WIND) != 0) velocityX += (wind[i] + windDiff[i] * windValue.getScale(percent)) * delta;
+
+				if ((updateFlags & UPDATE_GRAVITY) != 0)
+					velocityY += (gravity[i] + gravityDiff[i] * gravityValue.getScale(percent)) * delta;
+
+				x[i] += velocityX;
+				y[i] += velocityY;
+			} else {
+				if ((updateFlags & UPDATE_ROTATION) != 0)
+					currentRotation[i] = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent);
+			}
+
+			float alpha = transparency[i] + transparencyDiff[i] * transparencyValue.getScale(percent);
+			if ((updateFlags & UPDATE_TINT) != 0) {
+				float[] tintColor = tintValue.getColor(percent);
+				color[i] = packColor(tintColor[0], tintColor[1], tintColor[2], alpha);
+			} else
+				color[i] = packColor(tint[i * 3], tint[i * 3 + 1], tint[i * 3 + 2], alpha);
+		}
+		return activeCount;
+	}
+
+	static private float packColor (float r, float g, float b, float a) {
+		return NumberUtils.intToFloatColor(((int)(255 * a) << 24) | ((int)(255 * b) << 16) | ((int)(255 * g) << 8) | ((int)(255 * r)));
+	}
+
+	private void drawPackedParticles (SpriteBatch spriteBatch) {
+		int activeCount = this.activeCount;
+		if (activeCount == 0) return;
+		float[] vertices = packedVertices;
+		if (vertices == null) packedVertices = vertices = new float[Math.min(maxParticleCount, 256) * Sprite.SPRITE_SIZE];
+		Texture texture = sprite.getTexture();
+		for (int start = 0; start < activeCount;) {
+			int count = getVertices(start, vertices, 0);
+			spriteBatch.draw(texture, vertices, 0, count * Sprite.SPRITE_SIZE);
+			start += count;
+		}
+	}
+
+	/** Writes the vertices of live particles to the array in the format used by
+	 * {@link SpriteBatch#draw(Texture, float[], int, int)}, 20 floats per particle. The emitter must be {@link #setPacked(boolean)
+	 * packed}. All particles use the texture of the emitter's sprite.
+	 * @param start The index of the first live particle to write, from 0 to {@link #getActiveCount()}.
+	 * @return The number of particles written, which is less than requested if the array is too small. */
+	public int getVertices (int start, float[] vertices, int offset) {
+		if (!packed) throw new IllegalStateException("The emitter is not packed.");
+		int count = Math.min(activeCount - start, (vertices.length - offset) / Sprite.SPRITE_SIZE);
+		if (count <= 0) return 0;
+
+		// The sprite may be shared with other emitters, so it is only read.
+		Sprite sprite = this.sprite;
+		float u = sprite.getU(), v = sprite.getV(), u2 = sprite.getU2(), v2 = sprite.getV2();
+		if (flipX) {
+			float temp = u;
+			u = u2;
+			u2 = temp;
+		}
+		if (flipY) {
+			float temp = v;
+			v = v2;
+			v2 = temp;
+		}
+		float originX = sprite.getOriginX(), originY = sprite.getOriginY();
+		float left = -originX, bottom = -originY;
+		float right = left + sprite.getWidth(), top = bottom + sprite.getHeight();
+
+		ParticleArrays p = packedParticles;
+		int[] live = p.live;
+		float[] x = p.x, y = p.y, currentScale = p.currentScale, currentRotation = p.currentRotation, color = p.color;
+		for (int ii = start, n = start + count; ii < n; ii++) {
+			int i = live[ii];
+			float worldOriginX = x[i] + originX;
+			float worldOriginY = y[i] + originY;
+			float scale = currentScale[i];
+			float localX = left * scale, localY = bottom * scale, localX2 = right * scale, localY2 = top * scale;
+			float x1, y1, x2, y2, x3, y3, x4, y4;
+			float rotation = currentRotation[i];
+			if (rotation != 0) {
+				float cos = MathUtils.cosDeg(rotation);
+				float sin = MathUtils.sinDeg(rotation);
+				x1 = localX * cos - localY * sin + worldOriginX;
+				y1 = localY * cos + localX * sin + worldOriginY;
+				x2 = localX * cos - localY2 * sin + worldOriginX;
+				y2 = localY2 * cos + localX * sin + worldOriginY;
+				x3 = localX2 * cos - localY2 * sin + worldOriginX;
+				y3 = localY2 * cos + localX2 * sin + worldOriginY;
+				x4 = x1 + (x3 - x2);
+				y4 = y3 - (y2 - y1);
+			} else {
+				x1 = x2 = localX + worldOriginX;
+				y1 = y4 = localY + worldOriginY;
+				x3 = x4 = localX2 + worldOriginX;
+				y2 = y3 = localY2 + worldOriginY;
+			}
+			float c = color[i];
+			vertices[offset++] = x1;
+			vertices[offset++] = y1;
+			vertices[offset++] = c;
+			vertices[offset++] = u;
+			vertices[offset++] = v2;
+			vertices[offset++] = x2;
+			vertices[offset++] = y2;
+			vertices[offset++] = c;
+			vertices[offset++] = u;
+			vertices[offset++] = v;
+			vertices[offset++] = x3;
+			vertices[offset++] = y3;
+			vertices[offset++] = c;
+			vertices[offset++] = u2;
+			vertices[offset++] = v;
+			vertices[offset++] = x4;
+			vertices[offset++] = y4;
+			vertices[offset++] = c;
+			vertices[offset++] = u2;
+			vertices[offset++] = v2;
+		}
+		return count;
+	}
+
 	public void setPosition (float x, float y) {
 		if (attached) {
 			float xAmount = x - this.x;
 			float yAmount = y - this.y;
-			boolean[] active = this.active;
-			for (int i = 0, n = active.length; i < n; i++)
-				if (active[i]) particles[i].translate(xAmount, yAmount);
+			if (packed) {
+				int[] live = packedParticles.live;
+				float[] particleX = packedParticles.x, particleY = packedParticles.y;
+				for (int ii = 0, n = activeCount; ii < n; ii++) {
+					int i = live[ii];
+					particleX[i] += xAmount;
+					particleY[i] += yAmount;
+				}
+			} else {
+				boolean[] active = this.active;
+				for (int i = 0, n = active.length; i < n; i++)
+					if (active[i]) particles[i].translate(xAmount, yAmount);
+			}
 		}
 		this.x = x;
 		this.y = y;
@@ -564,7 +919,7 @@ public class ParticleEmitter {
 
 	public void setSprite (Sprite sprite) {
 		this.sprite = sprite;
-		if (sprite == null) return;
+		if (sprite == null || particles == null) return;
 		float originX = sprite.getOriginX();
 		float originY = sprite.getOriginY();
 		Texture texture = sprite.getTexture();
@@ -897,6 +1252,55 @@ public class ParticleEmitter {
 		}
 	}
 
+	/** The state of all particles of a packed emitter, one entry per particle in each array. The first activeCount entries of
+	 * live are the indices of the live particles, the rest are the free indices. */
+	static class ParticleArrays {
+		final int[] live;
+		final int[] life, currentLife;
+		final float[] scale, scaleDiff;
+		final float[] rotation, rotationDiff;
+		final float[] velocity, velocityDiff;
+		final float[] angle, angleDiff;
+		final float[] angleCos, angleSin;
+		final float[] transparency, transparencyDiff;
+		final float[] wind, windDiff;
+		final float[] gravity, gravityDiff;
+		/** Three entries per particle. */
+		final float[] tint;
+		/** The bottom left corner, scale, rotation and packed color the vertices are computed from. */
+		final float[] x, y, currentScale, currentRotation, color;
+
+		ParticleArrays (int size) {
+			live = new int[size];
+			for (int i = 0; i < size; i++)
+				live[i] = i;
+			life = new int[size];
+			currentLife = new int[size];
+			scale = new float[size];
+			scaleDiff = new float[size];
+			rotation = new float[size];
+			rotationDiff = new float[size];
+			velocity = new float[size];
+			velocityDiff = new float[size];
+			angle = new float[size];
+			angleDiff = new float[size];
+			angleCos = new float[size];
+			angleSin = new float[size];
+			transparency = new float[size];
+			transparencyDiff = new float[size];
+			wind = new float[size];
+			windDiff = new float[size];
+			gravity = new float[size];
+			gravityDiff = new float[size];
+			tint = new float[size * 3];
+			x = new float[size];
+			y = new float[size];
+			currentScale = new float[size];
+			currentRotation = new float[size];
+			color = new float[size];
+		}
+	}
+
 	static public class ParticleValue {
 		boolean active;
 		boolean alwaysActive;
@@ -970,7 +1374,11 @@ public class ParticleEmitter {
 		private float lowMin, lowMax;
 
 		public float newLowValue () {
-			return lowMin + (lowMax - lowMin) * MathUtils.random();
+			return newLowValue(MathUtils.random);
+		}
+
+		public float newLowValue (Random random) {
+			return lowMin + (lowMax - lowMin) * random.nextFloat();
 		}
 
 		public void setLow (float value) {
@@ -1027,7 +1435,11 @@ public class ParticleEmitter {
 		private boolean relative;
 
 		public float newHighValue () {
-			return highMin + (highMax - highMin) * MathUtils.random();
+			return newHighValue(MathUtils.random);
+		}
+
+		public float newHighValue (Random random) {
+			return highMin + (highMax - highMin) * random.nextFloat();
 		}
 
 		public void setHigh (float value) {
@@ -1140,7 +1552,7 @@ public class ParticleEmitter {
 	}
 
 	static public class GradientColorValue extends ParticleValue {
-		static private float[] temp = new float[4];
+		private final float[] temp = new float[4];
 
 		private float[] colors = {1, 1, 1};
 		float[] timeline = {0};
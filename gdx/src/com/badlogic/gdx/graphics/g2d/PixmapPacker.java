@@ -22,6 +22,7 @@ import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
 import com.badlogic.gdx.math.Rectangle;
@@ -37,6 +38,14 @@ import com.badlogic.gdx.utils.OrderedMap;
  * packer supports padding and border pixel duplication, specified during construction. The packer supports incremental inserts
  * and updates of TextureAtlases generated with this class.</p>
  * 
+ * Where the pixmaps are placed is decided by a {@link PackStrategy}. The default {@link GuillotineStrategy} is fast, while
+ * {@link MaxRectsStrategy} and {@link SkylineStrategy} fill pages more densely, so fewer pages are needed. Pixmaps can be
+ * {@link #remove(String) removed} to make their space available to later pixmaps.</p>
+ * 
+ * Each page tracks the areas changed since its texture was last updated, so {@link #updateTextureAtlas(TextureAtlas,
+ * TextureFilter, TextureFilter, boolean)} uploads only those areas. The bytes uploaded per update can be limited with
+ * {@link #setUploadBudget(int)}.</p>
+ * 
  * All methods except {@link #getPage(String)} and {@link #getPages()} are thread safe. The methods {@link #generateTextureAtlas(TextureFilter, TextureFilter)}
  * and {@link #updateTextureAtlas(TextureAtlas, TextureFilter, TextureFilter)} need to be called on the rendering thread, all
  * other methods can be called from any thread.</p>
@@ -104,16 +113,45 @@ public class PixmapPacker implements Disposable {
 		}
 	}
 	
-	public class Page {
-		Node root;
-		OrderedMap<String, Rectangle> rects;
+	static public class Page {
+		OrderedMap<String, Rectangle> rects = new OrderedMap<String, Rectangle>();
 		Pixmap image;
 		Texture texture;
 		Array<String> addedRects = new Array<String>();
+		/** Areas of the pixmap changed since the texture was last updated, merged when they overlap or touch. */
+		final Array<Rectangle> dirtyRects = new Array<Rectangle>();
+		int usedArea;
+
+		public Page (PixmapPacker packer) {
+			image = new Pixmap(packer.pageWidth, packer.pageHeight, packer.pageFormat);
+		}
 		
 		public Pixmap getPixmap() {
 			return image;
 		}
+
+		/** @return the number of pixels used by the packed pixmaps, including padding and duplicated borders. */
+		public int getUsedArea () {
+			return usedArea;
+		}
+
+		void addDirtyRect (Rectangle rect) {
+			Rectangle dirty = new Rectangle(rect);
+			for (int i = dirtyRects.size - 1; i >= 0; i--) {
+				Rectangle other = dirtyRects.get(i);
+				if (other.x > dirty.x + dirty.width || other.x + other.width < dirty.x || other.y > dirty.y + dirty.height
+					|| other.y + other.height < dirty.y) continue;
+				float x = Math.min(dirty.x, other.x), y = Math.min(dirty.y, other.y);
+				dirty.width = Math.max(dirty.x + dirty.width, other.x + other.width) - x;
+				dirty.height = Math.max(dirty.y + dirty.height, other.y + other.height) - y;
+				dirty.x = x;
+				dirty.y = y;
+				dirtyRects.removeIndex(i);
+				// The merged area may now touch rectangles that were already checked.
+				i = dirtyRects.size;
+			}
+			dirtyRects.add(dirty);
+		}
 	}
 
 	final int pageWidth;
@@ -121,8 +159,9 @@ public class PixmapPacker implements Disposable {
 	final Format pageFormat;
 	final int padding;
 	final boolean duplicateBorder;
+	final PackStrategy strategy;
 	final Array<Page> pages = new Array<Page>();
-	Page currPage;
+	int uploadBudget;
 	boolean disposed;
 
 	/** <p>
@@ -136,17 +175,24 @@ public class PixmapPacker implements Disposable {
 	 * @param padding the number of padding pixels
 	 * @param duplicateBorder whether to duplicate the border */
 	public PixmapPacker (int width, int height, Format format, int padding, boolean duplicateBorder) {
+		this(width, height, format, padding, duplicateBorder, new GuillotineStrategy());
+	}
+
+	/** Creates a new ImagePacker that places the images using the specified strategy.
+	 * @see #PixmapPacker(int, int, Format, int, boolean) */
+	public PixmapPacker (int width, int height, Format format, int padding, boolean duplicateBorder, PackStrategy strategy) {
 		this.pageWidth = width;
 		this.pageHeight = height;
 		this.pageFormat = format;
 		this.padding = padding;
 		this.duplicateBorder = duplicateBorder;
+		this.strategy = strategy;
 		newPage();
 	}
 
 	/** <p>
 	 * Inserts the given {@link Pixmap}. You can later on retrieve the images position in the output image via the supplied name and the
-	 * method {@link #getRect(String)}.
+	 * method {@link #getRect(String)}. The existing pages are tried in order before a new page is created.
 	 * </p>
 	 * 
 	 * @param name the name of the image
@@ -159,107 +205,99 @@ public class PixmapPacker implements Disposable {
 		int borderPixels = padding + (duplicateBorder ? 1 : 0);
 		borderPixels <<= 1;
 
-		if(image.getWidth() >= pageWidth + borderPixels|| image.getHeight() >= pageHeight + borderPixels) throw new GdxRuntimeException("page size for '" + name + "' to small");
-
 		Rectangle rect = new Rectangle(0, 0, image.getWidth() + borderPixels, image.getHeight() + borderPixels);
-		Node node = insert(currPage.root, rect);
-
-		if (node == null) {
-			newPage();
-			return pack(name, image);
+		// Checked before any page is tried, so an image that can never fit does not leave an empty page behind.
+		if (rect.width > pageWidth || rect.height > pageHeight) throw new GdxRuntimeException("page size for '" + name + "' to small");
+		Page page = null;
+		for (int i = 0; i < pages.size; i++) {
+			if (strategy.pack(pages.get(i), name, rect)) {
+				page = pages.get(i);
+				break;
+			}
 		}
+		if (page == null) {
+			page = newPage();
+			if (!strategy.pack(page, name, rect)) throw new GdxRuntimeException("page size for '" + name + "' to small");
+		}
+		page.usedArea += (int)rect.width * (int)rect.height;
+		page.addDirtyRect(rect);
 
-		node.leaveName = name;
-		rect = new Rectangle(node.rect);
 		rect.width -= borderPixels;
 		rect.height -= borderPixels;
 		borderPixels >>= 1;
 		rect.x += borderPixels;
 		rect.y += borderPixels;
-		currPage.rects.put(name, rect);
+		page.rects.put(name, rect);
 
 		Blending blending = Pixmap.getBlending();
 		Pixmap.setBlending(Blending.None);
-		this.currPage.image.drawPixmap(image, (int)rect.x, (int)rect.y);
+		page.image.drawPixmap(image, (int)rect.x, (int)rect.y);
 		Pixmap.setBlending(blending);
 
 		// not terribly efficient (as the rest of the code) but will do :p
 		if (duplicateBorder) {
-			this.currPage.image.drawPixmap(image, (int)rect.x, (int)rect.y - 1, (int)rect.x + (int)rect.width, (int)rect.y, 0, 0, image.getWidth(), 1);
-			this.currPage.image.drawPixmap(image, (int)rect.x, (int)rect.y + (int)rect.height, (int)rect.x + (int)rect.width, (int)rect.y + (int)rect.height + 1, 0,
+			page.image.drawPixmap(image, (int)rect.x, (int)rect.y - 1, (int)rect.x + (int)rect.width, (int)rect.y, 0, 0, image.getWidth(), 1);
+			page.image.drawPixmap(image, (int)rect.x, (int)rect.y + (int)rect.height, (int)rect.x + (int)rect.width, (int)rect.y + (int)rect.height + 1, 0,
 				image.getHeight() - 1, image.getWidth(), image.getHeight());
 
-			this.currPage.image.drawPixmap(image, (int)rect.x - 1, (int)rect.y, (int)rect.x, (int)rect.y + (int)rect.height, 0, 0, 1, image.getHeight());
-			this.currPage.image.drawPixmap(image, (int)rect.x + (int)rect.width, (int)rect.y, (int)rect.x + (int)rect.width + 1, (int)rect.y + (int)rect.height, image.getWidth() - 1, 0,
+			page.image.drawPixmap(image, (int)rect.x - 1, (int)rect.y, (int)rect.x, (int)rect.y + (int)rect.height, 0, 0, 1, image.getHeight());
+			page.image.drawPixmap(image, (int)rect.x + (int)rect.width, (int)rect.y, (int)rect.x + (int)rect.width + 1, (int)rect.y + (int)rect.height, image.getWidth() - 1, 0,
 				image.getWidth(), image.getHeight());
 
-			this.currPage.image.drawPixmap(image, (int)rect.x - 1, (int)rect.y - 1, (int)rect.x, (int)rect.y, 0, 0, 1, 1);
-			this.currPage.image.drawPixmap(image, (int)rect.x + (int)rect.width, (int)rect.y - 1, (int)rect.x + (int)rect.width + 1, (int)rect.y, image.getWidth() - 1, 0,
+			page.image.drawPixmap(image, (int)rect.x - 1, (int)rect.y - 1, (int)rect.x, (int)rect.y, 0, 0, 1, 1);
+			page.image.drawPixmap(image, (int)rect.x + (int)rect.width, (int)rect.y - 1, (int)rect.x + (int)rect.width + 1, (int)rect.y, image.getWidth() - 1, 0,
 				image.getWidth(), 1);
 
-			this.currPage.image.drawPixmap(image, (int)rect.x - 1, (int)rect.y + (int)rect.height, (int)rect.x, (int)rect.y + (int)rect.height + 1, 0, image.getHeight() - 1, 1,
+			page.image.drawPixmap(image, (int)rect.x - 1, (int)rect.y + (int)rect.height, (int)rect.x, (int)rect.y + (int)rect.height + 1, 0, image.getHeight() - 1, 1,
 				image.getHeight());
-			this.currPage.image.drawPixmap(image, (int)rect.x + (int)rect.width, (int)rect.y + (int)rect.height, (int)rect.x + (int)rect.width + 1, (int)rect.y + (int)rect.height + 1,
+			page.image.drawPixmap(image, (int)rect.x + (int)rect.width, (int)rect.y + (int)rect.height, (int)rect.x + (int)rect.width + 1, (int)rect.y + (int)rect.height + 1,
 				image.getWidth() - 1, image.getHeight() - 1, image.getWidth(), image.getHeight());
 		}
-		currPage.addedRects.add(name);
+		page.addedRects.add(name);
 		return rect;
 	}
-	
-	private void newPage() {
-		Page page = new Page();
-		page.image = new Pixmap(pageWidth, pageHeight, pageFormat);
-		page.root =  new Node(0, 0, pageWidth, pageHeight, null, null, null);
-		page.rects = new OrderedMap<String, Rectangle>();
-		pages.add(page);
-		currPage = page;
-	}
-
-	private Node insert (Node node, Rectangle rect) {
-		if (node.leaveName == null && node.leftChild != null && node.rightChild != null) {
-			Node newNode = null;
-
-			newNode = insert(node.leftChild, rect);
-			if (newNode == null) newNode = insert(node.rightChild, rect);
-
-			return newNode;
-		} else {
-			if (node.leaveName != null) return null;
-
-			if (node.rect.width == rect.width && node.rect.height == rect.height) return node;
-
-			if (node.rect.width < rect.width || node.rect.height < rect.height) return null;
-
-			node.leftChild = new Node();
-			node.rightChild = new Node();
 
-			int deltaWidth = (int)node.rect.width - (int)rect.width;
-			int deltaHeight = (int)node.rect.height - (int)rect.height;
-
-			if (deltaWidth > deltaHeight) {
-				node.leftChild.rect.x = node.rect.x;
-				node.leftChild.rect.y = node.rect.y;
-				node.leftChild.rect.width = rect.width;
-				node.leftChild.rect.height = node.rect.height;
-
-				node.rightChild.rect.x = node.rect.x + rect.width;
-				node.rightChild.rect.y = node.rect.y;
-				node.rightChild.rect.width = node.rect.width - rect.width;
-				node.rightChild.rect.height = node.rect.height;
-			} else {
-				node.leftChild.rect.x = node.rect.x;
-				node.leftChild.rect.y = node.rect.y;
-				node.leftChild.rect.width = node.rect.width;
-				node.leftChild.rect.height = rect.height;
-
-				node.rightChild.rect.x = node.rect.x;
-				node.rightChild.rect.y = node.rect.y + rect.height;
-				node.rightChild.rect.width = node.rect.width;
-				node.rightChild.rect.height = node.rect.height - rect.height;
-			}
-
-			return insert(node.leftChild, rect);
+	/** Removes the image with the specified name, clearing its pixels and making its space available to images packed later. A
+	 * {@link TextureAtlas} generated or updated by this packer keeps its region for the image, which must no longer be drawn. If an
+	 * image with the same name is packed again, {@link #updateTextureAtlas(TextureAtlas, TextureFilter, TextureFilter, boolean)}
+	 * moves that region to the new image instead of adding a second region with the name.
+	 * @return false if there is no image with the name. */
+	public synchronized boolean remove (String name) {
+		for (Page page : pages) {
+			Rectangle rect = page.rects.remove(name);
+			if (rect == null) continue;
+			page.addedRects.removeValue(name, false);
+
+			int borderPixels = padding + (duplicateBorder ? 1 : 0);
+			rect = new Rectangle(rect.x - borderPixels, rect.y - borderPixels, rect.width + borderPixels * 2, rect.height
+				+ borderPixels * 2);
+			page.usedArea -= (int)rect.width * (int)rect.height;
+
+			Blending blending = Pixmap.getBlending();
+			Pixmap.setBlending(Blending.None);
+			page.image.setColor(0, 0, 0, 0);
+			page.image.fillRectangle((int)rect.x, (int)rect.y, (int)rect.width, (int)rect.height);
+			Pixmap.setBlending(blending);
+			page.addDirtyRect(rect);
+
+			strategy.remove(page, name, rect);
+			return true;
 		}
+		return false;
+	}
+
+	/** @return the fraction of the area of all pages that is used by packed images, between 0 and 1. */
+	public synchronized float getOccupancy () {
+		long usedArea = 0;
+		for (Page page : pages)
+			usedArea += page.usedArea;
+		return usedArea / ((float)pageWidth * pageHeight * pages.size);
+	}
+	
+	private Page newPage() {
+		Page page = strategy.newPage(this);
+		pages.add(page);
+		return page;
 	}
 
 	/** @return the {@link Page} instances created so far. This method is not thread safe! */
@@ -340,8 +378,13 @@ public class PixmapPacker implements Disposable {
 	 * Updates the given {@link TextureAtlas}, adding any new {@link Pixmap} instances packed since the last
 	 * call to this method. This can be used to insert Pixmap instances on a separate thread via {@link #pack(String, Pixmap)}
 	 * and update the TextureAtlas on the rendering thread. This method must be called on the rendering thread.
+	 * 
+	 * Only the areas of the pages changed since the last update are uploaded, unless the textures use mipmaps. If the
+	 * {@link #setUploadBudget(int) upload budget} is exceeded, the remaining areas are uploaded by later calls, and the regions
+	 * of a page are added to the atlas once all its areas have been uploaded.
 	 */
 	public synchronized void updateTextureAtlas(TextureAtlas atlas, TextureFilter minFilter, TextureFilter magFilter, boolean useMipMaps) {
+		int budget = uploadBudget > 0 ? uploadBudget : Integer.MAX_VALUE;
 		for(Page page: pages) {
 			if(page.texture == null) {
 				if(page.rects.size != 0 && page.addedRects.size > 0) {
@@ -353,28 +396,56 @@ public class PixmapPacker implements Disposable {
 						}
 					};
 					page.texture.setFilter(minFilter, magFilter);
-					
-					for(String name: page.addedRects) {
-						Rectangle rect = page.rects.get(name);
-						TextureRegion region = new TextureRegion(page.texture, (int)rect.x, (int)rect.y, (int)rect.width, (int)rect.height);
-						atlas.addRegion(name, region);
-					}
-					page.addedRects.clear();
+					page.dirtyRects.clear();
 				}
-			} else {
-				if(page.addedRects.size > 0) {
+			} else if(page.dirtyRects.size > 0) {
+				if(page.texture.getTextureData().useMipMaps()) {
 					page.texture.load(page.texture.getTextureData());
-					for(String name: page.addedRects) {
-						Rectangle rect = page.rects.get(name);
-						TextureRegion region = new TextureRegion(page.texture, (int)rect.x, (int)rect.y, (int)rect.width, (int)rect.height);
-						atlas.addRegion(name, region);
-					}
-					page.addedRects.clear();
-					return;
+					page.dirtyRects.clear();
+				} else if(budget > 0) {
+					budget -= PageUploader.upload(page, budget);
 				}
 			}
+			if(page.addedRects.size > 0 && page.dirtyRects.size == 0) {
+				for(String name: page.addedRects) {
+					Rectangle rect = page.rects.get(name);
+					AtlasRegion region = atlas.findRegion(name);
+					if (region != null) {
+						// The name was removed and packed again, so the region of the removed image now shows the new one.
+						atlas.getTextures().add(page.texture);
+						region.setTexture(page.texture);
+						region.setRegion((int)rect.x, (int)rect.y, (int)rect.width, (int)rect.height);
+						region.packedWidth = region.originalWidth = (int)rect.width;
+						region.packedHeight = region.originalHeight = (int)rect.height;
+						region.offsetX = region.offsetY = 0;
+						region.rotate = false;
+					} else
+						atlas.addRegion(name, new TextureRegion(page.texture, (int)rect.x, (int)rect.y, (int)rect.width, (int)rect.height));
+				}
+				page.addedRects.clear();
+			}
 		}
 	}
+
+	/** Limits the number of bytes uploaded to textures by each call to
+	 * {@link #updateTextureAtlas(TextureAtlas, TextureFilter, TextureFilter, boolean)}, spreading large changes over several
+	 * frames. At least one changed area is uploaded per call. Default is 0, which uploads all changes at once. On GWT, changed
+	 * pages are always uploaded whole. */
+	public synchronized void setUploadBudget (int bytes) {
+		this.uploadBudget = bytes;
+	}
+
+	public int getUploadBudget () {
+		return uploadBudget;
+	}
+
+	/** @return true if some changed areas have not been uploaded to the textures yet. */
+	public synchronized boolean hasPendingUploads () {
+		for(Page page: pages) {
+			if(page.texture != null && page.dirtyRects.size > 0) return true;
+		}
+		return false;
+	}
 	
 	public int getPageWidth () {
 		return pageWidth;
@@ -392,6 +463,306 @@ public class PixmapPacker implements Disposable {
 		return duplicateBorder;
 	}
 	
+	/** Chooses the positions of the images packed by a {@link PixmapPacker}. The rectangles passed to the strategy include the
+	 * padding and duplicated border of the image. */
+	static public interface PackStrategy {
+		/** @return a new empty page. It may be a subclass of {@link Page} holding the free space of the page. */
+		public Page newPage (PixmapPacker packer);
+
+		/** Finds room for the rectangle on the page and sets its position.
+		 * @return false if the rectangle does not fit on the page. */
+		public boolean pack (Page page, String name, Rectangle rect);
+
+		/** Makes the area of a removed rectangle available again. */
+		public void remove (Page page, String name, Rectangle rect);
+	}
+
+	/** Splits the free space of a page in two for each rectangle, keeping a binary tree of the splits. Packing is fast, but the
+	 * space on one side of a split cannot be combined with space on the other side, so pages are not filled as densely as with
+	 * {@link MaxRectsStrategy}. The area of a removed rectangle is only reused for rectangles that fit it. */
+	static public class GuillotineStrategy implements PackStrategy {
+		public Page newPage (PixmapPacker packer) {
+			GuillotinePage page = new GuillotinePage(packer);
+			page.root = new Node(0, 0, packer.pageWidth, packer.pageHeight, null, null, null);
+			return page;
+		}
+
+		public boolean pack (Page page, String name, Rectangle rect) {
+			Node node = insert(((GuillotinePage)page).root, rect);
+			if (node == null) return false;
+			node.leaveName = name;
+			rect.x = node.rect.x;
+			rect.y = node.rect.y;
+			return true;
+		}
+
+		public void remove (Page page, String name, Rectangle rect) {
+			Node node = find(((GuillotinePage)page).root, name);
+			if (node != null) node.leaveName = null;
+		}
+
+		private Node find (Node node, String name) {
+			if (name.equals(node.leaveName)) return node;
+			if (node.leftChild == null) return null;
+			Node found = find(node.leftChild, name);
+			if (found == null) found = find(node.rightChild, name);
+			return found;
+		}
+
+		private Node insert (Node node, Rectangle rect) {
+			if (node.leaveName == null && node.leftChild != null && node.rightChild != null) {
+				Node newNode = null;
+
+				newNode = insert(node.leftChild, rect);
+				if (newNode == null) newNode = insert(node.rightChild, rect);
+
+				return newNode;
+			} else {
+				if (node.leaveName != null) return null;
+
+				if (node.rect.width == rect.width && node.rect.height == rect.height) return node;
+
+				if (node.rect.width < rect.width || node.rect.height < rect.height) return null;
+
+				node.leftChild = new Node();
+				node.rightChild = new Node();
+
+				int deltaWidth = (int)node.rect.width - (int)rect.width;
+				int deltaHeight = (int)node.rect.height - (int)rect.height;
+
+				if (deltaWidth > deltaHeight) {
+					node.leftChild.rect.x = node.rect.x;
+					node.leftChild.rect.y = node.rect.y;
+					node.leftChild.rect.width = rect.width;
+					node.leftChild.rect.height = node.rect.height;
+
+					node.rightChild.rect.x = node.rect.x + rect.width;
+					node.rightChild.rect.y = node.rect.y;
+					node.rightChild.rect.width = node.rect.width - rect.width;
+					node.rightChild.rect.height = node.rect.height;
+				} else {
+					node.leftChild.rect.x = node.rect.x;
+					node.leftChild.rect.y = node.rect.y;
+					node.leftChild.rect.width = node.rect.width;
+					node.leftChild.rect.height = rect.height;
+
+					node.rightChild.rect.x = node.rect.x;
+					node.rightChild.rect.y = node.rect.y + rect.height;
+					node.rightChild.rect.width = node.rect.width;
+					node.rightChild.rect.height = node.rect.height - rect.height;
+				}
+
+				return insert(node.leftChild, rect);
+			}
+		}
+
+		static class GuillotinePage extends Page {
+			Node root;
+
+			public GuillotinePage (PixmapPacker packer) {
+				super(packer);
+			}
+		}
+	}
+
+	/** Keeps every maximal free rectangle of a page, which may overlap each other, and places each rectangle in the free
+	 * rectangle it fits best by the shorter leftover side. This fills pages densely at the cost of slower packing when there are
+	 * many free rectangles. The area of a removed rectangle becomes a free rectangle again. */
+	static public class MaxRectsStrategy implements PackStrategy {
+		public Page newPage (PixmapPacker packer) {
+			MaxRectsPage page = new MaxRectsPage(packer);
+			page.free.add(new Rectangle(0, 0, packer.pageWidth, packer.pageHeight));
+			return page;
+		}
+
+		public boolean pack (Page page, String name, Rectangle rect) {
+			Array<Rectangle> free = ((MaxRectsPage)page).free;
+			Rectangle best = null;
+			float bestShortSide = Float.MAX_VALUE, bestLongSide = Float.MAX_VALUE;
+			for (int i = 0, n = free.size; i < n; i++) {
+				Rectangle freeRect = free.get(i);
+				float leftoverX = freeRect.width - rect.width, leftoverY = freeRect.height - rect.height;
+				if (leftoverX < 0 || leftoverY < 0) continue;
+				float shortSide = Math.min(leftoverX, leftoverY), longSide = Math.max(leftoverX, leftoverY);
+				if (shortSide < bestShortSide || (shortSide == bestShortSide && longSide < bestLongSide)) {
+					best = freeRect;
+					bestShortSide = shortSide;
+					bestLongSide = longSide;
+				}
+			}
+			if (best == null) return false;
+			rect.x = best.x;
+			rect.y = best.y;
+
+			// Replace each free rectangle the placed rectangle overlaps with the up to 4 parts around it.
+			for (int i = free.size - 1; i >= 0; i--) {
+				Rectangle freeRect = free.get(i);
+				if (!overlaps(freeRect, rect)) continue;
+				free.removeIndex(i);
+				if (rect.x > freeRect.x) free.add(new Rectangle(freeRect.x, freeRect.y, rect.x - freeRect.x, freeRect.height));
+				if (rect.x + rect.width < freeRect.x + freeRect.width)
+					free.add(new Rectangle(rect.x + rect.width, freeRect.y, freeRect.x + freeRect.width - rect.x - rect.width,
+						freeRect.height));
+				if (rect.y > freeRect.y) free.add(new Rectangle(freeRect.x, freeRect.y, freeRect.width, rect.y - freeRect.y));
+				if (rect.y + rect.height < freeRect.y + freeRect.height)
+					free.add(new Rectangle(freeRect.x, rect.y + rect.height, freeRect.width, freeRect.y + freeRect.height - rect.y
+						- rect.height));
+			}
+			prune(free);
+			return true;
+		}
+
+		public void remove (Page page, String name, Rectangle rect) {
+			Array<Rectangle> free = ((MaxRectsPage)page).free;
+			free.add(new Rectangle(rect));
+			prune(free);
+		}
+
+		/** Removes the free rectangles contained by another. */
+		private void prune (Array<Rectangle> free) {
+			outer:
+			for (int i = free.size - 1; i >= 0; i--) {
+				Rectangle rect = free.get(i);
+				for (int ii = free.size - 1; ii >= 0; ii--) {
+					if (ii == i) continue;
+					Rectangle other = free.get(ii);
+					if (contains(other, rect)) {
+						free.removeIndex(i);
+						continue outer;
+					}
+				}
+			}
+		}
+
+		static class MaxRectsPage extends Page {
+			final Array<Rectangle> free = new Array();
+
+			public MaxRectsPage (PixmapPacker packer) {
+				super(packer);
+			}
+		}
+	}
+
+	/** Keeps the heights of the columns of a page filled so far, the skyline, and places each rectangle where it ends lowest. This
+	 * is fast and fills pages densely when the rectangles have similar heights, such as glyphs. Space below the skyline that a
+	 * rectangle was placed over is lost. The areas of removed rectangles are kept in a free list, which is tried first. */
+	static public class SkylineStrategy implements PackStrategy {
+		public Page newPage (PixmapPacker packer) {
+			SkylinePage page = new SkylinePage(packer);
+			page.width = packer.pageWidth;
+			page.height = packer.pageHeight;
+			page.skyline.add(new Rectangle(0, 0, packer.pageWidth, 0));
+			return page;
+		}
+
+		public boolean pack (Page page, String name, Rectangle rect) {
+			SkylinePage skylinePage = (SkylinePage)page;
+			if (packFree(skylinePage.free, rect)) return true;
+
+			// Find the segment where the rectangle ends lowest, then where it is narrowest.
+			Array<Rectangle> skyline = skylinePage.skyline;
+			int bestIndex = -1;
+			float bestBottom = Float.MAX_VALUE, bestWidth = Float.MAX_VALUE;
+			for (int i = 0, n = skyline.size; i < n; i++) {
+				Rectangle segment = skyline.get(i);
+				if (segment.x + rect.width > skylinePage.width) break;
+				float y = segment.y, widthLeft = rect.width;
+				for (int ii = i; widthLeft > 0; ii++) {
+					Rectangle covered = skyline.get(ii);
+					y = Math.max(y, covered.y);
+					widthLeft -= covered.width;
+				}
+				float bottom = y + rect.height;
+				if (bottom > skylinePage.height) continue;
+				if (bottom < bestBottom || (bottom == bestBottom && segment.width < bestWidth)) {
+					bestIndex = i;
+					bestBottom = bottom;
+					bestWidth = segment.width;
+				}
+			}
+			if (bestIndex == -1) return false;
+			rect.x = skyline.get(bestIndex).x;
+			rect.y = bestBottom - rect.height;
+
+			// Replace the covered parts of the skyline with a segment at the bottom of the rectangle.
+			skyline.insert(bestIndex, new Rectangle(rect.x, bestBottom, rect.width, 0));
+			float right = rect.x + rect.width;
+			for (int i = bestIndex + 1; i < skyline.size;) {
+				Rectangle segment = skyline.get(i);
+				if (segment.x >= right) break;
+				float segmentRight = segment.x + segment.width;
+				if (segmentRight <= right) {
+					skyline.removeIndex(i);
+					continue;
+				}
+				segment.width = segmentRight - right;
+				segment.x = right;
+				break;
+			}
+			// Merge segments at the same height.
+			for (int i = skyline.size - 1; i > 0; i--) {
+				Rectangle segment = skyline.get(i), previous = skyline.get(i - 1);
+				if (segment.y == previous.y) {
+					previous.width += segment.width;
+					skyline.removeIndex(i);
+				}
+			}
+			return true;
+		}
+
+		/** Places the rectangle in the smallest free rectangle it fits, splitting the remaining space in two. */
+		private boolean packFree (Array<Rectangle> free, Rectangle rect) {
+			int bestIndex = -1;
+			float bestArea = Float.MAX_VALUE;
+			for (int i = 0, n = free.size; i < n; i++) {
+				Rectangle freeRect = free.get(i);
+				if (freeRect.width < rect.width || freeRect.height < rect.height) continue;
+				float area = freeRect.width * freeRect.height;
+				if (area < bestArea) {
+					bestIndex = i;
+					bestArea = area;
+				}
+			}
+			if (bestIndex == -1) return false;
+			Rectangle freeRect = free.removeIndex(bestIndex);
+			rect.x = freeRect.x;
+			rect.y = freeRect.y;
+			float leftoverX = freeRect.width - rect.width, leftoverY = freeRect.height - rect.height;
+			if (leftoverX > leftoverY) {
+				if (leftoverX > 0) free.add(new Rectangle(rect.x + rect.width, rect.y, leftoverX, freeRect.height));
+				if (leftoverY > 0) free.add(new Rectangle(rect.x, rect.y + rect.height, rect.width, leftoverY));
+			} else {
+				if (leftoverY > 0) free.add(new Rectangle(rect.x, rect.y + rect.height, freeRect.width, leftoverY));
+				if (leftoverX > 0) free.add(new Rectangle(rect.x + rect.width, rect.y, leftoverX, rect.height));
+			}
+			return true;
+		}
+
+		public void remove (Page page, String name, Rectangle rect) {
+			((SkylinePage)page).free.add(new Rectangle(rect));
+		}
+
+		static class SkylinePage extends Page {
+			/** Segments of the skyline from left to right, using x, y and width. */
+			final Array<Rectangle> skyline = new Array();
+			final Array<Rectangle> free = new Array();
+			int width, height;
+
+			public SkylinePage (PixmapPacker packer) {
+				super(packer);
+			}
+		}
+	}
+
+	static boolean overlaps (Rectangle a, Rectangle b) {
+		return a.x < b.x + b.width && a.x + a.width > b.x && a.y < b.y + b.height && a.y + a.height > b.y;
+	}
+
+	/** @return whether a contains b, including when their edges touch. */
+	static boolean contains (Rectangle a, Rectangle b) {
+		return b.x >= a.x && b.y >= a.y && b.x + b.width <= a.x + a.width && b.y + b.height <= a.y + a.height;
+	}
+
 	public class ManagedPixmapTextureData extends PixmapTextureData {
 		public ManagedPixmapTextureData (Pixmap pixmap, Format format, boolean useMipMaps) {
 			super(pixmap, format, useMipMaps, false);
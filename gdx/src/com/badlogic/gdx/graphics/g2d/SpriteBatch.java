@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g2d;
 
+import java.nio.IntBuffer;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL10;
@@ -30,8 +32,13 @@ import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.TimeUtils;
 
 /** <p>
  * A SpriteBatch is used to draw 2D rectangles that reference a texture (region). The class will batch the drawing commands and
@@ -107,6 +114,30 @@ public class SpriteBatch implements Disposable {
 	/** the maximum number of sprites rendered in one batch so far **/
 	public int maxSpritesInBatch = 0;
 	private ShaderProgram customShader = null;
+
+	/** The number of textures a batch can use, 1 unless multi-texturing is enabled. */
+	private final int textureUnits;
+	private final Texture[] textureSlots;
+	private int textureSlotCount;
+	/** The texture slot written to the vertices of the sprites drawn next, which have 6 floats with multiple texture units. */
+	private float textureSlot;
+	/** The number of floats per sprite, 24 with multiple texture units, else {@link Sprite#SPRITE_SIZE}. */
+	private final int spriteSize;
+	/** The locations of the "u_textures" array elements in the default shader, only used with multiple texture units. */
+	private int[] textureLocations;
+
+	private boolean reordering;
+	/** Triples of vertex index, blend source and blend destination function, each starting a run of sprites using the texture at
+	 * the same index in {@link #reorderTextures}. The source function is -1 if blending is disabled. */
+	private final IntArray reorderRuns = new IntArray();
+	private final Array<Texture> reorderTextures = new Array(Texture.class);
+	/** Allocated when reordering is first enabled. */
+	private float[] reorderVertices, bucketBounds;
+	private int[] bucketRuns, bucketFirst, bucketLast, bucketEnds, spriteNext;
+
+	private boolean profiling;
+	/** Collected while {@link #setProfiling(boolean) profiling} is enabled. Never reset by the SpriteBatch. */
+	public final Stats stats = new Stats();
 	
 	/** Constructs a new SpriteBatch. Sets the projection matrix to an orthographic projection with y-axis point upwards, x-axis
 	 * point to the right and the origin being in the bottom left corner of the screen. The projection will be pixel perfect with
@@ -169,17 +200,44 @@ public class SpriteBatch implements Disposable {
 	 * @param buffers the number of buffers to use. only makes sense with VBOs. This is an expert function.
 	 * @param defaultShader the default shader to use. This is not owned by the SpriteBatch and must be disposed separately. */
 	public SpriteBatch (int size, int buffers, ShaderProgram defaultShader) {
+		this(size, buffers, defaultShader, 1);
+	}
+
+	/** Constructs a SpriteBatch that, with GLES 2.0, binds up to the specified number of textures at once, so drawing with a
+	 * different texture only renders the batch when all the texture units are in use. Each vertex gets a float attribute called
+	 * {@link #TEXTURE_INDEX_ATTRIBUTE} with the texture unit of the sprite, and the textures are passed via a sampler2D array
+	 * uniform called "u_textures". If the defaultShader is null, one is created by {@link #createMultiTextureShader(int)}. A
+	 * shader set via {@link #setShader(ShaderProgram)} is used with a single texture as usual.
+	 * @param textureUnits the maximum number of textures in a batch, limited to what the GPU supports. */
+	public SpriteBatch (int size, int buffers, ShaderProgram defaultShader, int textureUnits) {
 		this.buffers = new Mesh[buffers];
 
+		if (textureUnits > 1 && Gdx.graphics.isGL20Available()) {
+			IntBuffer maxTextureUnits = BufferUtils.newIntBuffer(16);
+			Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_IMAGE_UNITS, maxTextureUnits);
+			textureUnits = Math.max(1, Math.min(textureUnits, maxTextureUnits.get(0)));
+		} else
+			textureUnits = 1;
+		this.textureUnits = textureUnits;
+		textureSlots = new Texture[textureUnits];
+
 		for (int i = 0; i < buffers; i++) {
-			this.buffers[i] = new Mesh(VertexDataType.VertexArray, false, size * 4, size * 6, new VertexAttribute(Usage.Position, 2,
-				ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
-				new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+			if (textureUnits > 1) {
+				this.buffers[i] = new Mesh(VertexDataType.VertexArray, false, size * 4, size * 6, new VertexAttribute(Usage.Position,
+					2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+					new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"), new VertexAttribute(
+						Usage.Generic, 1, TEXTURE_INDEX_ATTRIBUTE));
+			} else {
+				this.buffers[i] = new Mesh(VertexDataType.VertexArray, false, size * 4, size * 6, new VertexAttribute(Usage.Position,
+					2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+					new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+			}
 		}
+		spriteSize = textureUnits > 1 ? 4 * 6 : Sprite.SPRITE_SIZE;
 
 		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
-		vertices = new float[size * Sprite.SPRITE_SIZE];
+		vertices = new float[size * spriteSize];
 
 		int len = size * 6;
 		short[] indices = new short[len];
@@ -198,10 +256,16 @@ public class SpriteBatch implements Disposable {
 		mesh = this.buffers[0];
 
 		if (Gdx.graphics.isGL20Available() && defaultShader == null) {
-			shader = createDefaultShader();
+			shader = textureUnits > 1 ? createMultiTextureShader(textureUnits) : createDefaultShader();
 			ownsShader = true;
 		} else
 			shader = defaultShader;
+
+		if (textureUnits > 1 && shader != null) {
+			textureLocations = new int[textureUnits];
+			for (int i = 0; i < textureUnits; i++)
+				textureLocations[i] = shader.fetchUniformLocation("u_textures[" + i + "]", false);
+		}
 	}
 
 	/** Returns a new instance of the default shader used by SpriteBatch for GL2 when no shader is specified. */
@@ -238,6 +302,53 @@ public class SpriteBatch implements Disposable {
 		return shader;
 	}
 
+	/** Returns a new instance of the shader used by SpriteBatch for GL2 when multiple texture units are used and no shader is
+	 * specified. It is the same as {@link #createDefaultShader()}, but samples the texture chosen by
+	 * {@link #TEXTURE_INDEX_ATTRIBUTE}. GLSL ES does not allow indexing a sampler array with a varying, so the texture is selected
+	 * with a chain of branches. */
+	static public ShaderProgram createMultiTextureShader (int textureUnits) {
+		String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "attribute float " + TEXTURE_INDEX_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projectionViewMatrix;\n" //
+			+ "varying vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "varying float v_texIndex;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "   v_texIndex = " + TEXTURE_INDEX_ATTRIBUTE + ";\n" //
+			+ "   gl_Position =  u_projectionViewMatrix * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "}\n";
+		StringBuilder fragmentShader = new StringBuilder(512);
+		fragmentShader.append("#ifdef GL_ES\n" //
+			+ "#define LOWP lowp\n" //
+			+ "precision mediump float;\n" //
+			+ "#else\n" //
+			+ "#define LOWP \n" //
+			+ "#endif\n" //
+			+ "varying LOWP vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "varying float v_texIndex;\n" //
+			+ "uniform sampler2D u_textures[" + textureUnits + "];\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  vec4 texColor;\n");
+		for (int i = 0; i < textureUnits; i++) {
+			fragmentShader.append(i == 0 ? "  " : "  else ");
+			if (i < textureUnits - 1) fragmentShader.append("if (v_texIndex < " + i + ".5) ");
+			fragmentShader.append("texColor = texture2D(u_textures[" + i + "], v_texCoords);\n");
+		}
+		fragmentShader.append("  gl_FragColor = v_color * texColor;\n}");
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader.toString());
+		if (shader.isCompiled() == false) throw new IllegalArgumentException("couldn't compile shader: " + shader.getLog());
+		return shader;
+	}
+
 	/** Sets up the SpriteBatch for drawing. This will disable depth buffer writting. It enables blending and texturing. If you have
 	 * more texture units enabled than the first one you have to disable them before calling this. Uses a screen coordinate system
 	 * by default where everything is given in pixels. You can specify your own projection and modelview matrices via
@@ -259,6 +370,8 @@ public class SpriteBatch implements Disposable {
 
 		idx = 0;
 		lastTexture = null;
+		resetTextureSlots();
+		resetReorderRuns();
 		drawing = true;
 	}
 
@@ -266,9 +379,11 @@ public class SpriteBatch implements Disposable {
 	 * {@link #begin()} */
 	public void end () {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before end.");
-		if (idx > 0) renderMesh();
+		if (idx > 0) renderMesh(FlushCause.end);
 		lastTexture = null;
 		idx = 0;
+		resetTextureSlots();
+		resetReorderRuns();
 		drawing = false;
 
 		GLCommon gl = Gdx.gl;
@@ -339,9 +454,8 @@ public class SpriteBatch implements Disposable {
 		float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
-		if (texture != lastTexture) {
-			switchTexture(texture);
-		} else if (idx == vertices.length) renderMesh();
+		if (texture != lastTexture) switchTexture(texture);
+		if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 
 		// bottom left and top right corner points relative to origin
 		final float worldOriginX = x + originX;
@@ -439,24 +553,28 @@ public class SpriteBatch implements Disposable {
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x2;
 		vertices[idx++] = y2;
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x3;
 		vertices[idx++] = y3;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x4;
 		vertices[idx++] = y4;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 	}
 
 	/** Draws a rectangle with the bottom left corner at x,y having the given width and height in pixels. The portion of the
@@ -478,9 +596,8 @@ public class SpriteBatch implements Disposable {
 		int srcHeight, boolean flipX, boolean flipY) {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
-		if (texture != lastTexture) {
-			switchTexture(texture);
-		} else if (idx == vertices.length) renderMesh();
+		if (texture != lastTexture) switchTexture(texture);
+		if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 
 		float u = srcX * invTexWidth;
 		float v = (srcY + srcHeight) * invTexHeight;
@@ -506,24 +623,28 @@ public class SpriteBatch implements Disposable {
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = y;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 	}
 
 	/** Draws a rectangle with the bottom left corner at x,y having the given width and height in pixels. The portion of the
@@ -539,9 +660,8 @@ public class SpriteBatch implements Disposable {
 	public void draw (Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
-		if (texture != lastTexture) {
-			switchTexture(texture);
-		} else if (idx == vertices.length) renderMesh();
+		if (texture != lastTexture) switchTexture(texture);
+		if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 
 		final float u = srcX * invTexWidth;
 		final float v = (srcY + srcHeight) * invTexHeight;
@@ -555,24 +675,28 @@ public class SpriteBatch implements Disposable {
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = y;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 	}
 
 	/** Draws a rectangle with the bottom left corner at x,y having the given width and height in pixels. The portion of the
@@ -587,9 +711,8 @@ public class SpriteBatch implements Disposable {
 	public void draw (Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
-		if (texture != lastTexture) {
-			switchTexture(texture);
-		} else if (idx == vertices.length) renderMesh();
+		if (texture != lastTexture) switchTexture(texture);
+		if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 
 		final float fx2 = x + width;
 		final float fy2 = y + height;
@@ -599,24 +722,28 @@ public class SpriteBatch implements Disposable {
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = y;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 	}
 
 	/** Draws a rectangle with the bottom left corner at x,y having the width and height of the texture.
@@ -626,9 +753,8 @@ public class SpriteBatch implements Disposable {
 	public void draw (Texture texture, float x, float y) {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
-		if (texture != lastTexture) {
-			switchTexture(texture);
-		} else if (idx == vertices.length) renderMesh();
+		if (texture != lastTexture) switchTexture(texture);
+		if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 
 		final float fx2 = x + texture.getWidth();
 		final float fy2 = y + texture.getHeight();
@@ -638,34 +764,36 @@ public class SpriteBatch implements Disposable {
 		vertices[idx++] = color;
 		vertices[idx++] = 0;
 		vertices[idx++] = 1;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = 0;
 		vertices[idx++] = 0;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = 1;
 		vertices[idx++] = 0;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = y;
 		vertices[idx++] = color;
 		vertices[idx++] = 1;
 		vertices[idx++] = 1;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 	}
 
 	/** Draws a rectangle with the bottom left corner at x,y and stretching the region to cover the given width and height. */
 	public void draw (Texture texture, float x, float y, float width, float height) {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
-		if (texture != lastTexture) {
-			switchTexture(texture);
-		} else if (idx == vertices.length) //
-			renderMesh();
+		if (texture != lastTexture) switchTexture(texture);
+		if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 
 		final float fx2 = x + width;
 		final float fy2 = y + height;
@@ -679,24 +807,28 @@ public class SpriteBatch implements Disposable {
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = y;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 	}
 
 	/** Draws a rectangle using the given vertices. There must be 4 vertices, each made up of 5 elements in this order: x, y, color,
@@ -708,9 +840,25 @@ public class SpriteBatch implements Disposable {
 			switchTexture(texture);
 		}
 
+		if (textureUnits > 1) {
+			// Each vertex gets the texture slot, which changes to 0 when the buffer is full and rendered.
+			float[] vertices = this.vertices;
+			for (int i = offset; i < length; i += 5) {
+				if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
+				vertices[idx] = spriteVertices[i];
+				vertices[idx + 1] = spriteVertices[i + 1];
+				vertices[idx + 2] = spriteVertices[i + 2];
+				vertices[idx + 3] = spriteVertices[i + 3];
+				vertices[idx + 4] = spriteVertices[i + 4];
+				vertices[idx + 5] = textureSlot;
+				idx += 6;
+			}
+			return;
+		}
+
 		int remainingVertices = vertices.length - idx;
 		if (remainingVertices == 0) {
-			renderMesh();
+			renderMesh(FlushCause.bufferFull);
 			remainingVertices = vertices.length;
 		}
 		int vertexCount = Math.min(remainingVertices, length - offset);
@@ -719,7 +867,7 @@ public class SpriteBatch implements Disposable {
 		idx += vertexCount;
 
 		while (offset < length) {
-			renderMesh();
+			renderMesh(FlushCause.bufferFull);
 			vertexCount = Math.min(vertices.length, length - offset);
 			System.arraycopy(spriteVertices, offset, vertices, 0, vertexCount);
 			offset += vertexCount;
@@ -737,10 +885,8 @@ public class SpriteBatch implements Disposable {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
 		Texture texture = region.texture;
-		if (texture != lastTexture) {
-			switchTexture(texture);
-		} else if (idx == vertices.length) //
-			renderMesh();
+		if (texture != lastTexture) switchTexture(texture);
+		if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 
 		final float fx2 = x + width;
 		final float fy2 = y + height;
@@ -754,24 +900,28 @@ public class SpriteBatch implements Disposable {
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = fy2;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = fx2;
 		vertices[idx++] = y;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 	}
 
 	/** Draws a rectangle with the bottom left corner at x,y and stretching the region to cover the given width and height. The
@@ -783,10 +933,8 @@ public class SpriteBatch implements Disposable {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
 		Texture texture = region.texture;
-		if (texture != lastTexture) {
-			switchTexture(texture);
-		} else if (idx == vertices.length) //
-			renderMesh();
+		if (texture != lastTexture) switchTexture(texture);
+		if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 
 		// bottom left and top right corner points relative to origin
 		final float worldOriginX = x + originX;
@@ -872,24 +1020,28 @@ public class SpriteBatch implements Disposable {
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x2;
 		vertices[idx++] = y2;
 		vertices[idx++] = color;
 		vertices[idx++] = u;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x3;
 		vertices[idx++] = y3;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x4;
 		vertices[idx++] = y4;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 	}
 
 	/** Draws a rectangle with the bottom left corner at x,y and stretching the region to cover the given width and height. The
@@ -901,10 +1053,8 @@ public class SpriteBatch implements Disposable {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before draw.");
 
 		Texture texture = region.texture;
-		if (texture != lastTexture) {
-			switchTexture(texture);
-		} else if (idx == vertices.length) //
-			renderMesh();
+		if (texture != lastTexture) switchTexture(texture);
+		if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 
 		// bottom left and top right corner points relative to origin
 		final float worldOriginX = x + originX;
@@ -1006,40 +1156,59 @@ public class SpriteBatch implements Disposable {
 		vertices[idx++] = color;
 		vertices[idx++] = u1;
 		vertices[idx++] = v1;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x2;
 		vertices[idx++] = y2;
 		vertices[idx++] = color;
 		vertices[idx++] = u2;
 		vertices[idx++] = v2;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x3;
 		vertices[idx++] = y3;
 		vertices[idx++] = color;
 		vertices[idx++] = u3;
 		vertices[idx++] = v3;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 
 		vertices[idx++] = x4;
 		vertices[idx++] = y4;
 		vertices[idx++] = color;
 		vertices[idx++] = u4;
 		vertices[idx++] = v4;
+		if (textureUnits > 1) vertices[idx++] = textureSlot;
 	}
 
 	/** Causes any pending sprites to be rendered, without ending the SpriteBatch. */
 	public void flush () {
-		renderMesh();
+		renderMesh(FlushCause.flush);
 	}
 
-	private void renderMesh () {
+	private void renderMesh (FlushCause cause) {
 		if (idx == 0) return;
+		if (reordering && reorderTextures.size > 1)
+			renderReordered(cause);
+		else
+			renderBatch(cause);
+		if (reordering) resetReorderRuns();
+	}
+
+	private void renderBatch (FlushCause cause) {
+		long start = profiling ? TimeUtils.nanoTime() : 0;
 
 		renderCalls++;
 		totalRenderCalls++;
-		int spritesInBatch = idx / 20;
+		int spritesInBatch = idx / spriteSize;
 		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
 
-		lastTexture.bind();
+		if (isMultiTexturing()) {
+			for (int i = textureSlotCount - 1; i >= 0; i--)
+				textureSlots[i].bind(i);
+		} else {
+			// With multiple texture units a custom shader ignores the texture index, it gets the one texture in slot 0.
+			lastTexture.bind();
+		}
 		mesh.setVertices(vertices, 0, idx);
 		mesh.getIndicesBuffer().position(0);
 		mesh.getIndicesBuffer().limit(spritesInBatch * 6); 
@@ -1060,21 +1229,181 @@ public class SpriteBatch implements Disposable {
 			mesh.render(GL10.GL_TRIANGLES, 0, spritesInBatch * 6);
 		}
 
+		if (profiling) {
+			stats.flushes[cause.ordinal()]++;
+			stats.renderCalls++;
+			stats.vertices += spritesInBatch * 4;
+			stats.renderTime += TimeUtils.nanoTime() - start;
+		}
+
 		idx = 0;
 		currBufferIdx++;
 		if (currBufferIdx == buffers.length) currBufferIdx = 0;
 		mesh = buffers[currBufferIdx];
+
+		if (textureUnits > 1) resetTextureSlots();
+	}
+
+	/** Renders the sprites grouped into one batch per bucket found by {@link #sortSprites()}, then restores the current texture
+	 * and blend state. */
+	private void renderReordered (FlushCause cause) {
+		Texture texture = lastTexture;
+		boolean blendingDisabled = this.blendingDisabled;
+		int blendSrcFunc = this.blendSrcFunc, blendDstFunc = this.blendDstFunc;
+
+		int bucketCount = sortSprites();
+		int[] runs = reorderRuns.items;
+		for (int bucket = 0, start = 0; bucket < bucketCount; bucket++) {
+			int run = bucketRuns[bucket], end = bucketEnds[bucket];
+			lastTexture = reorderTextures.get(run);
+			this.blendingDisabled = runs[run * 3 + 1] == -1;
+			if (!this.blendingDisabled) {
+				this.blendSrcFunc = runs[run * 3 + 1];
+				this.blendDstFunc = runs[run * 3 + 2];
+			}
+			idx = 0;
+			if (textureUnits > 1) resetTextureSlots();
+			System.arraycopy(reorderVertices, start, vertices, 0, end - start);
+			idx = end - start;
+			renderBatch(bucket == bucketCount - 1 ? cause : FlushCause.texture);
+			start = end;
+		}
+
+		lastTexture = texture;
+		this.blendingDisabled = blendingDisabled;
+		this.blendSrcFunc = blendSrcFunc;
+		this.blendDstFunc = blendDstFunc;
+		if (textureUnits > 1) resetTextureSlots();
+	}
+
+	/** Puts each sprite in the last bucket with the same texture and blend state, unless a sprite in a later bucket overlaps it, in
+	 * which case a new bucket is started. Drawing the buckets in order then gives the same result as drawing the sprites in order,
+	 * because a sprite is only moved ahead of sprites it does not overlap. Overlap is tested against the bounding box of each
+	 * bucket. The sprites are copied to {@link #reorderVertices} in bucket order.
+	 * @return the number of buckets. */
+	private int sortSprites () {
+		float[] vertices = this.vertices, bounds = bucketBounds;
+		int[] runs = reorderRuns.items, bucketRuns = this.bucketRuns, bucketFirst = this.bucketFirst, bucketLast = this.bucketLast;
+		int[] spriteNext = this.spriteNext;
+		int spriteSize = this.spriteSize, vertexSize = spriteSize / 4;
+		Texture[] textures = reorderTextures.items;
+		int bucketCount = 0;
+		for (int run = 0, runEnd = reorderRuns.size; run * 3 < runEnd; run++) {
+			Texture texture = textures[run];
+			int src = runs[run * 3 + 1], dst = runs[run * 3 + 2];
+			int end = run * 3 + 3 < runEnd ? runs[run * 3 + 3] : idx;
+			for (int i = runs[run * 3]; i < end; i += spriteSize) {
+				float minX = vertices[i], minY = vertices[i + 1], maxX = minX, maxY = minY;
+				for (int ii = i + vertexSize, nn = i + spriteSize; ii < nn; ii += vertexSize) {
+					float x = vertices[ii], y = vertices[ii + 1];
+					if (x < minX) minX = x;
+					if (x > maxX) maxX = x;
+					if (y < minY) minY = y;
+					if (y > maxY) maxY = y;
+				}
+
+				int bucket = -1;
+				for (int b = bucketCount - 1; b >= 0; b--) {
+					int other = bucketRuns[b];
+					if (textures[other] == texture && runs[other * 3 + 1] == src && runs[other * 3 + 2] == dst) {
+						bucket = b;
+						break;
+					}
+					int bi = b * 4;
+					if (minX < bounds[bi + 2] && maxX > bounds[bi] && minY < bounds[bi + 3] && maxY > bounds[bi + 1]) break;
+				}
+
+				int sprite = i / spriteSize;
+				if (bucket == -1) {
+					bucket = bucketCount++;
+					bucketRuns[bucket] = run;
+					bucketFirst[bucket] = sprite;
+					int bi = bucket * 4;
+					bounds[bi] = minX;
+					bounds[bi + 1] = minY;
+					bounds[bi + 2] = maxX;
+					bounds[bi + 3] = maxY;
+				} else {
+					spriteNext[bucketLast[bucket]] = sprite;
+					int bi = bucket * 4;
+					if (minX < bounds[bi]) bounds[bi] = minX;
+					if (minY < bounds[bi + 1]) bounds[bi + 1] = minY;
+					if (maxX > bounds[bi + 2]) bounds[bi + 2] = maxX;
+					if (maxY > bounds[bi + 3]) bounds[bi + 3] = maxY;
+				}
+				bucketLast[bucket] = sprite;
+				spriteNext[sprite] = -1;
+			}
+		}
+
+		float[] sorted = reorderVertices;
+		int index = 0;
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			for (int sprite = bucketFirst[bucket]; sprite != -1; sprite = spriteNext[sprite]) {
+				System.arraycopy(vertices, sprite * spriteSize, sorted, index, spriteSize);
+				index += spriteSize;
+			}
+			bucketEnds[bucket] = index;
+		}
+		return bucketCount;
+	}
+
+	/** Starts a run of sprites with the current texture and blend state at the current vertex index. */
+	private void addReorderRun () {
+		if (lastTexture == null) return;
+		int src = blendingDisabled ? -1 : blendSrcFunc, dst = blendingDisabled ? -1 : blendDstFunc;
+		int size = reorderRuns.size;
+		if (size > 0 && reorderRuns.get(size - 3) == idx) {
+			reorderTextures.set(reorderTextures.size - 1, lastTexture);
+			reorderRuns.set(size - 2, src);
+			reorderRuns.set(size - 1, dst);
+		} else {
+			reorderRuns.add(idx);
+			reorderRuns.add(src);
+			reorderRuns.add(dst);
+			reorderTextures.add(lastTexture);
+		}
+	}
+
+	private void resetReorderRuns () {
+		reorderRuns.clear();
+		reorderTextures.clear();
+		if (reordering) addReorderRun();
+	}
+
+	/** Makes the current texture the only one in the texture slots, for the sprites that follow without calling
+	 * {@link #switchTexture(Texture)}. */
+	private void resetTextureSlots () {
+		textureSlotCount = 0;
+		textureSlot = 0;
+		if (lastTexture != null) textureSlots[textureSlotCount++] = lastTexture;
+	}
+
+	private boolean isMultiTexturing () {
+		return textureUnits > 1 && customShader == null;
 	}
 
 	/** Disables blending for drawing sprites. Does not disable blending for text rendering */
 	public void disableBlending () {
-		renderMesh();
+		if (reordering) {
+			if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
+			blendingDisabled = true;
+			addReorderRun();
+			return;
+		}
+		renderMesh(FlushCause.blending);
 		blendingDisabled = true;
 	}
 
 	/** Enables blending for sprites */
 	public void enableBlending () {
-		renderMesh();
+		if (reordering) {
+			if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
+			blendingDisabled = false;
+			addReorderRun();
+			return;
+		}
+		renderMesh(FlushCause.blending);
 		blendingDisabled = false;
 	}
 
@@ -1083,9 +1412,12 @@ public class SpriteBatch implements Disposable {
 	 * @param srcFunc the source function, e.g. GL11.GL_SRC_ALPHA
 	 * @param dstFunc the destination function, e.g. GL11.GL_ONE_MINUS_SRC_ALPHA */
 	public void setBlendFunction (int srcFunc, int dstFunc) {
-		renderMesh();
+		if (!reordering)
+			renderMesh(FlushCause.blending);
+		else if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
 		blendSrcFunc = srcFunc;
 		blendDstFunc = dstFunc;
+		if (reordering) addReorderRun();
 	}
 
 	/** Disposes all resources associated with this SpriteBatch */
@@ -1114,7 +1446,7 @@ public class SpriteBatch implements Disposable {
 	 * 
 	 * @param projection the projection matrix */
 	public void setProjectionMatrix (Matrix4 projection) {
-		if (drawing) flush();
+		if (drawing) renderMesh(FlushCause.matrix);
 		projectionMatrix.set(projection);
 		if (drawing) setupMatrices();
 	}
@@ -1124,7 +1456,7 @@ public class SpriteBatch implements Disposable {
 	 * 
 	 * @param transform the transform matrix */
 	public void setTransformMatrix (Matrix4 transform) {
-		if (drawing) flush();
+		if (drawing) renderMesh(FlushCause.matrix);
 		transformMatrix.set(transform);
 		if (drawing) setupMatrices();
 	}
@@ -1143,6 +1475,10 @@ public class SpriteBatch implements Disposable {
 				customShader.setUniformMatrix("u_trans", transformMatrix);
 				customShader.setUniformMatrix("u_projTrans", combinedMatrix);
 				customShader.setUniformi("u_texture", 0);
+			} else if (textureUnits > 1) {
+				shader.setUniformMatrix("u_projectionViewMatrix", combinedMatrix);
+				for (int i = 0; i < textureUnits; i++)
+					shader.setUniformi(textureLocations[i], i);
 			} else {
 				shader.setUniformMatrix("u_projectionViewMatrix", combinedMatrix);
 				shader.setUniformi("u_texture", 0);
@@ -1151,14 +1487,48 @@ public class SpriteBatch implements Disposable {
 	}
 	
 	private void switchTexture(Texture texture) {
+		if (profiling) stats.textureSwitches.getAndIncrement(texture, 0, 1);
+		if (reordering) {
+			// A run starting at the end of a full buffer has no room, so the buffer is submitted first.
+			if (idx == vertices.length) renderMesh(FlushCause.bufferFull);
+			lastTexture = texture;
+			invTexWidth = 1.0f / texture.getWidth();
+			invTexHeight = 1.0f / texture.getHeight();
+			addReorderRun();
+			if (textureUnits > 1 && reorderTextures.size == 1) resetTextureSlots();
+			return;
+		}
+		if (isMultiTexturing()) {
+			int slot = -1;
+			for (int i = 0; i < textureSlotCount; i++) {
+				if (textureSlots[i] == texture) {
+					slot = i;
+					break;
+				}
+			}
+			if (slot == -1) {
+				if (textureSlotCount == textureUnits) {
+					renderMesh(FlushCause.texture);
+					textureSlotCount = 0;
+				}
+				slot = textureSlotCount;
+				textureSlots[textureSlotCount++] = texture;
+			}
+			textureSlot = slot;
+			lastTexture = texture;
+			invTexWidth = 1.0f / texture.getWidth();
+			invTexHeight = 1.0f / texture.getHeight();
+			return;
+		}
 		if(Gdx.graphics.isGL20Available()) {
-			renderMesh();
+			renderMesh(FlushCause.texture);
 			lastTexture = texture;
 			invTexWidth = 1.0f / texture.getWidth();
 			invTexHeight = 1.0f / texture.getHeight();
+			if (textureUnits > 1) resetTextureSlots();
 		}
 		else {
-			renderMesh();
+			renderMesh(FlushCause.texture);
 			lastTexture = texture;
 			invTexWidth = 1.0f / texture.getWidth();
 			invTexHeight = 1.0f / texture.getHeight();
@@ -1181,13 +1551,14 @@ public class SpriteBatch implements Disposable {
 	 * @param shader the {@link ShaderProgram} or null to use the default shader. */
 	public void setShader (ShaderProgram shader) {
 		if (drawing) {
-			flush();
+			renderMesh(FlushCause.shader);
 			if (customShader != null)
 				customShader.end();
 			else
 				this.shader.end();
 		}
 		customShader = shader;
+		if (textureUnits > 1) resetTextureSlots();
 		if (drawing) {
 			if (customShader != null)
 				customShader.begin();
@@ -1202,6 +1573,115 @@ public class SpriteBatch implements Disposable {
 		return !blendingDisabled;
 	}
 
+	/** Enables collecting {@link #stats} about why and how often batches are flushed. Profiling has a small cost per flush and
+	 * texture switch, so it should be disabled when the statistics are not needed. */
+	public void setProfiling (boolean profiling) {
+		this.profiling = profiling;
+	}
+
+	public boolean isProfiling () {
+		return profiling;
+	}
+
+	/** Enables reordering sprites to reduce the number of batches. Drawing with a different texture or changing the blend state
+	 * does not render the batch, instead the sprites are recorded until the batch is rendered for another reason, eg
+	 * {@link #flush()}, {@link #end()}, a matrix or shader change or the buffer being full. Then each sprite is moved back to
+	 * the latest earlier sprites with the same texture and blend state, as long as it does not overlap any sprite drawn in
+	 * between, and each group is rendered in a single batch. The result looks the same as drawing in order, but sprites with the
+	 * same texture are rendered together even when the textures alternate, eg icons on top of the slots of an inventory. A larger
+	 * batch size lets more sprites be reordered together. With multiple texture units each group still uses one texture. */
+	public void setReordering (boolean reordering) {
+		if (this.reordering == reordering) return;
+		if (drawing) renderMesh(FlushCause.flush);
+		this.reordering = reordering;
+		if (reordering && reorderVertices == null) {
+			int size = vertices.length / spriteSize;
+			reorderVertices = new float[vertices.length];
+			bucketBounds = new float[size * 4];
+			bucketRuns = new int[size];
+			bucketFirst = new int[size];
+			bucketLast = new int[size];
+			bucketEnds = new int[size];
+			spriteNext = new int[size];
+		}
+		resetReorderRuns();
+		if (textureUnits > 1) resetTextureSlots();
+	}
+
+	public boolean isReordering () {
+		return reordering;
+	}
+
+	/** The reasons a batch is rendered. */
+	static public enum FlushCause {
+		/** A sprite with a different texture than the batch was drawn. */
+		texture,
+		/** The shader was changed. */
+		shader,
+		/** Blending was enabled, disabled or the blend function changed. */
+		blending,
+		/** The projection or transform matrix was changed. */
+		matrix,
+		/** The vertex buffer was full. */
+		bufferFull,
+		/** {@link SpriteBatch#flush()} was called. */
+		flush,
+		/** {@link SpriteBatch#end()} was called. */
+		end;
+	}
+
+	/** Statistics collected by a SpriteBatch while profiling. They accumulate until {@link #reset()} is called, eg once per frame.
+	 * Use {@link #set(Stats)} to keep a snapshot. */
+	static public class Stats {
+		/** The number of flushes for each {@link FlushCause}, indexed by its ordinal. */
+		public final int[] flushes = new int[FlushCause.values().length];
+		/** The number of batches rendered. */
+		public int renderCalls;
+		/** The number of vertices submitted. */
+		public int vertices;
+		/** The nanoseconds spent uploading vertices and issuing draw calls. */
+		public long renderTime;
+		/** The number of times each texture was switched to. The texture causing the most switches breaks batching the most. */
+		public final ObjectIntMap<Texture> textureSwitches = new ObjectIntMap();
+
+		public int getFlushes (FlushCause cause) {
+			return flushes[cause.ordinal()];
+		}
+
+		public void reset () {
+			for (int i = 0; i < flushes.length; i++)
+				flushes[i] = 0;
+			renderCalls = 0;
+			vertices = 0;
+			renderTime = 0;
+			textureSwitches.clear();
+		}
+
+		/** Copies the statistics from the specified stats. */
+		public void set (Stats stats) {
+			System.arraycopy(stats.flushes, 0, flushes, 0, flushes.length);
+			renderCalls = stats.renderCalls;
+			vertices = stats.vertices;
+			renderTime = stats.renderTime;
+			textureSwitches.clear();
+			textureSwitches.putAll(stats.textureSwitches);
+		}
+
+		public String toString () {
+			StringBuilder buffer = new StringBuilder(128);
+			buffer.append("renderCalls: ").append(renderCalls);
+			buffer.append(", vertices: ").append(vertices);
+			buffer.append(", renderTime: ").append(renderTime / 1000000f).append("ms");
+			FlushCause[] causes = FlushCause.values();
+			for (int i = 0; i < causes.length; i++)
+				if (flushes[i] > 0) buffer.append(", ").append(causes[i]).append(": ").append(flushes[i]);
+			return buffer.toString();
+		}
+	}
+
+	/** The name of the per vertex texture unit attribute used when multiple texture units are enabled. */
+	static public final String TEXTURE_INDEX_ATTRIBUTE = "a_texIndex";
+
 	static public final int X1 = 0;
 	static public final int Y1 = 1;
 	static public final int C1 = 2;
@@ -38,11 +38,17 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.ObjectMap;
 
 import static com.badlogic.gdx.graphics.Texture.TextureWrap.*;
 
 /** Loads images from texture atlases created by TexturePacker.<br>
+ * <br>
+ * Regions are indexed by name, so finding a region does not compare against every region in the atlas. Each region also has an
+ * integer handle, its position in {@link #getRegions()}, which can be looked up once and then resolved with
+ * {@link #getRegion(int)} without hashing the name. Handles stay valid as regions are added, but the list returned by
+ * {@link #getRegions()} must not be modified.<br>
  * <br>
  * A TextureAtlas must be disposed to free up the resources consumed by the backing textures.
  * @author Nathan Sweet */
@@ -51,6 +57,8 @@ public class TextureAtlas implements Disposable {
 
 	private final HashSet<Texture> textures = new HashSet(4);
 	private final ArrayList<AtlasRegion> regions = new ArrayList<AtlasRegion>();
+	/** The handles of the regions with each name, ordered by smallest to largest index. */
+	private final ObjectMap<String, IntArray> nameToHandles = new ObjectMap();
 
 	public static class TextureAtlasData {
 		public static class Page {
@@ -250,7 +258,7 @@ public class TextureAtlas implements Disposable {
 			atlasRegion.originalWidth = region.originalWidth;
 			atlasRegion.rotate = region.rotate;
 			if (region.flip) atlasRegion.flip(false, true);
-			regions.add(atlasRegion);
+			add(atlasRegion);
 		}
 	}
 
@@ -262,10 +270,20 @@ public class TextureAtlas implements Disposable {
 		region.originalWidth = width;
 		region.originalHeight = height;
 		region.index = -1;
-		regions.add(region);
+		add(region);
 		return region;
 	}
 
+	private void add (AtlasRegion region) {
+		IntArray handles = nameToHandles.get(region.name);
+		if (handles == null) {
+			handles = new IntArray(1);
+			nameToHandles.put(region.name, handles);
+		}
+		handles.add(regions.size());
+		regions.add(region);
+	}
+
 	/** Adds a region to the atlas. The texture for the specified region will be disposed when the atlas is disposed. */
 	public AtlasRegion addRegion (String name, TextureRegion textureRegion) {
 		return addRegion(name, textureRegion.texture, textureRegion.getRegionX(), textureRegion.getRegionY(),
@@ -277,39 +295,61 @@ public class TextureAtlas implements Disposable {
 		return regions;
 	}
 
-	/** Returns the first region found with the specified name. This method uses string comparison to find the region, so the result
-	 * should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name.
 	 * @return The region, or null. */
 	public AtlasRegion findRegion (String name) {
-		for (int i = 0, n = regions.size(); i < n; i++)
-			if (regions.get(i).name.equals(name)) return regions.get(i);
-		return null;
+		IntArray handles = nameToHandles.get(name);
+		if (handles == null) return null;
+		return regions.get(handles.get(0));
 	}
 
-	/** Returns the first region found with the specified name and index. This method uses string comparison to find the region, so
-	 * the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index.
 	 * @return The region, or null. */
 	public AtlasRegion findRegion (String name, int index) {
-		for (int i = 0, n = regions.size(); i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return region;
-		}
-		return null;
+		int handle = findRegionHandle(name, index);
+		if (handle == -1) return null;
+		return regions.get(handle);
 	}
 
 	/** Returns all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This method
-	 * uses string comparison to find the regions, so the result should be cached rather than calling this method multiple times. */
+	 * copies each region, so the result should be cached rather than calling this method multiple times. */
 	public List<AtlasRegion> findRegions (String name) {
 		ArrayList<AtlasRegion> matched = new ArrayList();
-		for (int i = 0, n = regions.size(); i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(new AtlasRegion(region));
-		}
+		IntArray handles = nameToHandles.get(name);
+		if (handles == null) return matched;
+		for (int i = 0, n = handles.size; i < n; i++)
+			matched.add(new AtlasRegion(regions.get(handles.get(i))));
 		return matched;
 	}
 
+	/** Returns the handle of the first region found with the specified name.
+	 * @return The handle, or -1.
+	 * @see #getRegion(int) */
+	public int findRegionHandle (String name) {
+		IntArray handles = nameToHandles.get(name);
+		if (handles == null) return -1;
+		return handles.get(0);
+	}
+
+	/** Returns the handle of the first region found with the specified name and index.
+	 * @return The handle, or -1.
+	 * @see #getRegion(int) */
+	public int findRegionHandle (String name, int index) {
+		IntArray handles = nameToHandles.get(name);
+		if (handles == null) return -1;
+		for (int i = 0, n = handles.size; i < n; i++) {
+			int handle = handles.get(i);
+			if (regions.get(handle).index == index) return handle;
+		}
+		return -1;
+	}
+
+	/** Returns the region with the specified handle.
+	 * @see #findRegionHandle(String) */
+	public AtlasRegion getRegion (int handle) {
+		return regions.get(handle);
+	}
+
 	/** Returns all regions in the atlas as sprites. This method creates a new sprite for each region, so the result should be
 	 * stored rather than calling this method multiple times.
 	 * @see #createSprite(String) */
@@ -321,39 +361,41 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a sprite. If whitespace was stripped from the region when it was
-	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method uses string comparison to
-	 * find the region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method constructs a new sprite,
+	 * so the result should be cached rather than calling this method multiple times.
 	 * @return The sprite, or null. */
 	public Sprite createSprite (String name) {
-		for (int i = 0, n = regions.size(); i < n; i++)
-			if (regions.get(i).name.equals(name)) return newSprite(regions.get(i));
-		return null;
+		int handle = findRegionHandle(name);
+		if (handle == -1) return null;
+		return newSprite(regions.get(handle));
 	}
 
-	/** Returns the first region found with the specified name and index as a sprite. This method uses string comparison to find the
-	 * region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index as a sprite. This method constructs a new sprite, so the
+	 * result should be cached rather than calling this method multiple times.
 	 * @return The sprite, or null.
 	 * @see #createSprite(String) */
 	public Sprite createSprite (String name, int index) {
-		for (int i = 0, n = regions.size(); i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return newSprite(regions.get(i));
-		}
-		return null;
+		int handle = findRegionHandle(name, index);
+		if (handle == -1) return null;
+		return newSprite(regions.get(handle));
+	}
+
+	/** Returns the region with the specified handle as a sprite.
+	 * @see #createSprite(String)
+	 * @see #findRegionHandle(String) */
+	public Sprite createSprite (int handle) {
+		return newSprite(regions.get(handle));
 	}
 
 	/** Returns all regions with the specified name as sprites, ordered by smallest to largest {@link AtlasRegion#index index}. This
-	 * method uses string comparison to find the regions and constructs new sprites, so the result should be cached rather than
-	 * calling this method multiple times.
+	 * method constructs new sprites, so the result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public List<Sprite> createSprites (String name) {
 		ArrayList<Sprite> matched = new ArrayList();
-		for (int i = 0, n = regions.size(); i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(newSprite(region));
-		}
+		IntArray handles = nameToHandles.get(name);
+		if (handles == null) return matched;
+		for (int i = 0, n = handles.size; i < n; i++)
+			matched.add(newSprite(regions.get(handles.get(i))));
 		return matched;
 	}
 
@@ -0,0 +1,745 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/** A {@link GL20} that passes every call to another GL20, but remembers the state set by glEnable, glDisable, glBlendFunc,
+ * glBlendFuncSeparate, glDepthMask, glDepthFunc, glCullFace, glActiveTexture and glBindTexture for GL_TEXTURE_2D, and skips
+ * those calls when the state would not change. Renderers such as {@link com.badlogic.gdx.graphics.g2d.SpriteBatch} and
+ * {@link ShapeRenderer} each set the state they need, so switching between them repeats many calls the cache removes.<br>
+ * <br>
+ * {@link #install()} puts a cache in front of {@link Gdx#gl} and {@link Gdx#gl20}. The state is unknown until it is first set
+ * through the cache. State changed without the cache, such as through {@link com.badlogic.gdx.Graphics#getGL20()} or native
+ * code, makes the cache wrong, so {@link #invalidate()} must be called afterward. The Android backend invalidates the installed
+ * cache when the OpenGL context is recreated. Any GL20 can be wrapped, so the cache can
+ * also be driven by a GL20 that only records calls. */
+public class GLStateCache implements GL20 {
+	static private final int UNKNOWN = -1;
+
+	final GL20 gl;
+	/** The number of state changing calls that were passed on and that were skipped because the state was already set. */
+	public int issuedCalls, elidedCalls;
+
+	private final IntArray capabilities = new IntArray();
+	private final BooleanArray capabilityStates = new BooleanArray();
+	private int blendSrcRGB, blendDstRGB, blendSrcAlpha, blendDstAlpha;
+	private int depthMask, depthFunc, cullFace;
+	private int activeUnit;
+	private final int[] boundTextures = new int[32];
+
+	public GLStateCache (GL20 gl) {
+		if (gl == null) throw new IllegalArgumentException("gl cannot be null.");
+		this.gl = gl;
+		invalidate();
+	}
+
+	/** Wraps {@link Gdx#gl20} with a cache and sets it as {@link Gdx#gl20}, and {@link Gdx#gl} if that was the same. Does nothing
+	 * if a cache is already installed. Must be called again if the backend replaces the GL instances.
+	 * @return the cache, or null if OpenGL ES 2.0 is not used. */
+	static public GLStateCache install () {
+		if (Gdx.gl20 == null) return null;
+		if (Gdx.gl20 instanceof GLStateCache) return (GLStateCache)Gdx.gl20;
+		GLStateCache cache = new GLStateCache(Gdx.gl20);
+		if (Gdx.gl == Gdx.gl20) Gdx.gl = cache;
+		Gdx.gl20 = cache;
+		return cache;
+	}
+
+	/** Restores the GL instances replaced by {@link #install()}. */
+	static public void uninstall () {
+		if (!(Gdx.gl20 instanceof GLStateCache)) return;
+		GL20 gl = ((GLStateCache)Gdx.gl20).gl;
+		if (Gdx.gl == Gdx.gl20) Gdx.gl = gl;
+		Gdx.gl20 = gl;
+	}
+
+	/** Forgets all state, so the next call for each state is passed on. Must be called after state was changed without this
+	 * cache. */
+	public void invalidate () {
+		capabilities.clear();
+		capabilityStates.clear();
+		blendSrcRGB = blendDstRGB = blendSrcAlpha = blendDstAlpha = UNKNOWN;
+		depthMask = depthFunc = cullFace = UNKNOWN;
+		activeUnit = UNKNOWN;
+		for (int i = 0; i < boundTextures.length; i++)
+			boundTextures[i] = UNKNOWN;
+	}
+
+	/** @return the wrapped GL20. */
+	public GL20 getWrapped () {
+		return gl;
+	}
+
+	/** @return false if the capability is already in the state. */
+	private boolean setCapability (int cap, boolean enabled) {
+		int index = capabilities.indexOf(cap);
+		if (index == -1) {
+			capabilities.add(cap);
+			capabilityStates.add(enabled);
+		} else {
+			if (capabilityStates.get(index) == enabled) {
+				elidedCalls++;
+				return false;
+			}
+			capabilityStates.set(index, enabled);
+		}
+		issuedCalls++;
+		return true;
+	}
+
+	public void glActiveTexture (int texture) {
+		int unit = texture - GL_TEXTURE0;
+		if (unit == activeUnit) {
+			elidedCalls++;
+			return;
+		}
+		issuedCalls++;
+		activeUnit = unit;
+		gl.glActiveTexture(texture);
+	}
+
+	public void glBindTexture (int target, int texture) {
+		if (target == GL_TEXTURE_2D && activeUnit >= 0 && activeUnit < boundTextures.length) {
+			if (boundTextures[activeUnit] == texture) {
+				elidedCalls++;
+				return;
+			}
+			boundTextures[activeUnit] = texture;
+		}
+		issuedCalls++;
+		gl.glBindTexture(target, texture);
+	}
+
+	public void glBlendFunc (int sfactor, int dfactor) {
+		if (blendSrcRGB == sfactor && blendDstRGB == dfactor && blendSrcAlpha == sfactor && blendDstAlpha == dfactor) {
+			elidedCalls++;
+			return;
+		}
+		issuedCalls++;
+		blendSrcRGB = blendSrcAlpha = sfactor;
+		blendDstRGB = blendDstAlpha = dfactor;
+		gl.glBlendFunc(sfactor, dfactor);
+	}
+
+	public void glClear (int mask) {
+		gl.glClear(mask);
+	}
+
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		gl.glClearColor(red, green, blue, alpha);
+	}
+
+	public void glClearDepthf (float depth) {
+		gl.glClearDepthf(depth);
+	}
+
+	public void glClearStencil (int s) {
+		gl.glClearStencil(s);
+	}
+
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		gl.glColorMask(red, green, blue, alpha);
+	}
+
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border, int imageSize, Buffer data) {
+		gl.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+	}
+
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, Buffer data) {
+		gl.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+	}
+
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		gl.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+	}
+
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		gl.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+	}
+
+	public void glCullFace (int mode) {
+		if (cullFace == mode) {
+			elidedCalls++;
+			return;
+		}
+		issuedCalls++;
+		cullFace = mode;
+		gl.glCullFace(mode);
+	}
+
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		// Deleting a bound texture binds 0 in its place.
+		for (int i = 0, position = textures.position(); i < n; i++) {
+			int texture = textures.get(position + i);
+			for (int unit = 0; unit < boundTextures.length; unit++)
+				if (boundTextures[unit] == texture) boundTextures[unit] = 0;
+		}
+		gl.glDeleteTextures(n, textures);
+	}
+
+	public void glDepthFunc (int func) {
+		if (depthFunc == func) {
+			elidedCalls++;
+			return;
+		}
+		issuedCalls++;
+		depthFunc = func;
+		gl.glDepthFunc(func);
+	}
+
+	public void glDepthMask (boolean flag) {
+		int mask = flag ? 1 : 0;
+		if (depthMask == mask) {
+			elidedCalls++;
+			return;
+		}
+		issuedCalls++;
+		depthMask = mask;
+		gl.glDepthMask(flag);
+	}
+
+	public void glDepthRangef (float zNear, float zFar) {
+		gl.glDepthRangef(zNear, zFar);
+	}
+
+	public void glDisable (int cap) {
+		if (!setCapability(cap, false)) return;
+		gl.glDisable(cap);
+	}
+
+	public void glDrawArrays (int mode, int first, int count) {
+		gl.glDrawArrays(mode, first, count);
+	}
+
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		gl.glDrawElements(mode, count, type, indices);
+	}
+
+	public void glEnable (int cap) {
+		if (!setCapability(cap, true)) return;
+		gl.glEnable(cap);
+	}
+
+	public void glFinish () {
+		gl.glFinish();
+	}
+
+	public void glFlush () {
+		gl.glFlush();
+	}
+
+	public void glFrontFace (int mode) {
+		gl.glFrontFace(mode);
+	}
+
+	public void glGenTextures (int n, IntBuffer textures) {
+		gl.glGenTextures(n, textures);
+	}
+
+	public int glGetError () {
+		return gl.glGetError();
+	}
+
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		gl.glGetIntegerv(pname, params);
+	}
+
+	public String glGetString (int name) {
+		return gl.glGetString(name);
+	}
+
+	public void glHint (int target, int mode) {
+		gl.glHint(target, mode);
+	}
+
+	public void glLineWidth (float width) {
+		gl.glLineWidth(width);
+	}
+
+	public void glPixelStorei (int pname, int param) {
+		gl.glPixelStorei(pname, param);
+	}
+
+	public void glPolygonOffset (float factor, float units) {
+		gl.glPolygonOffset(factor, units);
+	}
+
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		gl.glReadPixels(x, y, width, height, format, type, pixels);
+	}
+
+	public void glScissor (int x, int y, int width, int height) {
+		gl.glScissor(x, y, width, height);
+	}
+
+	public void glStencilFunc (int func, int ref, int mask) {
+		gl.glStencilFunc(func, ref, mask);
+	}
+
+	public void glStencilMask (int mask) {
+		gl.glStencilMask(mask);
+	}
+
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		gl.glStencilOp(fail, zfail, zpass);
+	}
+
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels) {
+		gl.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+	}
+
+	public void glTexParameterf (int target, int pname, float param) {
+		gl.glTexParameterf(target, pname, param);
+	}
+
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, Buffer pixels) {
+		gl.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+	}
+
+	public void glViewport (int x, int y, int width, int height) {
+		gl.glViewport(x, y, width, height);
+	}
+
+	public void glAttachShader (int program, int shader) {
+		gl.glAttachShader(program, shader);
+	}
+
+	public void glBindAttribLocation (int program, int index, String name) {
+		gl.glBindAttribLocation(program, index, name);
+	}
+
+	public void glBindBuffer (int target, int buffer) {
+		gl.glBindBuffer(target, buffer);
+	}
+
+	public void glBindFramebuffer (int target, int framebuffer) {
+		gl.glBindFramebuffer(target, framebuffer);
+	}
+
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		gl.glBindRenderbuffer(target, renderbuffer);
+	}
+
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		gl.glBlendColor(red, green, blue, alpha);
+	}
+
+	public void glBlendEquation (int mode) {
+		gl.glBlendEquation(mode);
+	}
+
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		gl.glBlendEquationSeparate(modeRGB, modeAlpha);
+	}
+
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (blendSrcRGB == srcRGB && blendDstRGB == dstRGB && blendSrcAlpha == srcAlpha && blendDstAlpha == dstAlpha) {
+			elidedCalls++;
+			return;
+		}
+		issuedCalls++;
+		blendSrcRGB = srcRGB;
+		blendDstRGB = dstRGB;
+		blendSrcAlpha = srcAlpha;
+		blendDstAlpha = dstAlpha;
+		gl.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+	}
+
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		gl.glBufferData(target, size, data, usage);
+	}
+
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		gl.glBufferSubData(target, offset, size, data);
+	}
+
+	public int glCheckFramebufferStatus (int target) {
+		return gl.glCheckFramebufferStatus(target);
+	}
+
+	public void glCompileShader (int shader) {
+		gl.glCompileShader(shader);
+	}
+
+	public int glCreateProgram () {
+		return gl.glCreateProgram();
+	}
+
+	public int glCreateShader (int type) {
+		return gl.glCreateShader(type);
+	}
+
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		gl.glDeleteBuffers(n, buffers);
+	}
+
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		gl.glDeleteFramebuffers(n, framebuffers);
+	}
+
+	public void glDeleteProgram (int program) {
+		gl.glDeleteProgram(program);
+	}
+
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl.glDeleteRenderbuffers(n, renderbuffers);
+	}
+
+	public void glDeleteShader (int shader) {
+		gl.glDeleteShader(shader);
+	}
+
+	public void glDetachShader (int program, int shader) {
+		gl.glDetachShader(program, shader);
+	}
+
+	public void glDisableVertexAttribArray (int index) {
+		gl.glDisableVertexAttribArray(index);
+	}
+
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		gl.glDrawElements(mode, count, type, indices);
+	}
+
+	public void glEnableVertexAttribArray (int index) {
+		gl.glEnableVertexAttribArray(index);
+	}
+
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		gl.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+	}
+
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		gl.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+	}
+
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		gl.glGenBuffers(n, buffers);
+	}
+
+	public void glGenerateMipmap (int target) {
+		gl.glGenerateMipmap(target);
+	}
+
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		gl.glGenFramebuffers(n, framebuffers);
+	}
+
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl.glGenRenderbuffers(n, renderbuffers);
+	}
+
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
+		return gl.glGetActiveAttrib(program, index, size, type);
+	}
+
+	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
+		return gl.glGetActiveUniform(program, index, size, type);
+	}
+
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		gl.glGetAttachedShaders(program, maxcount, count, shaders);
+	}
+
+	public int glGetAttribLocation (int program, String name) {
+		return gl.glGetAttribLocation(program, name);
+	}
+
+	public void glGetBooleanv (int pname, Buffer params) {
+		gl.glGetBooleanv(pname, params);
+	}
+
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		gl.glGetBufferParameteriv(target, pname, params);
+	}
+
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		gl.glGetFloatv(pname, params);
+	}
+
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		gl.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+	}
+
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		gl.glGetProgramiv(program, pname, params);
+	}
+
+	public String glGetProgramInfoLog (int program) {
+		return gl.glGetProgramInfoLog(program);
+	}
+
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		gl.glGetRenderbufferParameteriv(target, pname, params);
+	}
+
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		gl.glGetShaderiv(shader, pname, params);
+	}
+
+	public String glGetShaderInfoLog (int shader) {
+		return gl.glGetShaderInfoLog(shader);
+	}
+
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		gl.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+	}
+
+	public void glGetShaderSource (int shader, int bufsize, Buffer length, String source) {
+		gl.glGetShaderSource(shader, bufsize, length, source);
+	}
+
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl.glGetTexParameterfv(target, pname, params);
+	}
+
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		gl.glGetTexParameteriv(target, pname, params);
+	}
+
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		gl.glGetUniformfv(program, location, params);
+	}
+
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		gl.glGetUniformiv(program, location, params);
+	}
+
+	public int glGetUniformLocation (int program, String name) {
+		return gl.glGetUniformLocation(program, name);
+	}
+
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		gl.glGetVertexAttribfv(index, pname, params);
+	}
+
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		gl.glGetVertexAttribiv(index, pname, params);
+	}
+
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		gl.glGetVertexAttribPointerv(index, pname, pointer);
+	}
+
+	public boolean glIsBuffer (int buffer) {
+		return gl.glIsBuffer(buffer);
+	}
+
+	public boolean glIsEnabled (int cap) {
+		return gl.glIsEnabled(cap);
+	}
+
+	public boolean glIsFramebuffer (int framebuffer) {
+		return gl.glIsFramebuffer(framebuffer);
+	}
+
+	public boolean glIsProgram (int program) {
+		return gl.glIsProgram(program);
+	}
+
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		return gl.glIsRenderbuffer(renderbuffer);
+	}
+
+	public boolean glIsShader (int shader) {
+		return gl.glIsShader(shader);
+	}
+
+	public boolean glIsTexture (int texture) {
+		return gl.glIsTexture(texture);
+	}
+
+	public void glLinkProgram (int program) {
+		gl.glLinkProgram(program);
+	}
+
+	public void glReleaseShaderCompiler () {
+		gl.glReleaseShaderCompiler();
+	}
+
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		gl.glRenderbufferStorage(target, internalformat, width, height);
+	}
+
+	public void glSampleCoverage (float value, boolean invert) {
+		gl.glSampleCoverage(value, invert);
+	}
+
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		gl.glShaderBinary(n, shaders, binaryformat, binary, length);
+	}
+
+	public void glShaderSource (int shader, String string) {
+		gl.glShaderSource(shader, string);
+	}
+
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		gl.glStencilFuncSeparate(face, func, ref, mask);
+	}
+
+	public void glStencilMaskSeparate (int face, int mask) {
+		gl.glStencilMaskSeparate(face, mask);
+	}
+
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		gl.glStencilOpSeparate(face, fail, zfail, zpass);
+	}
+
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl.glTexParameterfv(target, pname, params);
+	}
+
+	public void glTexParameteri (int target, int pname, int param) {
+		gl.glTexParameteri(target, pname, param);
+	}
+
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		gl.glTexParameteriv(target, pname, params);
+	}
+
+	public void glUniform1f (int location, float x) {
+		gl.glUniform1f(location, x);
+	}
+
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		gl.glUniform1fv(location, count, v);
+	}
+
+	public void glUniform1i (int location, int x) {
+		gl.glUniform1i(location, x);
+	}
+
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		gl.glUniform1iv(location, count, v);
+	}
+
+	public void glUniform2f (int location, float x, float y) {
+		gl.glUniform2f(location, x, y);
+	}
+
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		gl.glUniform2fv(location, count, v);
+	}
+
+	public void glUniform2i (int location, int x, int y) {
+		gl.glUniform2i(location, x, y);
+	}
+
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		gl.glUniform2iv(location, count, v);
+	}
+
+	public void glUniform3f (int location, float x, float y, float z) {
+		gl.glUniform3f(location, x, y, z);
+	}
+
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		gl.glUniform3fv(location, count, v);
+	}
+
+	public void glUniform3i (int location, int x, int y, int z) {
+		gl.glUniform3i(location, x, y, z);
+	}
+
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		gl.glUniform3iv(location, count, v);
+	}
+
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		gl.glUniform4f(location, x, y, z, w);
+	}
+
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		gl.glUniform4fv(location, count, v);
+	}
+
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		gl.glUniform4i(location, x, y, z, w);
+	}
+
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		gl.glUniform4iv(location, count, v);
+	}
+
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl.glUniformMatrix2fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl.glUniformMatrix3fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl.glUniformMatrix4fv(location, count, transpose, value);
+	}
+
+	public void glUseProgram (int program) {
+		gl.glUseProgram(program);
+	}
+
+	public void glValidateProgram (int program) {
+		gl.glValidateProgram(program);
+	}
+
+	public void glVertexAttrib1f (int indx, float x) {
+		gl.glVertexAttrib1f(indx, x);
+	}
+
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		gl.glVertexAttrib1fv(indx, values);
+	}
+
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		gl.glVertexAttrib2f(indx, x, y);
+	}
+
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		gl.glVertexAttrib2fv(indx, values);
+	}
+
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		gl.glVertexAttrib3f(indx, x, y, z);
+	}
+
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		gl.glVertexAttrib3fv(indx, values);
+	}
+
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		gl.glVertexAttrib4f(indx, x, y, z, w);
+	}
+
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		gl.glVertexAttrib4fv(indx, values);
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		gl.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		gl.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+}
@@ -102,6 +102,11 @@ public class ShaderProgram implements Disposable {
 	/** uniform names **/
 	private String[] uniformNames;
 
+	/** Per uniform location, the raw bits of the values last uploaded and the number of values, 0 if unknown. Locations beyond
+	 * those of the active uniforms are not cached. **/
+	private int[][] uniformValues = new int[0][];
+	private int[] uniformValueCounts = new int[0];
+
 	/** attribute lookup **/
 	private final ObjectIntMap<String> attributes = new ObjectIntMap<String>();
 
@@ -274,15 +279,24 @@ public class ShaderProgram implements Disposable {
 	}
 
 	private int fetchUniformLocation (String name) {
+		return fetchUniformLocation(name, pedantic);
+	}
+
+	/** Returns the location of the uniform, which can be passed to the methods that set a uniform by location to avoid looking up
+	 * the name each time. Unlike {@link #getUniformLocation(String)}, names of inactive uniforms and of array elements such as
+	 * "u_lights[2]" are looked up in the program.
+	 * @param pedantic if true, an IllegalArgumentException is thrown if the uniform does not exist.
+	 * @return the location of the uniform or -1. */
+	public int fetchUniformLocation (String name, boolean pedantic) {
 		GL20 gl = Gdx.graphics.getGL20();
 		// -2 == not yet cached
 		// -1 == cached but not found
 		int location;
 		if ((location = uniforms.get(name, -2)) == -2) {
 			location = gl.glGetUniformLocation(program, name);
-			if (location == -1 && pedantic) throw new IllegalArgumentException("no uniform with name '" + name + "' in shader");
 			uniforms.put(name, location);
 		}
+		if (location == -1 && pedantic) throw new IllegalArgumentException("no uniform with name '" + name + "' in shader");
 		return location;
 	}
 
@@ -292,10 +306,7 @@ public class ShaderProgram implements Disposable {
 	 * @param name the name of the uniform
 	 * @param value the value */
 	public void setUniformi (String name, int value) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform1i(location, value);
+		setUniformi(fetchUniformLocation(name), value);
 	}
 
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
@@ -305,10 +316,7 @@ public class ShaderProgram implements Disposable {
 	 * @param value1 the first value
 	 * @param value2 the second value */
 	public void setUniformi (String name, int value1, int value2) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform2i(location, value1, value2);
+		setUniformi(fetchUniformLocation(name), value1, value2);
 	}
 
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
@@ -319,10 +327,7 @@ public class ShaderProgram implements Disposable {
 	 * @param value2 the second value
 	 * @param value3 the third value */
 	public void setUniformi (String name, int value1, int value2, int value3) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform3i(location, value1, value2, value3);
+		setUniformi(fetchUniformLocation(name), value1, value2, value3);
 	}
 
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
@@ -334,10 +339,7 @@ public class ShaderProgram implements Disposable {
 	 * @param value3 the third value
 	 * @param value4 the fourth value */
 	public void setUniformi (String name, int value1, int value2, int value3, int value4) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform4i(location, value1, value2, value3, value4);
+		setUniformi(fetchUniformLocation(name), value1, value2, value3, value4);
 	}
 
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
@@ -346,10 +348,7 @@ public class ShaderProgram implements Disposable {
 	 * @param name the name of the uniform
 	 * @param value the value */
 	public void setUniformf (String name, float value) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform1f(location, value);
+		setUniformf(fetchUniformLocation(name), value);
 	}
 
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
@@ -359,10 +358,7 @@ public class ShaderProgram implements Disposable {
 	 * @param value1 the first value
 	 * @param value2 the second value */
 	public void setUniformf (String name, float value1, float value2) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform2f(location, value1, value2);
+		setUniformf(fetchUniformLocation(name), value1, value2);
 	}
 
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
@@ -373,10 +369,7 @@ public class ShaderProgram implements Disposable {
 	 * @param value2 the second value
 	 * @param value3 the third value */
 	public void setUniformf (String name, float value1, float value2, float value3) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform3f(location, value1, value2, value3);
+		setUniformf(fetchUniformLocation(name), value1, value2, value3);
 	}
 
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
@@ -388,50 +381,23 @@ public class ShaderProgram implements Disposable {
 	 * @param value3 the third value
 	 * @param value4 the fourth value */
 	public void setUniformf (String name, float value1, float value2, float value3, float value4) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		gl.glUniform4f(location, value1, value2, value3, value4);
+		setUniformf(fetchUniformLocation(name), value1, value2, value3, value4);
 	}
 
 	public void setUniform1fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		ensureBufferCapacity(length << 2);
-		floatBuffer.clear();
-		BufferUtils.copy(values, floatBuffer, length, offset);
-		gl.glUniform1fv(location, length, floatBuffer);
+		setUniform1fv(fetchUniformLocation(name), values, offset, length);
 	}
 
 	public void setUniform2fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		ensureBufferCapacity(length << 2);
-		floatBuffer.clear();
-		BufferUtils.copy(values, floatBuffer, length, offset);
-		gl.glUniform2fv(location, length / 2, floatBuffer);
+		setUniform2fv(fetchUniformLocation(name), values, offset, length);
 	}
 
 	public void setUniform3fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		ensureBufferCapacity(length << 2);
-		floatBuffer.clear();
-		BufferUtils.copy(values, floatBuffer, length, offset);
-		gl.glUniform3fv(location, length / 3, floatBuffer);
+		setUniform3fv(fetchUniformLocation(name), values, offset, length);
 	}
 
 	public void setUniform4fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		ensureBufferCapacity(length << 2);
-		floatBuffer.clear();
-		BufferUtils.copy(values, floatBuffer, length, offset);
-		gl.glUniform4fv(location, length / 4, floatBuffer);
+		setUniform4fv(fetchUniformLocation(name), values, offset, length);
 	}
 
 	/** Sets the uniform matrix with the given name. Throws an IllegalArgumentException in case it is not called in between a
@@ -450,12 +416,7 @@ public class ShaderProgram implements Disposable {
 	 * @param matrix the matrix
 	 * @param transpose whether the matrix shouls be transposed */
 	public void setUniformMatrix (String name, Matrix4 matrix, boolean transpose) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		this.matrix.clear();
-		BufferUtils.copy(matrix.val, this.matrix, matrix.val.length, 0);
-		gl.glUniformMatrix4fv(location, 1, transpose, this.matrix);
+		setUniformMatrix(fetchUniformLocation(name), matrix, transpose);
 	}
 
 	/** Sets the uniform matrix with the given name. Throws an IllegalArgumentException in case it is not called in between a
@@ -474,13 +435,7 @@ public class ShaderProgram implements Disposable {
 	 * @param matrix the matrix
 	 * @param transpose whether the uniform matrix should be transposed */
 	public void setUniformMatrix (String name, Matrix3 matrix, boolean transpose) {
-		GL20 gl = Gdx.graphics.getGL20();
-		checkManaged();
-		int location = fetchUniformLocation(name);
-		float[] vals = matrix.getValues();
-		this.matrix.clear();
-		BufferUtils.copy(vals, this.matrix, vals.length, 0);
-		gl.glUniformMatrix3fv(location, 1, transpose, this.matrix);
+		setUniformMatrix(fetchUniformLocation(name), matrix, transpose);
 	}
 	
 
@@ -511,6 +466,202 @@ public class ShaderProgram implements Disposable {
        setUniformf(name, values.r, values.g, values.b, values.a);
    }
 
+	/** Sets the uniform at the given location, as returned by {@link #fetchUniformLocation(String, boolean)}. Must be called in
+	 * between a {@link #begin()}/{@link #end()} block. The call to OpenGL is skipped if the value was already set.
+	 * 
+	 * @param location the location of the uniform
+	 * @param value the value */
+	public void setUniformi (int location, int value) {
+		checkManaged();
+		if (!cache(location, 1, value, 0, 0, 0)) return;
+		Gdx.graphics.getGL20().glUniform1i(location, value);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformi (int location, int value1, int value2) {
+		checkManaged();
+		if (!cache(location, 2, value1, value2, 0, 0)) return;
+		Gdx.graphics.getGL20().glUniform2i(location, value1, value2);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformi (int location, int value1, int value2, int value3) {
+		checkManaged();
+		if (!cache(location, 3, value1, value2, value3, 0)) return;
+		Gdx.graphics.getGL20().glUniform3i(location, value1, value2, value3);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformi (int location, int value1, int value2, int value3, int value4) {
+		checkManaged();
+		if (!cache(location, 4, value1, value2, value3, value4)) return;
+		Gdx.graphics.getGL20().glUniform4i(location, value1, value2, value3, value4);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformf (int location, float value) {
+		checkManaged();
+		if (!cache(location, 1, Float.floatToRawIntBits(value), 0, 0, 0)) return;
+		Gdx.graphics.getGL20().glUniform1f(location, value);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformf (int location, float value1, float value2) {
+		checkManaged();
+		if (!cache(location, 2, Float.floatToRawIntBits(value1), Float.floatToRawIntBits(value2), 0, 0)) return;
+		Gdx.graphics.getGL20().glUniform2f(location, value1, value2);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformf (int location, float value1, float value2, float value3) {
+		checkManaged();
+		if (!cache(location, 3, Float.floatToRawIntBits(value1), Float.floatToRawIntBits(value2), Float.floatToRawIntBits(value3),
+			0)) return;
+		Gdx.graphics.getGL20().glUniform3f(location, value1, value2, value3);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformf (int location, float value1, float value2, float value3, float value4) {
+		checkManaged();
+		if (!cache(location, 4, Float.floatToRawIntBits(value1), Float.floatToRawIntBits(value2), Float.floatToRawIntBits(value3),
+			Float.floatToRawIntBits(value4))) return;
+		Gdx.graphics.getGL20().glUniform4f(location, value1, value2, value3, value4);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformf (int location, Vector2 values) {
+		setUniformf(location, values.x, values.y);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformf (int location, Vector3 values) {
+		setUniformf(location, values.x, values.y, values.z);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformf (int location, Color values) {
+		setUniformf(location, values.r, values.g, values.b, values.a);
+	}
+
+	/** Sets the uniform array at the given location. Arrays are always uploaded. */
+	public void setUniform1fv (int location, float[] values, int offset, int length) {
+		checkManaged();
+		uncache(location, length);
+		ensureBufferCapacity(length << 2);
+		floatBuffer.clear();
+		BufferUtils.copy(values, floatBuffer, length, offset);
+		Gdx.graphics.getGL20().glUniform1fv(location, length, floatBuffer);
+	}
+
+	/** @see #setUniform1fv(int, float[], int, int) */
+	public void setUniform2fv (int location, float[] values, int offset, int length) {
+		checkManaged();
+		uncache(location, length / 2);
+		ensureBufferCapacity(length << 2);
+		floatBuffer.clear();
+		BufferUtils.copy(values, floatBuffer, length, offset);
+		Gdx.graphics.getGL20().glUniform2fv(location, length / 2, floatBuffer);
+	}
+
+	/** @see #setUniform1fv(int, float[], int, int) */
+	public void setUniform3fv (int location, float[] values, int offset, int length) {
+		checkManaged();
+		uncache(location, length / 3);
+		ensureBufferCapacity(length << 2);
+		floatBuffer.clear();
+		BufferUtils.copy(values, floatBuffer, length, offset);
+		Gdx.graphics.getGL20().glUniform3fv(location, length / 3, floatBuffer);
+	}
+
+	/** @see #setUniform1fv(int, float[], int, int) */
+	public void setUniform4fv (int location, float[] values, int offset, int length) {
+		checkManaged();
+		uncache(location, length / 4);
+		ensureBufferCapacity(length << 2);
+		floatBuffer.clear();
+		BufferUtils.copy(values, floatBuffer, length, offset);
+		Gdx.graphics.getGL20().glUniform4fv(location, length / 4, floatBuffer);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformMatrix (int location, Matrix4 matrix) {
+		setUniformMatrix(location, matrix, false);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformMatrix (int location, Matrix4 matrix, boolean transpose) {
+		checkManaged();
+		if (!cache(location, matrix.val, 16, transpose)) return;
+		this.matrix.clear();
+		BufferUtils.copy(matrix.val, this.matrix, matrix.val.length, 0);
+		Gdx.graphics.getGL20().glUniformMatrix4fv(location, 1, transpose, this.matrix);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformMatrix (int location, Matrix3 matrix) {
+		setUniformMatrix(location, matrix, false);
+	}
+
+	/** @see #setUniformi(int, int) */
+	public void setUniformMatrix (int location, Matrix3 matrix, boolean transpose) {
+		checkManaged();
+		float[] vals = matrix.getValues();
+		if (!cache(location, vals, 9, transpose)) return;
+		this.matrix.clear();
+		BufferUtils.copy(vals, this.matrix, vals.length, 0);
+		Gdx.graphics.getGL20().glUniformMatrix3fv(location, 1, transpose, this.matrix);
+	}
+
+	/** Stores the values to be uploaded to the location.
+	 * @param count the number of values, which identifies the kind of uniform.
+	 * @return false if the same values were last uploaded to the location. */
+	private boolean cache (int location, int count, int value1, int value2, int value3, int value4) {
+		if (location < 0 || location >= uniformValueCounts.length) return true;
+		int[] values = uniformValues[location];
+		if (values == null) values = uniformValues[location] = new int[16];
+		if (uniformValueCounts[location] == count && values[0] == value1 && values[1] == value2 && values[2] == value3
+			&& values[3] == value4) return false;
+		uniformValueCounts[location] = count;
+		values[0] = value1;
+		values[1] = value2;
+		values[2] = value3;
+		values[3] = value4;
+		return true;
+	}
+
+	private boolean cache (int location, float[] matrix, int count, boolean transpose) {
+		if (location < 0 || location >= uniformValueCounts.length) return true;
+		int[] values = uniformValues[location];
+		if (values == null) values = uniformValues[location] = new int[16];
+		// Transposed matrices are counted separately so they do not match the same values untransposed.
+		int countKey = transpose ? -count : count;
+		boolean same = uniformValueCounts[location] == countKey;
+		for (int i = 0; i < count; i++) {
+			int bits = Float.floatToRawIntBits(matrix[i]);
+			if (values[i] != bits) {
+				values[i] = bits;
+				same = false;
+			}
+		}
+		uniformValueCounts[location] = countKey;
+		return !same;
+	}
+
+	/** Forgets the values of the uniforms at the location and the following ones, which hold the other elements of an array.
+	 * @param count the number of array elements, each of which has its own location. */
+	private void uncache (int location, int count) {
+		if (location < 0) return;
+		for (int i = location, n = Math.min(location + count, uniformValueCounts.length); i < n; i++)
+			uniformValueCounts[i] = 0;
+	}
+
+	/** Forgets the values uploaded to the uniforms, so the next values set are always uploaded. Must be called after changing
+	 * uniforms of this program directly through OpenGL. */
+	public void invalidateUniformCache () {
+		for (int i = 0, n = uniformValueCounts.length; i < n; i++)
+			uniformValueCounts[i] = 0;
+	}
+
 	/** Sets the vertex attribute with the given name. Throws an IllegalArgumentException in case it is not called in between a
 	 * {@link #begin()}/{@link #end()} block.
 	 * 
@@ -598,6 +749,7 @@ public class ShaderProgram implements Disposable {
 		if (invalidated) {
 			compileShaders(vertexShaderSource, fragmentShaderSource);
 			invalidated = false;
+			invalidateUniformCache();
 		}
 	}
 
@@ -669,6 +821,7 @@ public class ShaderProgram implements Disposable {
 
 		uniformNames = new String[numUniforms];
 
+		int maxLocation = -1;
 		for (int i = 0; i < numUniforms; i++) {
 			params.clear();
 			params.put(0, 256);
@@ -678,6 +831,12 @@ public class ShaderProgram implements Disposable {
 			uniforms.put(name, location);
 			uniformTypes.put(name, type.get(0));
 			uniformNames[i] = name;
+			maxLocation = Math.max(maxLocation, location);
+		}
+		// Drivers number locations densely, a sparse numbering is not worth caching.
+		if (maxLocation < 1024) {
+			uniformValues = new int[maxLocation + 1][];
+			uniformValueCounts = new int[maxLocation + 1];
 		}
 	}
 
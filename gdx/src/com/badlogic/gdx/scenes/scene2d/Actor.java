@@ -91,6 +91,7 @@ public abstract class Actor {
 	private boolean toRemove;
 
 	protected Stage stage;
+	CullingBounds cullingBounds;
 
 	/** Creates an actor without a name. */
 	public Actor () {
@@ -205,6 +206,18 @@ public abstract class Actor {
 		return toRemove;
 	}
 
+	/** Computes the bounds used by {@link Stage#setCulling(boolean) culling} if this actor was moved, resized, rotated or scaled
+	 * since they were last computed.
+	 * @return true if the bounds were computed. */
+	boolean updateCullingBounds () {
+		CullingBounds bounds = cullingBounds;
+		if (bounds == null)
+			cullingBounds = bounds = new CullingBounds();
+		else if (!bounds.changed(this)) return false;
+		bounds.set(this, Math.min(0, width), Math.min(0, height), Math.max(0, width), Math.max(0, height));
+		return true;
+	}
+
 	/** Returns the stage that this actor is currently in, or null if not in a stage. */
 	public Stage getStage () {
 		return stage;
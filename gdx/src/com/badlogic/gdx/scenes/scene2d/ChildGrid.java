@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d;
+
+import java.util.List;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+
+/** A uniform grid over the children of a {@link Group}, used to find the children that may be hit at a point without testing
+ * every child. Children are stored by their index in the group. Groups and rotated or scaled children can be hit outside of
+ * their bounds, so they are not put in cells and are returned for every point.
+ * @see Group#setSpatialIndex(float) */
+class ChildGrid {
+	/** Children covering more cells than this are treated like transformed children, so large backgrounds don't fill the grid. */
+	static private final int MAX_CELLS = 64;
+	static private final int UNINDEXED = Integer.MIN_VALUE;
+
+	final float cellSize;
+	private final LongMap<IntArray> cells = new LongMap();
+	/** The indices of children that are returned for every point. */
+	private final IntArray unindexed = new IntArray();
+	/** For each child, the first and last column and row of cells it is in, or {@link #UNINDEXED} in the last column if it is not in cells. */
+	private int[] ranges = new int[0];
+	private int childCount;
+	/** True if children were added, removed or reordered, which invalidates all stored indices. */
+	boolean rebuild = true;
+
+	final Pool<IntArray> candidatesPool = new Pool<IntArray>() {
+		protected IntArray newObject () {
+			return new IntArray();
+		}
+	};
+
+	ChildGrid (float cellSize) {
+		this.cellSize = cellSize;
+	}
+
+	/** Moves the children whose bounds now cover different cells, or rebuilds the grid if the children have changed. */
+	void update (List<Actor> children) {
+		if (rebuild || children.size() != childCount) {
+			rebuild(children);
+			return;
+		}
+		int[] ranges = this.ranges;
+		float cellSize = this.cellSize;
+		for (int i = 0, n = childCount; i < n; i++) {
+			Actor child = children.get(i);
+			int r = i * 4;
+			if (!isIndexed(child)) {
+				if (ranges[r + 2] != UNINDEXED) {
+					remove(i);
+					ranges[r + 2] = UNINDEXED;
+					unindexed.add(i);
+				}
+				continue;
+			}
+			int minX = (int)Math.floor(child.x / cellSize), minY = (int)Math.floor(child.y / cellSize);
+			int maxX = (int)Math.floor((child.x + child.width) / cellSize);
+			int maxY = (int)Math.floor((child.y + child.height) / cellSize);
+			if (ranges[r] == minX && ranges[r + 1] == minY && ranges[r + 2] == maxX && ranges[r + 3] == maxY) continue;
+			if (ranges[r + 2] == UNINDEXED)
+				unindexed.removeValue(i);
+			else
+				remove(i);
+			add(i, minX, minY, maxX, maxY);
+		}
+	}
+
+	private void rebuild (List<Actor> children) {
+		rebuild = false;
+		cells.clear();
+		unindexed.clear();
+		int n = children.size();
+		childCount = n;
+		if (ranges.length < n * 4) ranges = new int[n * 4];
+		float cellSize = this.cellSize;
+		for (int i = 0; i < n; i++) {
+			Actor child = children.get(i);
+			if (isIndexed(child)) {
+				add(i, (int)Math.floor(child.x / cellSize), (int)Math.floor(child.y / cellSize),
+					(int)Math.floor((child.x + child.width) / cellSize), (int)Math.floor((child.y + child.height) / cellSize));
+			} else {
+				ranges[i * 4 + 2] = UNINDEXED;
+				unindexed.add(i);
+			}
+		}
+	}
+
+	static private boolean isIndexed (Actor child) {
+		return child.rotation == 0 && child.scaleX == 1 && child.scaleY == 1 && child.width >= 0 && child.height >= 0
+			&& !(child instanceof Group);
+	}
+
+	private void add (int index, int minX, int minY, int maxX, int maxY) {
+		int r = index * 4;
+		if ((long)(maxX - minX + 1) * (maxY - minY + 1) > MAX_CELLS) {
+			ranges[r + 2] = UNINDEXED;
+			unindexed.add(index);
+			return;
+		}
+		ranges[r] = minX;
+		ranges[r + 1] = minY;
+		ranges[r + 2] = maxX;
+		ranges[r + 3] = maxY;
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				long key = (long)x << 32 | (y & 0xFFFFFFFFL);
+				IntArray cell = cells.get(key);
+				if (cell == null) cells.put(key, cell = new IntArray(4));
+				cell.add(index);
+			}
+		}
+	}
+
+	private void remove (int index) {
+		int r = index * 4;
+		for (int x = ranges[r], maxX = ranges[r + 2]; x <= maxX; x++) {
+			for (int y = ranges[r + 1], maxY = ranges[r + 3]; y <= maxY; y++) {
+				long key = (long)x << 32 | (y & 0xFFFFFFFFL);
+				IntArray cell = cells.get(key);
+				cell.removeValue(index);
+				// Empty cells are removed so the map doesn't keep every cell a moving child ever passed through.
+				if (cell.size == 0) cells.remove(key);
+			}
+		}
+	}
+
+	/** Adds the indices of the children that may be hit at the point to candidates, sorted from bottom to top. */
+	void query (float x, float y, IntArray candidates) {
+		int cellX = (int)Math.floor(x / cellSize), cellY = (int)Math.floor(y / cellSize);
+		IntArray cell = cells.get((long)cellX << 32 | (cellY & 0xFFFFFFFFL));
+		if (cell != null) candidates.addAll(cell);
+		candidates.addAll(unindexed);
+		candidates.sort();
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** The axis aligned bounds of an actor and its descendants in the coordinates of the actor's parent, used to skip actors outside
+ * the camera when {@link Stage#setCulling(boolean) culling} is enabled. The transform and size the bounds were computed from are
+ * kept, so the bounds are only computed again after the actor is moved, resized, rotated or scaled.
+ * @see Actor#updateCullingBounds() */
+class CullingBounds {
+	private float x = Float.NaN, y, width, height, originX, originY, scaleX, scaleY, rotation;
+	private boolean transform;
+
+	float minX, minY, maxX, maxY;
+
+	/** Returns true if the actor's transform or size differs from the one the bounds were computed from. */
+	boolean changed (Actor actor) {
+		if (actor.x != x || actor.y != y || actor.width != width || actor.height != height || actor.rotation != rotation
+			|| actor.scaleX != scaleX || actor.scaleY != scaleY || actor.originX != originX || actor.originY != originY) return true;
+		return actor instanceof Group && ((Group)actor).transform != transform;
+	}
+
+	/** Sets the bounds to the rectangle in the actor's coordinates transformed to its parent's coordinates. Groups without a
+	 * transform draw their children offset by their position only, so their rotation and scale are ignored. */
+	void set (Actor actor, float localMinX, float localMinY, float localMaxX, float localMaxY) {
+		x = actor.x;
+		y = actor.y;
+		width = actor.width;
+		height = actor.height;
+		originX = actor.originX;
+		originY = actor.originY;
+		scaleX = actor.scaleX;
+		scaleY = actor.scaleY;
+		rotation = actor.rotation;
+		transform = actor instanceof Group && ((Group)actor).transform;
+
+		if ((actor instanceof Group && !transform) || (rotation == 0 && scaleX == 1 && scaleY == 1)) {
+			minX = x + localMinX;
+			minY = y + localMinY;
+			maxX = x + localMaxX;
+			maxY = y + localMaxY;
+			return;
+		}
+
+		float cos = 1, sin = 0;
+		if (rotation != 0) {
+			cos = (float)Math.cos(rotation * MathUtils.degreesToRadians);
+			sin = (float)Math.sin(rotation * MathUtils.degreesToRadians);
+		}
+		// The corners relative to the origin, scaled.
+		float x1 = (localMinX - originX) * scaleX, x2 = (localMaxX - originX) * scaleX;
+		float y1 = (localMinY - originY) * scaleY, y2 = (localMaxY - originY) * scaleY;
+		// Each coordinate is the sum of a term from the x and the y of a corner, so the extremes use the extreme terms.
+		float ax = cos * x1, bx = cos * x2, cx = -sin * y1, dx = -sin * y2;
+		float ay = sin * x1, by = sin * x2, cy = cos * y1, dy = cos * y2;
+		float worldOriginX = x + originX, worldOriginY = y + originY;
+		minX = worldOriginX + Math.min(ax, bx) + Math.min(cx, dx);
+		maxX = worldOriginX + Math.max(ax, bx) + Math.max(cx, dx);
+		minY = worldOriginY + Math.min(ay, by) + Math.min(cy, dy);
+		maxY = worldOriginY + Math.max(ay, by) + Math.max(cy, dy);
+	}
+
+	boolean overlaps (float minX, float minY, float maxX, float maxY) {
+		return this.minX <= maxX && this.maxX >= minX && this.minY <= maxY && this.maxY >= minY;
+	}
+}
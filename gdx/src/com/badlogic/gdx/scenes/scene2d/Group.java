@@ -29,6 +29,7 @@ import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.ObjectMap;
 
 /** A group is an Actor that contains other Actors (also other Groups which are Actors).
@@ -54,6 +55,17 @@ public class Group extends Actor implements Cullable {
 
 	protected Rectangle cullingArea;
 	protected final Vector2 point = new Vector2();
+	private ChildGrid childGrid;
+	/** The area visible through the camera in this group's coordinates, valid when cullingFrame matches the stage's. */
+	private float cullingMinX, cullingMinY, cullingMaxX, cullingMaxY;
+	private int cullingFrame;
+	private boolean cullingChildrenChanged = true;
+	/** The values localTransform was computed from. */
+	private float transformX = Float.NaN, transformY, transformOriginX, transformOriginY, transformRotation, transformScaleX,
+		transformScaleY;
+	/** The ancestor and its version that worldTransform was computed from. The version changes when worldTransform changes. */
+	private Group transformParent;
+	private int transformParentVersion, transformVersion;
 
 	public Group () {
 		this(null);
@@ -81,6 +93,7 @@ public class Group extends Actor implements Cullable {
 				i--;
 			}
 		}
+		if (childGrid != null) childGrid.update(children);
 	}
 
 	@Override
@@ -89,6 +102,17 @@ public class Group extends Actor implements Cullable {
 			batch.draw(debugTexture, x, y, originX, originY, width == 0 ? 200 : width, height == 0 ? 200 : height, scaleX, scaleY,
 				rotation, 0, 0, debugTexture.getWidth(), debugTexture.getHeight(), false, false);
 
+		if (transform && rotation == 0 && scaleX == 1 && scaleY == 1 && stage != null && stage.getDrawReordering()) {
+			// A translation is drawn by offsetting the children like a group without a transform, which keeps the batch going.
+			transform = false;
+			try {
+				drawChildren(batch, parentAlpha);
+			} finally {
+				transform = true;
+			}
+			return;
+		}
+
 		if (transform) applyTransform(batch);
 		drawChildren(batch, parentAlpha);
 		if (transform) resetTransform(batch);
@@ -96,11 +120,12 @@ public class Group extends Actor implements Cullable {
 
 	protected void drawChildren (SpriteBatch batch, float parentAlpha) {
 		parentAlpha *= color.a;
+		boolean cull = stage != null && stage.getCulling() && cullingFrame == stage.cullingFrame;
 		if (cullingArea != null) {
 			if (transform) {
 				for (int i = 0; i < children.size(); i++) {
 					Actor child = children.get(i);
-					if (!child.visible) continue;
+					if (!child.visible || cull && isCulled(child)) continue;
 					if (child.x <= cullingArea.x + cullingArea.width && child.x + child.width >= cullingArea.x
 						&& child.y <= cullingArea.y + cullingArea.height && child.y + child.height >= cullingArea.y) {
 						child.draw(batch, parentAlpha);
@@ -114,7 +139,7 @@ public class Group extends Actor implements Cullable {
 				y = 0;
 				for (int i = 0; i < children.size(); i++) {
 					Actor child = children.get(i);
-					if (!child.visible) continue;
+					if (!child.visible || cull && isCulled(child)) continue;
 					if (child.x <= cullingArea.x + cullingArea.width && child.x + child.width >= cullingArea.x
 						&& child.y <= cullingArea.y + cullingArea.height && child.y + child.height >= cullingArea.y) {
 						child.x += offsetX;
@@ -131,7 +156,7 @@ public class Group extends Actor implements Cullable {
 			if (transform) {
 				for (int i = 0; i < children.size(); i++) {
 					Actor child = children.get(i);
-					if (!child.visible) continue;
+					if (!child.visible || cull && isCulled(child)) continue;
 					child.draw(batch, parentAlpha);
 				}
 				batch.flush();
@@ -142,7 +167,7 @@ public class Group extends Actor implements Cullable {
 				y = 0;
 				for (int i = 0; i < children.size(); i++) {
 					Actor child = children.get(i);
-					if (!child.visible) continue;
+					if (!child.visible || cull && isCulled(child)) continue;
 					child.x += offsetX;
 					child.y += offsetY;
 					child.draw(batch, parentAlpha);
@@ -155,6 +180,68 @@ public class Group extends Actor implements Cullable {
 		}
 	}
 
+	/** Returns true if the child is outside the area visible through the camera. Otherwise, if the child is a group, the visible
+	 * area is passed on to it. */
+	private boolean isCulled (Actor child) {
+		CullingBounds bounds = child.cullingBounds;
+		if (bounds == null) return false;
+		if (!bounds.overlaps(cullingMinX, cullingMinY, cullingMaxX, cullingMaxY)) return true;
+		if (child instanceof Group) ((Group)child).setVisibleArea(cullingMinX, cullingMinY, cullingMaxX, cullingMaxY, cullingFrame);
+		return false;
+	}
+
+	/** Sets the area visible through the camera from the area in the parent's coordinates. */
+	void setVisibleArea (float minX, float minY, float maxX, float maxY, int frame) {
+		cullingFrame = frame;
+		if (!transform || rotation == 0 && scaleX == 1 && scaleY == 1) {
+			cullingMinX = minX - x;
+			cullingMinY = minY - y;
+			cullingMaxX = maxX - x;
+			cullingMaxY = maxY - y;
+			return;
+		}
+		// Use the bounds of the area's corners relative to the origin, unrotated and unscaled.
+		float cos = 1, sin = 0;
+		if (rotation != 0) {
+			cos = (float)Math.cos(rotation * MathUtils.degreesToRadians);
+			sin = (float)Math.sin(rotation * MathUtils.degreesToRadians);
+		}
+		float worldOriginX = x + originX, worldOriginY = y + originY;
+		float x1 = minX - worldOriginX, x2 = maxX - worldOriginX, y1 = minY - worldOriginY, y2 = maxY - worldOriginY;
+		// Each coordinate is the sum of a term from the x and the y of a corner, so the extremes use the extreme terms.
+		float ax = cos * x1 / scaleX, bx = cos * x2 / scaleX, cx = sin * y1 / scaleX, dx = sin * y2 / scaleX;
+		float ay = -sin * x1 / scaleY, by = -sin * x2 / scaleY, cy = cos * y1 / scaleY, dy = cos * y2 / scaleY;
+		cullingMinX = originX + Math.min(ax, bx) + Math.min(cx, dx);
+		cullingMaxX = originX + Math.max(ax, bx) + Math.max(cx, dx);
+		cullingMinY = originY + Math.min(ay, by) + Math.min(cy, dy);
+		cullingMaxY = originY + Math.max(ay, by) + Math.max(cy, dy);
+	}
+
+	/** Computes the bounds of the children that were moved or resized, then the group's own bounds if it or any of its children
+	 * changed. The group's area is included for groups that draw more than their children. */
+	boolean updateCullingBounds () {
+		boolean changed = cullingChildrenChanged;
+		cullingChildrenChanged = false;
+		List<Actor> children = this.children;
+		int n = children.size();
+		for (int i = 0; i < n; i++)
+			if (children.get(i).updateCullingBounds()) changed = true;
+		if (cullingBounds == null)
+			cullingBounds = new CullingBounds();
+		else if (!changed && !cullingBounds.changed(this)) return false;
+
+		float minX = Math.min(0, width), minY = Math.min(0, height), maxX = Math.max(0, width), maxY = Math.max(0, height);
+		for (int i = 0; i < n; i++) {
+			CullingBounds bounds = children.get(i).cullingBounds;
+			minX = Math.min(minX, bounds.minX);
+			minY = Math.min(minY, bounds.minY);
+			maxX = Math.max(maxX, bounds.maxX);
+			maxY = Math.max(maxY, bounds.maxY);
+		}
+		cullingBounds.set(this, minX, minY, maxX, maxY);
+		return true;
+	}
+
 	protected void drawChild (Actor child, SpriteBatch batch, float parentAlpha) {
 		if (child.visible) child.draw(batch, parentAlpha * color.a);
 		if (transform) batch.flush();
@@ -168,16 +255,30 @@ public class Group extends Actor implements Cullable {
 		batch.begin();
 	}
 
+	/** Returns the transform used to draw the children. The local transform is only computed again when the position, origin,
+	 * rotation or scale changed, and the world transform only when the local transform or the world transform of the nearest
+	 * ancestor with a transform changed, so groups that don't move cost no matrix math. */
 	protected Matrix4 updateTransform () {
-		Matrix3 temp = worldTransform;
-		if (originX != 0 || originY != 0)
-			localTransform.setToTranslation(originX, originY);
-		else
-			localTransform.idt();
-		if (rotation != 0) localTransform.mul(temp.setToRotation(rotation));
-		if (scaleX != 1 || scaleY != 1) localTransform.mul(temp.setToScaling(scaleX, scaleY));
-		if (originX != 0 || originY != 0) localTransform.mul(temp.setToTranslation(-originX, -originY));
-		localTransform.trn(x, y);
+		boolean localChanged = x != transformX || y != transformY || originX != transformOriginX || originY != transformOriginY
+			|| rotation != transformRotation || scaleX != transformScaleX || scaleY != transformScaleY;
+		if (localChanged) {
+			Matrix3 temp = worldTransform;
+			if (originX != 0 || originY != 0)
+				localTransform.setToTranslation(originX, originY);
+			else
+				localTransform.idt();
+			if (rotation != 0) localTransform.mul(temp.setToRotation(rotation));
+			if (scaleX != 1 || scaleY != 1) localTransform.mul(temp.setToScaling(scaleX, scaleY));
+			if (originX != 0 || originY != 0) localTransform.mul(temp.setToTranslation(-originX, -originY));
+			localTransform.trn(x, y);
+			transformX = x;
+			transformY = y;
+			transformOriginX = originX;
+			transformOriginY = originY;
+			transformRotation = rotation;
+			transformScaleX = scaleX;
+			transformScaleY = scaleY;
+		}
 
 		Group parentGroup = parent;
 		while (parentGroup != null) {
@@ -185,6 +286,12 @@ public class Group extends Actor implements Cullable {
 			parentGroup = parentGroup.parent;
 		}
 
+		int parentVersion = parentGroup != null ? parentGroup.transformVersion : 0;
+		if (!localChanged && parentGroup == transformParent && parentVersion == transformParentVersion) return batchTransform;
+		transformParent = parentGroup;
+		transformParentVersion = parentVersion;
+		transformVersion++;
+
 		if (parentGroup != null) {
 			worldTransform.set(parentGroup.worldTransform);
 			worldTransform.mul(localTransform);
@@ -206,15 +313,56 @@ public class Group extends Actor implements Cullable {
 		this.cullingArea = cullingArea;
 	}
 
+	/** Enables a uniform grid over the children when cellSize is > 0, or disables it. With the grid, {@link #hit(float, float)}
+	 * and {@link #touchDown(float, float, int)} only test the children whose bounds contain the point, so groups with many
+	 * children are much cheaper to hit. Children that are groups or are rotated or scaled may be hit outside their bounds, so they
+	 * are always tested. Other children must not report hits outside their bounds. {@link #touchMoved(float, float)} is still
+	 * passed to every child, since it is not limited to the children under the pointer.<br>
+	 * <br>
+	 * The grid is updated in {@link #act(float)}. Call {@link #updateSpatialIndex()} after moving children at other times.
+	 * @param cellSize The width and height of a cell, around the size of a typical child. */
+	public void setSpatialIndex (float cellSize) {
+		childGrid = cellSize > 0 ? new ChildGrid(cellSize) : null;
+	}
+
+	/** Updates the grid enabled by {@link #setSpatialIndex(float)} with the current bounds of the children. */
+	public void updateSpatialIndex () {
+		if (childGrid != null) childGrid.update(children);
+	}
+
+	/** Returns the indices of the children that may be hit at the point, from bottom to top, or null if all children must be
+	 * tested. */
+	private IntArray obtainHitCandidates (float x, float y) {
+		ChildGrid childGrid = this.childGrid;
+		if (childGrid == null) return null;
+		if (childGrid.rebuild) childGrid.update(children);
+		IntArray candidates = childGrid.candidatesPool.obtain();
+		childGrid.query(x, y, candidates);
+		return candidates;
+	}
+
+	private void freeHitCandidates (IntArray candidates) {
+		if (candidates == null) return;
+		candidates.clear();
+		if (childGrid != null) childGrid.candidatesPool.free(candidates);
+	}
+
+	/** Called when children are added, removed or reordered. */
+	private void invalidateChildren () {
+		if (childGrid != null) childGrid.rebuild = true;
+		cullingChildrenChanged = true;
+	}
+
 	@Override
 	public boolean touchDown (float x, float y, int pointer) {
 		if (!touchable || !visible) return false;
 
 		if (debug) Gdx.app.log("Group", name + ": " + x + ", " + y);
 
-		int len = children.size() - 1;
+		IntArray candidates = obtainHitCandidates(x, y);
+		int len = (candidates != null ? candidates.size : children.size()) - 1;
 		for (int i = len; i >= 0; i--) {
-			Actor child = children.get(i);
+			Actor child = children.get(candidates != null ? candidates.get(i) : i);
 			if (!child.touchable || !child.visible) continue;
 
 			toChildCoordinates(child, x, y, point);
@@ -232,9 +380,11 @@ public class Group extends Actor implements Cullable {
 					if (lastTouchedChild == null) lastTouchedChild = child; // If still null, the child group itself was touched.
 				} else
 					lastTouchedChild = child;
+				freeHitCandidates(candidates);
 				return true;
 			}
 		}
+		freeHitCandidates(candidates);
 
 		lastTouchedChild = null;
 		return false;
@@ -257,17 +407,20 @@ public class Group extends Actor implements Cullable {
 	}
 
 	public Actor hit (float x, float y) {
-		int len = children.size() - 1;
+		IntArray candidates = obtainHitCandidates(x, y);
+		int len = (candidates != null ? candidates.size : children.size()) - 1;
 		for (int i = len; i >= 0; i--) {
-			Actor child = children.get(i);
+			Actor child = children.get(candidates != null ? candidates.get(i) : i);
 
 			toChildCoordinates(child, x, y, point);
 
 			Actor hit = child.hit(point.x, point.y);
 			if (hit != null) {
+				freeHitCandidates(candidates);
 				return hit;
 			}
 		}
+		freeHitCandidates(candidates);
 		return x > 0 && x < width && y > 0 && y < height ? this : null;
 	}
 
@@ -284,6 +437,7 @@ public class Group extends Actor implements Cullable {
 		if (actor.name != null) namesToActors.put(actor.name, actor);
 		actor.parent = this;
 		setStage(actor, stage);
+		invalidateChildren();
 		childrenChanged();
 	}
 
@@ -297,6 +451,7 @@ public class Group extends Actor implements Cullable {
 		if (actor.name != null) namesToActors.put(actor.name, actor);
 		actor.parent = this;
 		setStage(actor, stage);
+		invalidateChildren();
 		childrenChanged();
 	}
 
@@ -311,6 +466,7 @@ public class Group extends Actor implements Cullable {
 		if (actor.name != null) namesToActors.put(actor.name, actor);
 		actor.parent = this;
 		setStage(actor, stage);
+		invalidateChildren();
 		childrenChanged();
 	}
 
@@ -328,6 +484,7 @@ public class Group extends Actor implements Cullable {
 		if (actor.name != null) namesToActors.put(actor.name, actor);
 		actor.parent = this;
 		setStage(actor, stage);
+		invalidateChildren();
 		childrenChanged();
 	}
 
@@ -340,6 +497,7 @@ public class Group extends Actor implements Cullable {
 		if (stage != null) stage.unfocus(actor);
 		actor.parent = null;
 		setStage(actor, null);
+		invalidateChildren();
 		childrenChanged();
 	}
 
@@ -352,6 +510,7 @@ public class Group extends Actor implements Cullable {
 			if (stage != null) stage.unfocus(actor);
 			actor.parent = null;
 			setStage(actor, null);
+			invalidateChildren();
 			return;
 		}
 		for (int i = 0; i < groups.size(); i++) {
@@ -394,6 +553,7 @@ public class Group extends Actor implements Cullable {
 		if (first < 0 || first >= maxIndex) return false;
 		if (second < 0 || second >= maxIndex) return false;
 		Collections.swap(children, first, second);
+		invalidateChildren();
 		return true;
 	}
 
@@ -406,6 +566,7 @@ public class Group extends Actor implements Cullable {
 		int secondIndex = children.indexOf(second);
 		if (firstIndex == -1 || secondIndex == -1) return false;
 		Collections.swap(children, firstIndex, secondIndex);
+		invalidateChildren();
 		return true;
 	}
 
@@ -426,6 +587,7 @@ public class Group extends Actor implements Cullable {
 		children.clear();
 		groups.clear();
 		namesToActors.clear();
+		invalidateChildren();
 		childrenChanged();
 	}
 
@@ -433,6 +595,7 @@ public class Group extends Actor implements Cullable {
 	 * @param comparator the comparator. */
 	public void sortChildren (Comparator<Actor> comparator) {
 		Collections.sort(children, comparator);
+		invalidateChildren();
 	}
 
 	/** Converts coordinates for this group to those of a descendant actor.
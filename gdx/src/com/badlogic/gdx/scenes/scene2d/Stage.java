@@ -58,6 +58,9 @@ public class Stage extends InputAdapter implements Disposable {
 
 	private Actor[] touchFocus = new Actor[20];
 	private Actor keyboardFocus, scrollFocus;
+	private boolean drawReordering;
+	private boolean culling;
+	int cullingFrame;
 
 	/** Constructs a new Stage object with the given dimensions. If the device resolution does not equal the Stage objects
 	 * dimensions the stage object will setup a projection matrix to guarantee a fixed coordinate system. If stretch is disabled
@@ -316,10 +319,49 @@ public class Stage extends InputAdapter implements Disposable {
 	public void draw () {
 		camera.update();
 		if (!root.visible) return;
+		if (culling) {
+			root.updateCullingBounds();
+			Vector3[] points = camera.frustum.planePoints;
+			float minX = points[0].x, minY = points[0].y, maxX = minX, maxY = minY;
+			for (int i = 1; i < 8; i++) {
+				Vector3 point = points[i];
+				minX = Math.min(minX, point.x);
+				minY = Math.min(minY, point.y);
+				maxX = Math.max(maxX, point.x);
+				maxY = Math.max(maxY, point.y);
+			}
+			root.setVisibleArea(minX, minY, maxX, maxY, ++cullingFrame);
+		}
 		batch.setProjectionMatrix(camera.combined);
+		boolean reordering = batch.isReordering();
+		if (drawReordering) batch.setReordering(true);
 		batch.begin();
 		root.draw(batch, 1);
 		batch.end();
+		batch.setReordering(reordering);
+	}
+
+	/** If true, the stage is drawn with {@link SpriteBatch#setReordering(boolean) reordering}, so actors using the same texture
+	 * are rendered together where they do not overlap, and groups whose transform is only a translation draw their children
+	 * offset instead of flushing the batch to set a transform matrix. Default is false. */
+	public void setDrawReordering (boolean drawReordering) {
+		this.drawReordering = drawReordering;
+	}
+
+	public boolean getDrawReordering () {
+		return drawReordering;
+	}
+
+	/** If true, actors outside of the camera's view are not drawn, and groups are skipped entirely when all their children are
+	 * outside. Each actor's bounds in its parent's coordinates are cached and only computed again when it is moved, resized,
+	 * rotated or scaled, or for a group, when any of its children changed. This makes large scrolling worlds cheap to draw, but
+	 * actors must not draw outside of their width and height. Default is false. */
+	public void setCulling (boolean culling) {
+		this.culling = culling;
+	}
+
+	public boolean getCulling () {
+		return culling;
 	}
 
 	/** Disposes the stage */
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import static com.badlogic.gdx.utils.BinaryJsonWriter.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/** Parses the binary encoding written by {@link BinaryJsonWriter} into the same DOM {@link JsonReader} produces, made up of
+ * {@link OrderedMap}, {@link Array}, String, Float, and Boolean objects, except that whole numbers are Long and numbers that
+ * need double precision are Double objects. */
+public class BinaryJsonReader {
+	private byte[] data;
+	private int position, end;
+	private final Array<String> strings = new Array();
+	private char[] chars = new char[32];
+
+	public Object parse (byte[] data) {
+		return parse(data, 0, data.length);
+	}
+
+	public Object parse (byte[] data, int offset, int length) {
+		this.data = data;
+		position = offset;
+		end = offset + length;
+		try {
+			Object root = readValue(readByte());
+			if (position != end) throw new SerializationException("Unexpected data after the root value.");
+			return root;
+		} catch (SerializationException ex) {
+			throw new SerializationException("Error parsing binary JSON at byte " + (position - offset) + ": " + ex.getMessage(), ex);
+		} catch (ArrayIndexOutOfBoundsException ex) {
+			throw new SerializationException("Error parsing binary JSON: Unexpected end of data.", ex);
+		} finally {
+			this.data = null;
+			strings.clear();
+		}
+	}
+
+	public Object parse (InputStream input) {
+		try {
+			byte[] buffer = new byte[4096];
+			int length = 0;
+			while (true) {
+				int count = input.read(buffer, length, buffer.length - length);
+				if (count == -1) break;
+				length += count;
+				if (length == buffer.length) {
+					byte[] newBuffer = new byte[buffer.length * 2];
+					System.arraycopy(buffer, 0, newBuffer, 0, length);
+					buffer = newBuffer;
+				}
+			}
+			return parse(buffer, 0, length);
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		} finally {
+			try {
+				input.close();
+			} catch (IOException ignored) {
+			}
+		}
+	}
+
+	public Object parse (FileHandle file) {
+		try {
+			return parse(file.readBytes());
+		} catch (Exception ex) {
+			throw new SerializationException("Error parsing file: " + file, ex);
+		}
+	}
+
+	private Object readValue (byte tag) {
+		switch (tag) {
+		case NULL:
+			return null;
+		case TRUE:
+			return Boolean.TRUE;
+		case FALSE:
+			return Boolean.FALSE;
+		case INT:
+			long value = readVarLong();
+			return (value >>> 1) ^ -(value & 1);
+		case FLOAT:
+			return Float.intBitsToFloat(readInt());
+		case DOUBLE:
+			long high = readInt() & 0xFFFFFFFFL;
+			return Double.longBitsToDouble(high << 32 | (readInt() & 0xFFFFFFFFL));
+		case STRING:
+			return readString();
+		case STRING_REF:
+			return readStringRef(readVarInt());
+		case OBJECT:
+			OrderedMap<String, Object> map = new OrderedMap();
+			while (true) {
+				int nameIndex = readVarInt();
+				if (nameIndex == 0) return map;
+				String name = nameIndex == 1 ? readString() : readStringRef(nameIndex - 2);
+				map.put(name, readValue(readByte()));
+			}
+		case ARRAY:
+			Array array = new Array();
+			while (true) {
+				byte next = readByte();
+				if (next == END) return array;
+				array.add(readValue(next));
+			}
+		}
+		throw new SerializationException("Unknown tag: " + tag);
+	}
+
+	private String readString () {
+		int length = readVarInt();
+		if (chars.length < length) chars = new char[Math.max(length, chars.length * 2)];
+		char[] chars = this.chars;
+		byte[] data = this.data;
+		int position = this.position;
+		for (int i = 0; i < length; i++) {
+			if (position >= end) throw new SerializationException("Unexpected end of data.");
+			int b = data[position++];
+			if (b >= 0)
+				chars[i] = (char)b;
+			else if ((b & 0xE0) == 0xC0)
+				chars[i] = (char)((b & 0x1F) << 6 | data[position++] & 0x3F);
+			else
+				chars[i] = (char)((b & 0x0F) << 12 | (data[position++] & 0x3F) << 6 | data[position++] & 0x3F);
+		}
+		if (position > end) throw new SerializationException("Unexpected end of data.");
+		this.position = position;
+		String value = new String(chars, 0, length);
+		strings.add(value);
+		return value;
+	}
+
+	private String readStringRef (int index) {
+		if (index >= strings.size) throw new SerializationException("Invalid string reference: " + index);
+		return strings.get(index);
+	}
+
+	private byte readByte () {
+		if (position >= end) throw new SerializationException("Unexpected end of data.");
+		return data[position++];
+	}
+
+	private int readInt () {
+		if (end - position < 4) throw new SerializationException("Unexpected end of data.");
+		byte[] data = this.data;
+		int position = this.position;
+		this.position = position + 4;
+		return (data[position] & 0xFF) << 24 | (data[position + 1] & 0xFF) << 16 | (data[position + 2] & 0xFF) << 8
+			| data[position + 3] & 0xFF;
+	}
+
+	private int readVarInt () {
+		long value = readVarLong();
+		if (value > Integer.MAX_VALUE) throw new SerializationException("Invalid length: " + value);
+		return (int)value;
+	}
+
+	private long readVarLong () {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = readByte();
+			value |= (long)(b & 0x7F) << shift;
+			if (b >= 0) return value;
+		}
+		throw new SerializationException("Malformed varint.");
+	}
+}
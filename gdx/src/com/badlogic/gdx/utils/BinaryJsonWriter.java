@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** A {@link JsonWriter} that emits a compact binary encoding of the same object model, read back by {@link BinaryJsonReader}.
+ * Passing it to {@link Json#toJson(Object, Class, Class, java.io.Writer)} writes any object that can be written as JSON,
+ * including those using {@link Json.Serializer} or {@link Json.Serializable}.<br>
+ * <br>
+ * Each value is a tag byte followed by its payload. Integers and whole numbers are zigzag varints, other floats and doubles
+ * are IEEE 754 big endian. Strings are varint lengths followed by the characters, encoded as UTF-8 with each UTF-16 unit
+ * encoded separately. Every distinct name and string value is written once and afterward referenced by its varint index, so
+ * repeated keys cost one or two bytes. Object members are a name followed by a value, where the name is a varint that is 1
+ * for a new string or the string's index + 2. Objects are terminated by a 0 in place of a name, arrays by {@link #END}. */
+public class BinaryJsonWriter extends JsonWriter {
+	static public final byte NULL = 0, TRUE = 1, FALSE = 2, INT = 3, FLOAT = 4, DOUBLE = 5, STRING = 6, STRING_REF = 7,
+		OBJECT = 8, ARRAY = 9, END = 10;
+
+	private final OutputStream output;
+	private final byte[] buffer;
+	private int position;
+	private final ObjectIntMap<String> strings = new ObjectIntMap();
+	private final BooleanArray stack = new BooleanArray();
+	private boolean named;
+
+	public BinaryJsonWriter (OutputStream output) {
+		this(output, 8192);
+	}
+
+	public BinaryJsonWriter (OutputStream output, int bufferSize) {
+		super(null);
+		this.output = output;
+		buffer = new byte[Math.max(bufferSize, 16)];
+	}
+
+	public JsonWriter name (String name) throws IOException {
+		if (stack.size == 0 || stack.peek()) throw new IllegalStateException("Current item must be an object.");
+		if (named) throw new IllegalStateException("Expected an object, array, or value since a name was set.");
+		int index = strings.get(name, -1);
+		if (index == -1) {
+			writeVarInt(1);
+			writeString(name);
+		} else
+			writeVarInt(index + 2);
+		named = true;
+		return this;
+	}
+
+	public JsonWriter object () throws IOException {
+		beforeValue();
+		writeByte(OBJECT);
+		stack.add(false);
+		return this;
+	}
+
+	public JsonWriter array () throws IOException {
+		beforeValue();
+		writeByte(ARRAY);
+		stack.add(true);
+		return this;
+	}
+
+	public JsonWriter value (Object value) throws IOException {
+		if (value == null) {
+			beforeValue();
+			writeByte(NULL);
+		} else if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+			value(((Number)value).intValue());
+		else if (value instanceof Long)
+			value(((Long)value).longValue());
+		else if (value instanceof Float)
+			value(((Float)value).floatValue());
+		else if (value instanceof Number)
+			value(((Number)value).doubleValue());
+		else if (value instanceof Boolean)
+			value(((Boolean)value).booleanValue());
+		else {
+			beforeValue();
+			writeStringValue(value.toString());
+		}
+		return this;
+	}
+
+	public JsonWriter value (int value) throws IOException {
+		return value((long)value);
+	}
+
+	public JsonWriter value (long value) throws IOException {
+		beforeValue();
+		writeByte(INT);
+		writeVarLong((value << 1) ^ (value >> 63));
+		return this;
+	}
+
+	/** Whole numbers are written as varints, which {@link BinaryJsonReader} reads back as longs. */
+	public JsonWriter value (float value) throws IOException {
+		int intValue = (int)value;
+		if (intValue == value && (intValue != 0 || Float.floatToIntBits(value) == 0)) return value((long)intValue);
+		beforeValue();
+		writeByte(FLOAT);
+		writeInt(Float.floatToIntBits(value));
+		return this;
+	}
+
+	/** Whole numbers are written as varints and values that a float represents exactly as floats. */
+	public JsonWriter value (double value) throws IOException {
+		long longValue = (long)value;
+		if (longValue == value && (longValue != 0 || Double.doubleToLongBits(value) == 0)) return value(longValue);
+		if ((float)value == value) return value((float)value);
+		beforeValue();
+		writeByte(DOUBLE);
+		long bits = Double.doubleToLongBits(value);
+		writeInt((int)(bits >>> 32));
+		writeInt((int)bits);
+		return this;
+	}
+
+	public JsonWriter value (boolean value) throws IOException {
+		beforeValue();
+		writeByte(value ? TRUE : FALSE);
+		return this;
+	}
+
+	public JsonWriter value (char value) throws IOException {
+		beforeValue();
+		writeStringValue(String.valueOf(value));
+		return this;
+	}
+
+	public JsonWriter pop () throws IOException {
+		if (named) throw new IllegalStateException("Expected an object, array, or value since a name was set.");
+		if (stack.size == 0) throw new IllegalStateException("No object or array to pop.");
+		writeByte(stack.pop() ? END : 0);
+		return this;
+	}
+
+	private void beforeValue () {
+		if (stack.size > 0 && !stack.peek()) {
+			if (!named) throw new IllegalStateException("Name must be set.");
+			named = false;
+		}
+	}
+
+	private void writeStringValue (String value) throws IOException {
+		int index = strings.get(value, -1);
+		if (index == -1) {
+			writeByte(STRING);
+			writeString(value);
+		} else {
+			writeByte(STRING_REF);
+			writeVarInt(index);
+		}
+	}
+
+	/** Writes the length and characters of a string and adds it to the string table. */
+	private void writeString (String value) throws IOException {
+		strings.put(value, strings.size);
+		int length = value.length();
+		writeVarInt(length);
+		for (int i = 0; i < length; i++) {
+			if (buffer.length - position < 3) flushBuffer();
+			int c = value.charAt(i);
+			if (c < 0x80)
+				buffer[position++] = (byte)c;
+			else if (c < 0x800) {
+				buffer[position++] = (byte)(0xC0 | c >> 6);
+				buffer[position++] = (byte)(0x80 | c & 0x3F);
+			} else {
+				buffer[position++] = (byte)(0xE0 | c >> 12);
+				buffer[position++] = (byte)(0x80 | c >> 6 & 0x3F);
+				buffer[position++] = (byte)(0x80 | c & 0x3F);
+			}
+		}
+	}
+
+	private void writeByte (byte value) throws IOException {
+		if (position == buffer.length) flushBuffer();
+		buffer[position++] = value;
+	}
+
+	private void writeInt (int value) throws IOException {
+		if (buffer.length - position < 4) flushBuffer();
+		buffer[position++] = (byte)(value >>> 24);
+		buffer[position++] = (byte)(value >>> 16);
+		buffer[position++] = (byte)(value >>> 8);
+		buffer[position++] = (byte)value;
+	}
+
+	private void writeVarInt (int value) throws IOException {
+		writeVarLong(value & 0xFFFFFFFFL);
+	}
+
+	private void writeVarLong (long value) throws IOException {
+		if (buffer.length - position < 10) flushBuffer();
+		while ((value & ~0x7FL) != 0) {
+			buffer[position++] = (byte)((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte)value;
+	}
+
+	private void flushBuffer () throws IOException {
+		output.write(buffer, 0, position);
+		position = 0;
+	}
+
+	/** Writes the characters as a string value, since the binary format has no text representation. */
+	public void write (char[] cbuf, int off, int len) throws IOException {
+		beforeValue();
+		writeStringValue(new String(cbuf, off, len));
+	}
+
+	public void flush () throws IOException {
+		flushBuffer();
+		output.flush();
+	}
+
+	public void close () throws IOException {
+		while (stack.size > 0)
+			pop();
+		flushBuffer();
+		output.close();
+	}
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** A pool of objects that can be used by any number of threads. Each thread keeps a small cache of free objects that it obtains
+ * from and frees to without synchronization. When its cache is empty or full, half of it is exchanged with a shared free list.
+ * The shared list is split into stripes, each with its own lock, and threads are spread across the stripes. The cache of a thread
+ * that has exited is not returned to the shared list, its objects are left to the garbage collector.
+ * @see Pool */
+abstract public class ConcurrentPool<T> {
+	/** The maximum number of free objects in the shared free list. Each thread can additionally cache {@link #cacheSize}. */
+	public final int max;
+	/** The maximum number of free objects each thread keeps for itself. */
+	public final int cacheSize;
+
+	private final Stripe<T>[] stripes;
+	private final int stripeMax;
+	private final AtomicInteger nextStripe = new AtomicInteger();
+	/** The caches of all threads, held weakly so the cache of a thread that exited can be collected along with its objects. */
+	private final Array<CacheReference> caches = new Array(false, 8);
+	/** The counters of the caches that were collected. */
+	private final Counters collected = new Counters();
+	private volatile int generation;
+
+	private final ThreadLocal<Cache<T>> threadCache = new ThreadLocal<Cache<T>>() {
+		protected Cache<T> initialValue () {
+			Cache cache = new Cache(cacheSize, (nextStripe.getAndIncrement() & Integer.MAX_VALUE) % stripes.length, generation);
+			synchronized (caches) {
+				removeCollected();
+				caches.add(new CacheReference(cache));
+			}
+			return cache;
+		}
+	};
+
+	/** Creates a pool with no maximum, a cache of 32 objects per thread and a stripe per processor. */
+	public ConcurrentPool () {
+		this(Integer.MAX_VALUE, 32, Runtime.getRuntime().availableProcessors());
+	}
+
+	/** Creates a pool with a cache of 32 objects per thread and a stripe per processor.
+	 * @param max The maximum number of free objects to store in the shared free list. */
+	public ConcurrentPool (int max) {
+		this(max, 32, Runtime.getRuntime().availableProcessors());
+	}
+
+	/** @param max The maximum number of free objects to store in the shared free list.
+	 * @param cacheSize The maximum number of free objects each thread keeps for itself.
+	 * @param stripeCount The number of independently locked parts of the shared free list. */
+	public ConcurrentPool (int max, int cacheSize, int stripeCount) {
+		if (cacheSize < 1) throw new IllegalArgumentException("cacheSize must be > 0: " + cacheSize);
+		if (stripeCount < 1) throw new IllegalArgumentException("stripeCount must be > 0: " + stripeCount);
+		this.max = max;
+		this.cacheSize = cacheSize;
+		stripes = new Stripe[stripeCount];
+		for (int i = 0; i < stripeCount; i++)
+			stripes[i] = new Stripe();
+		stripeMax = (int)Math.min(Integer.MAX_VALUE, ((long)max + stripeCount - 1) / stripeCount);
+	}
+
+	/** Called from the thread calling {@link #obtain()}, so it may be called by multiple threads at once. */
+	abstract protected T newObject ();
+
+	/** Returns an object from this pool. The object may be new (from {@link #newObject()}) or reused (previously
+	 * {@link #free(Object) freed} by any thread). */
+	public T obtain () {
+		Cache<T> cache = getCache();
+		if (cache.size == 0) {
+			cache.counters.misses++;
+			if (!refill(cache)) {
+				cache.counters.allocations++;
+				return newObject();
+			}
+		} else
+			cache.counters.hits++;
+		T object = cache.items[--cache.size];
+		cache.items[cache.size] = null;
+		return object;
+	}
+
+	/** Puts the specified object in the pool, making it eligible to be returned by {@link #obtain()}. If the thread's cache is full
+	 * and the shared free list already contains {@link #max} objects, the specified object is ignored. */
+	public void free (T object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		Cache<T> cache = getCache();
+		if (cache.size == cacheSize) spill(cache);
+		cache.items[cache.size++] = object;
+	}
+
+	/** Puts the specified objects in the pool.
+	 * @see #free(Object) */
+	public void free (Array<T> objects) {
+		for (int i = 0, n = objects.size; i < n; i++)
+			free(objects.get(i));
+	}
+
+	/** Removes all free objects from the shared free list. The cache of each thread is emptied the next time that thread uses the
+	 * pool. */
+	public void clear () {
+		synchronized (caches) {
+			generation++;
+		}
+		for (int i = 0, n = stripes.length; i < n; i++) {
+			Stripe stripe = stripes[i];
+			synchronized (stripe) {
+				stripe.free.clear();
+				stripe.size = 0;
+			}
+		}
+	}
+
+	/** Returns the number of times {@link #obtain()} was served from the calling thread's cache, summed over all threads. */
+	public long getHits () {
+		synchronized (caches) {
+			removeCollected();
+			long hits = collected.hits;
+			for (int i = 0, n = caches.size; i < n; i++)
+				hits += caches.get(i).counters.hits;
+			return hits;
+		}
+	}
+
+	/** Returns the number of times {@link #obtain()} found the calling thread's cache empty, summed over all threads. A miss is
+	 * served from the shared free list or, if that is also empty, by {@link #newObject()}. */
+	public long getMisses () {
+		synchronized (caches) {
+			removeCollected();
+			long misses = collected.misses;
+			for (int i = 0, n = caches.size; i < n; i++)
+				misses += caches.get(i).counters.misses;
+			return misses;
+		}
+	}
+
+	/** Returns the number of times {@link #obtain()} called {@link #newObject()}, summed over all threads. */
+	public long getAllocations () {
+		synchronized (caches) {
+			removeCollected();
+			long allocations = collected.allocations;
+			for (int i = 0, n = caches.size; i < n; i++)
+				allocations += caches.get(i).counters.allocations;
+			return allocations;
+		}
+	}
+
+	/** Removes the references to caches that were collected, keeping their counters. Must be called while synchronized on
+	 * caches. */
+	private void removeCollected () {
+		for (int i = caches.size - 1; i >= 0; i--) {
+			CacheReference reference = caches.get(i);
+			if (reference.get() != null) continue;
+			collected.hits += reference.counters.hits;
+			collected.misses += reference.counters.misses;
+			collected.allocations += reference.counters.allocations;
+			caches.removeIndex(i);
+		}
+	}
+
+	private Cache<T> getCache () {
+		Cache<T> cache = threadCache.get();
+		int generation = this.generation;
+		if (cache.generation != generation) {
+			for (int i = 0, n = cache.size; i < n; i++)
+				cache.items[i] = null;
+			cache.size = 0;
+			cache.generation = generation;
+		}
+		return cache;
+	}
+
+	/** Moves up to half a cache of objects from the shared free list into the empty cache, trying the thread's own stripe first.
+	 * @return false if the shared free list is empty. */
+	private boolean refill (Cache<T> cache) {
+		int count = Math.max(1, cacheSize / 2);
+		Stripe<T>[] stripes = this.stripes;
+		for (int i = 0, n = stripes.length; i < n; i++) {
+			Stripe<T> stripe = stripes[(cache.stripe + i) % n];
+			if (stripe.size == 0) continue;
+			synchronized (stripe) {
+				Array<T> free = stripe.free;
+				int taken = Math.min(count, free.size);
+				for (int ii = 0; ii < taken; ii++)
+					cache.items[cache.size++] = free.pop();
+				stripe.size = free.size;
+				if (taken > 0) return true;
+			}
+		}
+		return false;
+	}
+
+	/** Moves half of the full cache to the thread's stripe of the shared free list. Objects that do not fit are discarded. */
+	private void spill (Cache<T> cache) {
+		int count = Math.max(1, cacheSize / 2);
+		Stripe<T> stripe = stripes[cache.stripe];
+		synchronized (stripe) {
+			Array<T> free = stripe.free;
+			for (int i = 0, n = Math.min(count, stripeMax - free.size); i < n; i++) {
+				free.add(cache.items[--cache.size]);
+				cache.items[cache.size] = null;
+				count--;
+			}
+			stripe.size = free.size;
+		}
+		for (; count > 0; count--)
+			cache.items[--cache.size] = null;
+	}
+
+	static private class Stripe<T> {
+		final Array<T> free = new Array(false, 16);
+		/** Mirrors free.size so empty stripes can be skipped without locking. */
+		volatile int size;
+	}
+
+	/** Only accessed by its thread, except for the counters which are read racily to sum them. */
+	static private class Cache<T> {
+		final T[] items;
+		final int stripe;
+		final Counters counters = new Counters();
+		int size, generation;
+
+		Cache (int cacheSize, int stripe, int generation) {
+			items = (T[])new Object[cacheSize];
+			this.stripe = stripe;
+			this.generation = generation;
+		}
+	}
+
+	/** Kept apart from the cache, so the counters of a thread outlive its cache. */
+	static private class Counters {
+		long hits, misses, allocations;
+	}
+
+	static private class CacheReference extends WeakReference<Cache> {
+		final Counters counters;
+
+		CacheReference (Cache cache) {
+			super(cache);
+			counters = cache.counters;
+		}
+	}
+}
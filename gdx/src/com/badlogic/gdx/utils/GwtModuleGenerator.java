@@ -63,6 +63,9 @@ public class GwtModuleGenerator {
 		
 		// various utils
 		excludes.add("AtomicQueue.java");
+		excludes.add("ConcurrentPool.java");
+		excludes.add("MpmcQueue.java");
+		excludes.add("MpscQueue.java");
 		excludes.add("LittleEndianInputStream.java");
 		excludes.add("PauseableThread.java");
 		excludes.add("DesktopClipboard.java");
@@ -16,8 +16,10 @@
 
 package com.badlogic.gdx.utils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -33,6 +35,8 @@ import java.util.List;
 import java.util.Map;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.JsonPullReader.Token;
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 
@@ -45,7 +49,7 @@ public class Json {
 	private String typeName = "class";
 	private boolean usePrototypes = true;
 	private OutputType outputType;
-	private final ObjectMap<Class, ObjectMap<String, FieldMetadata>> typeToFields = new ObjectMap();
+	private final ObjectMap<Class, ClassMetadata> typeToFields = new ObjectMap();
 	private final ObjectMap<String, Class> tagToClass = new ObjectMap();
 	private final ObjectMap<Class, String> classToTag = new ObjectMap();
 	private final ObjectMap<Class, Serializer> classToSerializer = new ObjectMap();
@@ -108,14 +112,14 @@ public class Json {
 	}
 
 	public void setElementType (Class type, String fieldName, Class elementType) {
-		ObjectMap<String, FieldMetadata> fields = typeToFields.get(type);
+		ClassMetadata fields = typeToFields.get(type);
 		if (fields == null) fields = cacheFields(type);
 		FieldMetadata metadata = fields.get(fieldName);
 		if (metadata == null) throw new SerializationException("Field not found: " + fieldName + " (" + type.getName() + ")");
 		metadata.elementType = elementType;
 	}
 
-	private ObjectMap<String, FieldMetadata> cacheFields (Class type) {
+	private ClassMetadata cacheFields (Class type) {
 		ArrayList<Field> allFields = new ArrayList();
 		Class nextClass = type;
 		while (nextClass != Object.class) {
@@ -123,7 +127,9 @@ public class Json {
 			nextClass = nextClass.getSuperclass();
 		}
 
+		// A field hiding a field of the same name replaces it, as when the fields were stored only in a map.
 		ObjectMap<String, FieldMetadata> nameToField = new ObjectMap();
+		Array<FieldMetadata> orderedFields = new Array(true, allFields.size(), FieldMetadata.class);
 		for (int i = 0, n = allFields.size(); i < n; i++) {
 			Field field = allFields.get(i);
 
@@ -140,10 +146,16 @@ public class Json {
 				}
 			}
 
-			nameToField.put(field.getName(), new FieldMetadata(field));
+			FieldMetadata metadata = new FieldMetadata(field);
+			FieldMetadata hidden = nameToField.put(metadata.name, metadata);
+			if (hidden == null)
+				orderedFields.add(metadata);
+			else
+				orderedFields.set(orderedFields.indexOf(hidden, true), metadata);
 		}
-		typeToFields.put(type, nameToField);
-		return nameToField;
+		ClassMetadata classMetadata = new ClassMetadata(orderedFields.toArray());
+		typeToFields.put(type, classMetadata);
+		return classMetadata;
 	}
 
 	public String toJson (Object object) {
@@ -204,21 +216,69 @@ public class Json {
 		}
 	}
 
+	/** Writes the object in the compact binary form of {@link BinaryJsonWriter}.
+	 * @see #fromBinary(Class, byte[]) */
+	public byte[] toBinary (Object object) {
+		return toBinary(object, object == null ? null : object.getClass(), null);
+	}
+
+	public byte[] toBinary (Object object, Class knownType, Class elementType) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(256);
+		toBinary(object, knownType, elementType, output);
+		return output.toByteArray();
+	}
+
+	public void toBinary (Object object, FileHandle file) {
+		toBinary(object, object == null ? null : object.getClass(), null, file);
+	}
+
+	public void toBinary (Object object, Class knownType, Class elementType, FileHandle file) {
+		OutputStream output = null;
+		try {
+			output = file.write(false);
+			toBinary(object, knownType, elementType, output);
+		} catch (Exception ex) {
+			throw new SerializationException("Error writing file: " + file, ex);
+		} finally {
+			try {
+				if (output != null) output.close();
+			} catch (IOException ignored) {
+			}
+		}
+	}
+
+	/** Writes the object in the compact binary form of {@link BinaryJsonWriter}. The stream is flushed but not closed. */
+	public void toBinary (Object object, Class knownType, Class elementType, OutputStream output) {
+		BinaryJsonWriter writer = new BinaryJsonWriter(output);
+		toJson(object, knownType, elementType, writer);
+		try {
+			writer.flush();
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+	}
+
 	public void writeFields (Object object) {
 		Class type = object.getClass();
 
 		Object[] defaultValues = getDefaultValues(type);
 
-		ObjectMap<String, FieldMetadata> fields = typeToFields.get(type);
-		if (fields == null) fields = cacheFields(type);
-		int i = 0;
-		for (FieldMetadata metadata : fields.values()) {
+		ClassMetadata classMetadata = typeToFields.get(type);
+		if (classMetadata == null) classMetadata = cacheFields(type);
+		FieldMetadata[] fields = classMetadata.fields;
+		for (int i = 0, n = fields.length; i < n; i++) {
+			FieldMetadata metadata = fields[i];
 			Field field = metadata.field;
 			try {
+				if (metadata.primitive != 0) {
+					writePrimitive(object, metadata, defaultValues == null ? null : defaultValues[i]);
+					continue;
+				}
+
 				Object value = field.get(object);
 
 				if (defaultValues != null) {
-					Object defaultValue = defaultValues[i++];
+					Object defaultValue = defaultValues[i];
 					if (value == null && defaultValue == null) continue;
 					if (value != null && defaultValue != null && value.equals(defaultValue)) continue;
 				}
@@ -239,6 +299,75 @@ public class Json {
 		}
 	}
 
+	/** Writes a primitive field without boxing its value. The field is skipped if it has the default value. */
+	private void writePrimitive (Object object, FieldMetadata metadata, Object defaultValue) throws IllegalAccessException,
+		IOException {
+		Field field = metadata.field;
+		switch (metadata.primitive) {
+		case FieldMetadata.INT: {
+			int value = field.getInt(object);
+			if (defaultValue != null && (Integer)defaultValue == value) return;
+			writeName(metadata);
+			writer.value(value);
+			return;
+		}
+		case FieldMetadata.FLOAT: {
+			float value = field.getFloat(object);
+			if (defaultValue != null && Float.floatToIntBits((Float)defaultValue) == Float.floatToIntBits(value)) return;
+			writeName(metadata);
+			writer.value(value);
+			return;
+		}
+		case FieldMetadata.BOOLEAN: {
+			boolean value = field.getBoolean(object);
+			if (defaultValue != null && (Boolean)defaultValue == value) return;
+			writeName(metadata);
+			writer.value(value);
+			return;
+		}
+		case FieldMetadata.LONG: {
+			long value = field.getLong(object);
+			if (defaultValue != null && (Long)defaultValue == value) return;
+			writeName(metadata);
+			writer.value(value);
+			return;
+		}
+		case FieldMetadata.DOUBLE: {
+			double value = field.getDouble(object);
+			if (defaultValue != null && Double.doubleToLongBits((Double)defaultValue) == Double.doubleToLongBits(value)) return;
+			writeName(metadata);
+			writer.value(value);
+			return;
+		}
+		case FieldMetadata.SHORT: {
+			short value = field.getShort(object);
+			if (defaultValue != null && (Short)defaultValue == value) return;
+			writeName(metadata);
+			writer.value(value);
+			return;
+		}
+		case FieldMetadata.BYTE: {
+			byte value = field.getByte(object);
+			if (defaultValue != null && (Byte)defaultValue == value) return;
+			writeName(metadata);
+			writer.value(value);
+			return;
+		}
+		case FieldMetadata.CHAR: {
+			char value = field.getChar(object);
+			if (defaultValue != null && (Character)defaultValue == value) return;
+			writeName(metadata);
+			writer.value(value);
+			return;
+		}
+		}
+	}
+
+	private void writeName (FieldMetadata metadata) throws IOException {
+		if (debug) System.out.println("Writing field: " + metadata.name + " (" + metadata.field.getDeclaringClass().getName() + ")");
+		writer.name(metadata.name);
+	}
+
 	private Object[] getDefaultValues (Class type) {
 		if (!usePrototypes) return null;
 		if (classToDefaultValues.containsKey(type)) return classToDefaultValues.get(type);
@@ -250,17 +379,17 @@ public class Json {
 			return null;
 		}
 
-		ObjectMap<String, FieldMetadata> fields = typeToFields.get(type);
-		if (fields == null) fields = cacheFields(type);
+		ClassMetadata classMetadata = typeToFields.get(type);
+		if (classMetadata == null) classMetadata = cacheFields(type);
+		FieldMetadata[] fields = classMetadata.fields;
 
-		Object[] values = new Object[fields.size];
+		Object[] values = new Object[fields.length];
 		classToDefaultValues.put(type, values);
 
-		int i = 0;
-		for (FieldMetadata metadata : fields.values()) {
-			Field field = metadata.field;
+		for (int i = 0, n = fields.length; i < n; i++) {
+			Field field = fields[i].field;
 			try {
-				values[i++] = field.get(object);
+				values[i] = field.get(object);
 			} catch (IllegalAccessException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
 			} catch (SerializationException ex) {
@@ -289,7 +418,7 @@ public class Json {
 
 	public void writeField (Object object, String fieldName, String jsonName, Class elementType) {
 		Class type = object.getClass();
-		ObjectMap<String, FieldMetadata> fields = typeToFields.get(type);
+		ClassMetadata fields = typeToFields.get(type);
 		if (fields == null) fields = cacheFields(type);
 		FieldMetadata metadata = fields.get(fieldName);
 		if (metadata == null) throw new SerializationException("Field not found: " + fieldName + " (" + type.getName() + ")");
@@ -595,6 +724,59 @@ public class Json {
 		return (T)readValue(type, elementType, new JsonReader().parse(json));
 	}
 
+	/** Reads an object written by {@link #toBinary(Object)}. */
+	public <T> T fromBinary (Class<T> type, byte[] data) {
+		return readValue(type, null, new BinaryJsonReader().parse(data));
+	}
+
+	public <T> T fromBinary (Class<T> type, Class elementType, byte[] data) {
+		return readValue(type, elementType, new BinaryJsonReader().parse(data));
+	}
+
+	public <T> T fromBinary (Class<T> type, InputStream input) {
+		return readValue(type, null, new BinaryJsonReader().parse(input));
+	}
+
+	public <T> T fromBinary (Class<T> type, Class elementType, InputStream input) {
+		return readValue(type, elementType, new BinaryJsonReader().parse(input));
+	}
+
+	public <T> T fromBinary (Class<T> type, FileHandle file) {
+		try {
+			return readValue(type, null, new BinaryJsonReader().parse(file));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+	}
+
+	public <T> T fromBinary (Class<T> type, Class elementType, FileHandle file) {
+		try {
+			return readValue(type, elementType, new BinaryJsonReader().parse(file));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+	}
+
+	/** Deserializes directly from the reader without building a DOM. Only values of types with a {@link Serializer} or that are
+	 * {@link Serializable} are parsed into a DOM first, so they can be passed to the read methods of those interfaces. If the
+	 * JSON contains the {@link #setTypeName(String) type name}, it must be the first field of an object. Long and double values
+	 * are parsed with full precision rather than going through a float. The reader is closed afterwards. */
+	public <T> T fromJson (Class<T> type, JsonPullReader reader) {
+		return fromJson(type, null, reader);
+	}
+
+	/** @see #fromJson(Class, JsonPullReader) */
+	public <T> T fromJson (Class<T> type, Class elementType, JsonPullReader reader) {
+		try {
+			reader.next();
+			T value = (T)readStreamValue(type, elementType, reader);
+			if (reader.next() != Token.end) throw new SerializationException("Unexpected data after the root value.");
+			return value;
+		} finally {
+			reader.close();
+		}
+	}
+
 	public void readField (Object object, String name, Object jsonData) {
 		readField(object, name, name, null, jsonData);
 	}
@@ -610,7 +792,7 @@ public class Json {
 	public void readField (Object object, String fieldName, String jsonName, Class elementType, Object jsonData) {
 		OrderedMap jsonMap = (OrderedMap)jsonData;
 		Class type = object.getClass();
-		ObjectMap<String, FieldMetadata> fields = typeToFields.get(type);
+		ClassMetadata fields = typeToFields.get(type);
 		if (fields == null) fields = cacheFields(type);
 		FieldMetadata metadata = fields.get(fieldName);
 		if (metadata == null) throw new SerializationException("Field not found: " + fieldName + " (" + type.getName() + ")");
@@ -635,10 +817,11 @@ public class Json {
 	public void readFields (Object object, Object jsonData) {
 		OrderedMap<String, Object> jsonMap = (OrderedMap)jsonData;
 		Class type = object.getClass();
-		ObjectMap<String, FieldMetadata> fields = typeToFields.get(type);
+		ClassMetadata fields = typeToFields.get(type);
 		if (fields == null) fields = cacheFields(type);
+		int nextIndex = 0;
 		for (Entry<String, Object> entry : jsonMap.entries()) {
-			FieldMetadata metadata = fields.get(entry.key);
+			FieldMetadata metadata = fields.get(entry.key, nextIndex);
 			if (metadata == null) {
 				if (ignoreUnknownFields) {
 					if (debug) System.out.println("Ignoring unknown field: " + entry.key + " (" + type.getName() + ")");
@@ -646,9 +829,14 @@ public class Json {
 				} else
 					throw new SerializationException("Field not found: " + entry.key + " (" + type.getName() + ")");
 			}
+			nextIndex = metadata.index + 1;
 			Field field = metadata.field;
 			if (entry.value == null) continue;
 			try {
+				if (metadata.primitive != 0 && entry.value instanceof Number && classToSerializer.get(field.getType()) == null) {
+					readPrimitive(object, metadata, (Number)entry.value);
+					continue;
+				}
 				field.set(object, readValue(field.getType(), metadata.elementType, entry.value));
 			} catch (IllegalAccessException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
@@ -663,6 +851,34 @@ public class Json {
 		}
 	}
 
+	/** Sets a primitive field from a number in the DOM without boxing, converting it the same as
+	 * {@link #readValue(Class, Class, Object)}. */
+	private void readPrimitive (Object object, FieldMetadata metadata, Number value) throws IllegalAccessException {
+		Field field = metadata.field;
+		switch (metadata.primitive) {
+		case FieldMetadata.INT:
+			field.setInt(object, value.intValue());
+			return;
+		case FieldMetadata.FLOAT:
+			field.setFloat(object, value.floatValue());
+			return;
+		case FieldMetadata.LONG:
+			field.setLong(object, value.longValue());
+			return;
+		case FieldMetadata.DOUBLE:
+			field.setDouble(object, value.doubleValue());
+			return;
+		case FieldMetadata.SHORT:
+			field.setShort(object, value.shortValue());
+			return;
+		case FieldMetadata.BYTE:
+			field.setByte(object, value.byteValue());
+			return;
+		default:
+			field.set(object, readValue(field.getType(), null, value));
+		}
+	}
+
 	public <T> T readValue (String name, Class<T> type, Object jsonData) {
 		OrderedMap jsonMap = (OrderedMap)jsonData;
 		return (T)readValue(type, null, jsonMap.get(name));
@@ -773,15 +989,17 @@ public class Json {
 			throw new SerializationException("Unable to convert value to required type: " + jsonData + " (" + type.getName() + ")");
 		}
 
-		if (jsonData instanceof Float) {
-			Float floatValue = (Float)jsonData;
+		// JsonReader produces Float, BinaryJsonReader also Long and Double.
+		if (jsonData instanceof Number) {
+			Number number = (Number)jsonData;
 			try {
-				if (type == null || type == float.class || type == Float.class) return (T)(Float)floatValue;
-				if (type == int.class || type == Integer.class) return (T)(Integer)floatValue.intValue();
-				if (type == long.class || type == Long.class) return (T)(Long)floatValue.longValue();
-				if (type == double.class || type == Double.class) return (T)(Double)floatValue.doubleValue();
-				if (type == short.class || type == Short.class) return (T)(Short)floatValue.shortValue();
-				if (type == byte.class || type == Byte.class) return (T)(Byte)floatValue.byteValue();
+				if (type == null) return (T)number;
+				if (type == float.class || type == Float.class) return (T)(Float)number.floatValue();
+				if (type == int.class || type == Integer.class) return (T)(Integer)number.intValue();
+				if (type == long.class || type == Long.class) return (T)(Long)number.longValue();
+				if (type == double.class || type == Double.class) return (T)(Double)number.doubleValue();
+				if (type == short.class || type == Short.class) return (T)(Short)number.shortValue();
+				if (type == byte.class || type == Byte.class) return (T)(Byte)number.byteValue();
 			} catch (NumberFormatException ignored) {
 			}
 			jsonData = String.valueOf(jsonData);
@@ -815,6 +1033,247 @@ public class Json {
 		return null;
 	}
 
+	/** Reads the value starting at the current token of the reader. Afterwards the current token is the last token of the value.
+	 * Mirrors the conversions of {@link #readValue(Class, Class, Object)}. */
+	private Object readStreamValue (Class type, Class elementType, JsonPullReader reader) {
+		switch (reader.getToken()) {
+		case nil:
+			return null;
+		case objectStart:
+			return readStreamObject(type, elementType, reader);
+		case arrayStart:
+			if (type != null && classToSerializer.get(type) != null) return readValue(type, elementType, readTree(reader));
+			return readStreamArray(type, elementType, reader);
+		case objectEnd:
+		case arrayEnd:
+		case end:
+			throw new SerializationException("Expected a value on line " + reader.getLine() + " but found: " + reader.getToken());
+		}
+
+		if (type != null) {
+			Serializer serializer = classToSerializer.get(type);
+			if (serializer != null) return serializer.read(this, readTree(reader), type);
+		}
+
+		if (reader.getToken() == Token.number) {
+			try {
+				if (type == null || type == float.class || type == Float.class) return reader.getFloat();
+				if (type == int.class || type == Integer.class) return reader.getInt();
+				if (type == long.class || type == Long.class) return reader.getLong();
+				if (type == double.class || type == Double.class) return reader.getDouble();
+				if (type == short.class || type == Short.class) return (short)reader.getInt();
+				if (type == byte.class || type == Byte.class) return (byte)reader.getInt();
+			} catch (NumberFormatException ignored) {
+			}
+		}
+
+		String string = reader.getString();
+		if (type == null || type == String.class) return string;
+		try {
+			if (type == int.class || type == Integer.class) return Integer.valueOf(string);
+			if (type == float.class || type == Float.class) return Float.valueOf(string);
+			if (type == long.class || type == Long.class) return Long.valueOf(string);
+			if (type == double.class || type == Double.class) return Double.valueOf(string);
+			if (type == short.class || type == Short.class) return Short.valueOf(string);
+			if (type == byte.class || type == Byte.class) return Byte.valueOf(string);
+		} catch (NumberFormatException ignored) {
+		}
+		if (type == boolean.class || type == Boolean.class) return Boolean.valueOf(string);
+		if (type == char.class || type == Character.class) return (Character)string.charAt(0);
+		if (type.isEnum()) {
+			Object[] constants = type.getEnumConstants();
+			for (int i = 0, n = constants.length; i < n; i++)
+				if (string.equals(constants[i].toString())) return constants[i];
+		}
+		if (type == CharSequence.class) return string;
+		throw new SerializationException("Unable to convert value to required type: " + string + " (" + type.getName() + ")");
+	}
+
+	private Object readStreamObject (Class type, Class elementType, JsonPullReader reader) {
+		if (reader.next() != Token.objectEnd && typeName != null && typeName.equals(reader.getName())) {
+			String className = reader.getString();
+			if (className != null) {
+				try {
+					type = Class.forName(className);
+				} catch (ClassNotFoundException ex) {
+					type = tagToClass.get(className);
+					if (type == null) throw new SerializationException(ex);
+				}
+			}
+			reader.next();
+		}
+
+		// Serializers and Serializables need the DOM, as does an object of unknown type.
+		if (type == null || classToSerializer.get(type) != null || Serializable.class.isAssignableFrom(type))
+			return readValue(type, elementType, readMembers(reader));
+
+		Object object = newInstance(type);
+
+		if (object instanceof HashMap) {
+			HashMap result = (HashMap)object;
+			for (; reader.getToken() != Token.objectEnd; reader.next())
+				result.put(reader.getName(), readStreamValue(elementType, null, reader));
+			return result;
+		}
+
+		if (object instanceof ObjectMap) {
+			ObjectMap result = (ObjectMap)object;
+			for (; reader.getToken() != Token.objectEnd; reader.next())
+				result.put(reader.getName(), readStreamValue(elementType, null, reader));
+			return result;
+		}
+
+		readStreamFields(object, reader);
+		return object;
+	}
+
+	/** Reads the fields of the object from the reader, which is positioned at the first member of the object. Primitive fields
+	 * are set without boxing. */
+	private void readStreamFields (Object object, JsonPullReader reader) {
+		Class type = object.getClass();
+		ClassMetadata fields = typeToFields.get(type);
+		if (fields == null) fields = cacheFields(type);
+		int nextIndex = 0;
+		for (; reader.getToken() != Token.objectEnd; reader.next()) {
+			String name = reader.getName();
+			FieldMetadata metadata = fields.get(name, nextIndex);
+			if (metadata == null) {
+				if (name.equals(typeName))
+					throw new SerializationException("The type name must be the first field of an object: " + name + " (" + type.getName()
+						+ ")");
+				if (ignoreUnknownFields) {
+					if (debug) System.out.println("Ignoring unknown field: " + name + " (" + type.getName() + ")");
+					reader.skipValue();
+					continue;
+				} else
+					throw new SerializationException("Field not found: " + name + " (" + type.getName() + ")");
+			}
+			nextIndex = metadata.index + 1;
+			Field field = metadata.field;
+			if (reader.getToken() == Token.nil) continue;
+			try {
+				Class fieldType = field.getType();
+				Token token = reader.getToken();
+				if (fieldType.isPrimitive() && (token == Token.number || token == Token.string || token == Token.bool)
+					&& classToSerializer.get(fieldType) == null) {
+					try {
+						if (fieldType == float.class) {
+							field.setFloat(object, reader.getFloat());
+							continue;
+						}
+						if (fieldType == int.class) {
+							field.setInt(object, reader.getInt());
+							continue;
+						}
+						if (fieldType == boolean.class) {
+							field.setBoolean(object, reader.getBoolean());
+							continue;
+						}
+						if (fieldType == long.class) {
+							field.setLong(object, reader.getLong());
+							continue;
+						}
+						if (fieldType == double.class) {
+							field.setDouble(object, reader.getDouble());
+							continue;
+						}
+					} catch (NumberFormatException ex) {
+						throw new SerializationException("Unable to convert value to required type: " + reader.getString() + " ("
+							+ fieldType.getName() + ")");
+					}
+				}
+				field.set(object, readStreamValue(fieldType, metadata.elementType, reader));
+			} catch (IllegalAccessException ex) {
+				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
+			} catch (SerializationException ex) {
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			} catch (RuntimeException runtimeEx) {
+				SerializationException ex = new SerializationException(runtimeEx);
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			}
+		}
+	}
+
+	private Object readStreamArray (Class type, Class elementType, JsonPullReader reader) {
+		if (type == null || type.isAssignableFrom(Array.class)) {
+			Array newArray = new Array();
+			while (reader.next() != Token.arrayEnd)
+				newArray.add(readStreamValue(elementType, null, reader));
+			return newArray;
+		}
+		if (type.isAssignableFrom(ArrayList.class)) {
+			ArrayList newArray = new ArrayList();
+			while (reader.next() != Token.arrayEnd)
+				newArray.add(readStreamValue(elementType, null, reader));
+			return newArray;
+		}
+		if (type.isArray()) {
+			Class componentType = type.getComponentType();
+			if (elementType == null) elementType = componentType;
+			try {
+				if (elementType == float.class) {
+					FloatArray values = new FloatArray();
+					while (reader.next() != Token.arrayEnd)
+						values.add(reader.getFloat());
+					return values.toArray();
+				}
+				if (elementType == int.class) {
+					IntArray values = new IntArray();
+					while (reader.next() != Token.arrayEnd)
+						values.add(reader.getInt());
+					return values.toArray();
+				}
+				if (elementType == long.class) {
+					LongArray values = new LongArray();
+					while (reader.next() != Token.arrayEnd)
+						values.add(reader.getLong());
+					return values.toArray();
+				}
+			} catch (NumberFormatException ex) {
+				throw new SerializationException("Unable to convert value to required type: " + reader.getString() + " ("
+					+ elementType.getName() + ")");
+			}
+			Array values = new Array();
+			while (reader.next() != Token.arrayEnd)
+				values.add(readStreamValue(elementType, null, reader));
+			Object newArray = java.lang.reflect.Array.newInstance(componentType, values.size);
+			for (int i = 0, n = values.size; i < n; i++)
+				java.lang.reflect.Array.set(newArray, i, values.get(i));
+			return newArray;
+		}
+		throw new SerializationException("Unable to convert value to required type: array (" + type.getName() + ")");
+	}
+
+	/** Reads the value at the current token of the reader into a DOM, the same as {@link JsonReader} would produce. */
+	private Object readTree (JsonPullReader reader) {
+		switch (reader.getToken()) {
+		case objectStart:
+			reader.next();
+			return readMembers(reader);
+		case arrayStart:
+			Array array = new Array();
+			while (reader.next() != Token.arrayEnd)
+				array.add(readTree(reader));
+			return array;
+		case number:
+			return reader.getFloat();
+		case bool:
+			return reader.getBoolean();
+		default:
+			return reader.getString();
+		}
+	}
+
+	/** Reads the remaining members of an object into a DOM, the reader is positioned at the first member or at the object end. */
+	private OrderedMap<String, Object> readMembers (JsonPullReader reader) {
+		OrderedMap<String, Object> map = new OrderedMap();
+		for (; reader.getToken() != Token.objectEnd; reader.next())
+			map.put(reader.getName(), readTree(reader));
+		return map;
+	}
+
 	private String convertToString (Object object) {
 		if (object instanceof Class) return ((Class)object).getName();
 		return String.valueOf(object);
@@ -924,6 +1383,8 @@ public class Json {
 			Float floatValue = (Float)object;
 			int intValue = floatValue.intValue();
 			buffer.append(floatValue - intValue == 0 ? intValue : object);
+		} else if (object instanceof Number) {
+			buffer.append(object);
 		} else if (object instanceof Boolean) {
 			buffer.append(object);
 		} else if (object == null) {
@@ -954,12 +1415,79 @@ public class Json {
 			buffer.append('\t');
 	}
 
+	/** The serializable fields of a class in a fixed order, with an open addressing table to look them up by name. */
+	static private class ClassMetadata {
+		final FieldMetadata[] fields;
+		final FieldMetadata[] table;
+		final int mask;
+
+		public ClassMetadata (FieldMetadata[] fields) {
+			this.fields = fields;
+			table = new FieldMetadata[MathUtils.nextPowerOfTwo(Math.max(fields.length * 2, 1))];
+			mask = table.length - 1;
+			for (int i = 0, n = fields.length; i < n; i++) {
+				FieldMetadata metadata = fields[i];
+				metadata.index = i;
+				int index = metadata.nameHash & mask;
+				while (table[index] != null)
+					index = (index + 1) & mask;
+				table[index] = metadata;
+			}
+		}
+
+		public FieldMetadata get (String name) {
+			int hash = name.hashCode();
+			for (int index = hash & mask;; index = (index + 1) & mask) {
+				FieldMetadata metadata = table[index];
+				if (metadata == null) return null;
+				if (metadata.nameHash == hash && metadata.name.equals(name)) return metadata;
+			}
+		}
+
+		/** Checks the field at the expected index first, which is usually a hit when reading JSON in the order it was written. */
+		public FieldMetadata get (String name, int expectedIndex) {
+			if (expectedIndex < fields.length) {
+				FieldMetadata metadata = fields[expectedIndex];
+				if (metadata.name == name || metadata.nameHash == name.hashCode() && metadata.name.equals(name)) return metadata;
+			}
+			return get(name);
+		}
+	}
+
 	static private class FieldMetadata {
+		static final int INT = 1, FLOAT = 2, BOOLEAN = 3, LONG = 4, DOUBLE = 5, SHORT = 6, BYTE = 7, CHAR = 8;
+
 		public Field field;
 		public Class elementType;
+		final String name;
+		final int nameHash;
+		/** One of the primitive type constants, or 0 if the field is not a primitive. */
+		final int primitive;
+		int index;
 
 		public FieldMetadata (Field field) {
 			this.field = field;
+			name = field.getName();
+			nameHash = name.hashCode();
+			Class type = field.getType();
+			if (type == int.class)
+				primitive = INT;
+			else if (type == float.class)
+				primitive = FLOAT;
+			else if (type == boolean.class)
+				primitive = BOOLEAN;
+			else if (type == long.class)
+				primitive = LONG;
+			else if (type == double.class)
+				primitive = DOUBLE;
+			else if (type == short.class)
+				primitive = SHORT;
+			else if (type == byte.class)
+				primitive = BYTE;
+			else if (type == char.class)
+				primitive = CHAR;
+			else
+				primitive = 0;
 		}
 	}
 
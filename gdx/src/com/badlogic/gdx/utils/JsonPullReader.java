@@ -0,0 +1,519 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/** Pull parser for JSON that reads from a {@link Reader} through a fixed size buffer. It accepts the same relaxed syntax as
+ * {@link JsonReader} (unquoted names and strings, trailing commas), but instead of building a DOM each call to {@link #next()}
+ * returns the next {@link Token}. Numbers can be retrieved as primitives without boxing and repeated object member names are
+ * cached, so parsing does not allocate except for string values.<br>
+ * <br>
+ * {@link Json#fromJson(Class, JsonPullReader)} deserializes objects directly from this reader.
+ * @see JsonReader */
+public class JsonPullReader {
+	static public enum Token {
+		objectStart, objectEnd, arrayStart, arrayEnd, string, number, bool, nil,
+		/** The end of the input was reached after the root value. */
+		end
+	}
+
+	private final Reader reader;
+	private final char[] buffer;
+	private int position, limit;
+	private int line = 1;
+
+	private Token token;
+	private char[] text = new char[32];
+	private int textLength;
+	private boolean boolValue;
+
+	private char[] name = new char[32];
+	private int nameLength = -1;
+	private String nameString;
+	private final String[] nameCache = new String[256];
+
+	/** true for an object, false for an array */
+	private boolean[] stack = new boolean[16];
+	private int depth;
+	private boolean afterValue, rootRead;
+
+	public JsonPullReader (String json) {
+		this(new StringReader(json), Math.max(16, Math.min(json.length(), 1024)));
+	}
+
+	public JsonPullReader (Reader reader) {
+		this(reader, 1024);
+	}
+
+	/** @param bufferSize the number of characters read from the reader at once */
+	public JsonPullReader (Reader reader, int bufferSize) {
+		this.reader = reader;
+		this.buffer = new char[bufferSize];
+	}
+
+	/** The input is read as ISO-8859-1, like {@link JsonReader#parse(InputStream)}. */
+	public JsonPullReader (InputStream input) {
+		this(toReader(input), 1024);
+	}
+
+	public JsonPullReader (FileHandle file) {
+		this(toReader(file.read()), 1024);
+	}
+
+	static private Reader toReader (InputStream input) {
+		try {
+			return new InputStreamReader(input, "ISO-8859-1");
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+	}
+
+	/** Advances to the next token.
+	 * @return the new current token, {@link Token#end} once the root value was read completely.
+	 * @throws SerializationException if the JSON is malformed */
+	public Token next () {
+		nameLength = -1;
+		nameString = null;
+		int c = skipWhitespace();
+		if (depth == 0) {
+			if (rootRead) {
+				if (c != -1) throw error("Unexpected data after the root value");
+				return token = Token.end;
+			}
+			if (c == -1) throw error("Unexpected end of input");
+			return readValue(c);
+		}
+
+		boolean object = stack[depth - 1];
+		if (afterValue) {
+			afterValue = false;
+			if (c == ',') {
+				position++;
+				c = skipWhitespace();
+			} else if (c != (object ? '}' : ']')) {
+				throw error(c == -1 ? "Unexpected end of input" : "Expected ',' or '" + (object ? '}' : ']') + "' but found '"
+					+ (char)c + "'");
+			}
+		}
+
+		if (c == (object ? '}' : ']')) {
+			position++;
+			depth--;
+			endValue();
+			return token = object ? Token.objectEnd : Token.arrayEnd;
+		}
+		if (c == -1) throw error("Unexpected end of input");
+		if (object) {
+			readName(c);
+			c = skipWhitespace();
+			if (c != ':') throw error(c == -1 ? "Unexpected end of input" : "Expected ':' but found '" + (char)c + "'");
+			position++;
+			c = skipWhitespace();
+			if (c == -1) throw error("Unexpected end of input");
+		}
+		return readValue(c);
+	}
+
+	private Token readValue (int c) {
+		switch (c) {
+		case '{':
+		case '[':
+			position++;
+			if (depth == stack.length) {
+				boolean[] newStack = new boolean[stack.length * 2];
+				System.arraycopy(stack, 0, newStack, 0, stack.length);
+				stack = newStack;
+			}
+			stack[depth++] = c == '{';
+			afterValue = false;
+			return token = c == '{' ? Token.objectStart : Token.arrayStart;
+		case '"':
+			position++;
+			textLength = 0;
+			readQuoted(false);
+			endValue();
+			return token = Token.string;
+		}
+		if (c == '-' || (c >= '0' && c <= '9')) {
+			textLength = 0;
+			while (true) {
+				c = peek();
+				if (!((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E')) break;
+				appendText((char)c);
+				position++;
+			}
+			endValue();
+			return token = Token.number;
+		}
+		if (isUnquotedStart(c)) {
+			textLength = 0;
+			readUnquoted(false);
+			endValue();
+			if (textEquals("true")) {
+				boolValue = true;
+				return token = Token.bool;
+			}
+			if (textEquals("false")) {
+				boolValue = false;
+				return token = Token.bool;
+			}
+			if (textEquals("null")) return token = Token.nil;
+			return token = Token.string;
+		}
+		throw error("Unexpected character '" + (char)c + "'");
+	}
+
+	private void endValue () {
+		if (depth == 0)
+			rootRead = true;
+		else
+			afterValue = true;
+	}
+
+	private void readName (int c) {
+		nameLength = 0;
+		if (c == '"') {
+			position++;
+			readQuoted(true);
+		} else if (isUnquotedStart(c)) {
+			readUnquoted(true);
+		} else
+			throw error("Expected a name but found '" + (char)c + "'");
+	}
+
+	private void readQuoted (boolean isName) {
+		while (true) {
+			int c = read();
+			if (c == -1) throw error("Unterminated string");
+			if (c == '"') return;
+			if (c == '\\') {
+				c = read();
+				switch (c) {
+				case '"':
+				case '\\':
+				case '/':
+					break;
+				case 'b':
+					c = '\b';
+					break;
+				case 'f':
+					c = '\f';
+					break;
+				case 'n':
+					c = '\n';
+					break;
+				case 'r':
+					c = '\r';
+					break;
+				case 't':
+					c = '\t';
+					break;
+				case 'u':
+					int value = 0;
+					for (int i = 0; i < 4; i++) {
+						int hex = read();
+						if (hex == -1) throw error("Unterminated string");
+						// GWT only emulates the char overloads of Character.
+						int digit = Character.digit((char)hex, 16);
+						if (digit == -1) throw error("Illegal unicode escape");
+						value = (value << 4) | digit;
+					}
+					c = value;
+					break;
+				default:
+					throw error(c == -1 ? "Unterminated string" : "Illegal escaped character: \\" + (char)c);
+				}
+			} else if (c == '\n') line++;
+			if (isName)
+				appendName((char)c);
+			else
+				appendText((char)c);
+		}
+	}
+
+	private void readUnquoted (boolean isName) {
+		while (true) {
+			int c = peek();
+			if (c == -1 || c == ':' || c == '}' || c == ']' || c == ',' || Character.isWhitespace((char)c)) return;
+			position++;
+			if (isName)
+				appendName((char)c);
+			else
+				appendText((char)c);
+		}
+	}
+
+	static private boolean isUnquotedStart (int c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '$';
+	}
+
+	private void appendText (char c) {
+		if (textLength == text.length) {
+			char[] newText = new char[text.length * 2];
+			System.arraycopy(text, 0, newText, 0, textLength);
+			text = newText;
+		}
+		text[textLength++] = c;
+	}
+
+	private void appendName (char c) {
+		if (nameLength == name.length) {
+			char[] newName = new char[name.length * 2];
+			System.arraycopy(name, 0, newName, 0, nameLength);
+			name = newName;
+		}
+		name[nameLength++] = c;
+	}
+
+	private boolean textEquals (String value) {
+		if (textLength != value.length()) return false;
+		for (int i = 0; i < textLength; i++)
+			if (text[i] != value.charAt(i)) return false;
+		return true;
+	}
+
+	/** @return the next non whitespace character without consuming it or -1 at the end of the input */
+	private int skipWhitespace () {
+		while (true) {
+			int c = peek();
+			if (c == -1 || !Character.isWhitespace((char)c)) return c;
+			if (c == '\n') line++;
+			position++;
+		}
+	}
+
+	private int peek () {
+		if (position == limit && !fill()) return -1;
+		return buffer[position];
+	}
+
+	private int read () {
+		if (position == limit && !fill()) return -1;
+		return buffer[position++];
+	}
+
+	private boolean fill () {
+		try {
+			int count;
+			do {
+				count = reader.read(buffer, 0, buffer.length);
+			} while (count == 0);
+			if (count == -1) return false;
+			position = 0;
+			limit = count;
+			return true;
+		} catch (IOException ex) {
+			throw new SerializationException("Error reading JSON", ex);
+		}
+	}
+
+	private SerializationException error (String message) {
+		return new SerializationException("Error parsing JSON on line " + line + ": " + message);
+	}
+
+	/** @return the current token or null if {@link #next()} was not called yet. */
+	public Token getToken () {
+		return token;
+	}
+
+	/** @return the name of the current value if it is a member of an object, null otherwise. Names are cached, so reading the same
+	 *         name repeatedly does not allocate. */
+	public String getName () {
+		if (nameString != null) return nameString;
+		if (nameLength == -1) return null;
+		int hash = 0;
+		for (int i = 0; i < nameLength; i++)
+			hash = 31 * hash + name[i];
+		int index = (hash ^ (hash >>> 16)) & (nameCache.length - 1);
+		String cached = nameCache[index];
+		if (cached != null && cached.length() == nameLength) {
+			int i = 0;
+			while (i < nameLength && cached.charAt(i) == name[i])
+				i++;
+			if (i == nameLength) return nameString = cached;
+		}
+		return nameString = nameCache[index] = new String(name, 0, nameLength);
+	}
+
+	/** @return the line of the input the reader is at. */
+	public int getLine () {
+		return line;
+	}
+
+	/** @return the value of the current token as a string, null for {@link Token#nil}. Allocates a new string for string and number
+	 *         tokens. */
+	public String getString () {
+		switch (token) {
+		case string:
+		case number:
+			return new String(text, 0, textLength);
+		case bool:
+			return boolValue ? "true" : "false";
+		case nil:
+			return null;
+		}
+		throw new SerializationException("Current token is not a value: " + token);
+	}
+
+	/** @return the value of a boolean token, for other tokens true if the text of the value is "true", ignoring case. */
+	public boolean getBoolean () {
+		if (token == Token.bool) return boolValue;
+		if (token != Token.string && token != Token.number) return false;
+		if (textLength != 4) return false;
+		return Character.toLowerCase(text[0]) == 't' && Character.toLowerCase(text[1]) == 'r'
+			&& Character.toLowerCase(text[2]) == 'u' && Character.toLowerCase(text[3]) == 'e';
+	}
+
+	/** @return the value of the current number or string token as a float.
+	 * @throws NumberFormatException if the value is not a number */
+	public float getFloat () {
+		checkNumeric();
+		if (parseDecimal()) {
+			// The mantissa and the power of ten are both exact floats, a single division or multiplication rounds correctly.
+			if (mantissa < 1 << 24 && exponent >= -10 && exponent <= 10) {
+				float value = exponent < 0 ? mantissa / (float)POWERS_OF_TEN[-exponent] : mantissa * (float)POWERS_OF_TEN[exponent];
+				return negative ? -value : value;
+			}
+		}
+		return Float.parseFloat(new String(text, 0, textLength));
+	}
+
+	/** @return the value of the current number or string token as a double.
+	 * @throws NumberFormatException if the value is not a number */
+	public double getDouble () {
+		checkNumeric();
+		if (parseDecimal()) {
+			// The mantissa and the power of ten are both exact doubles, a single division or multiplication rounds correctly.
+			if (mantissa < 1l << 53 && exponent >= -22 && exponent <= 22) {
+				double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+				return negative ? -value : value;
+			}
+		}
+		return Double.parseDouble(new String(text, 0, textLength));
+	}
+
+	/** @return the value of the current number or string token as an int, fractions are truncated.
+	 * @throws NumberFormatException if the value is not a number */
+	public int getInt () {
+		long value = getLong();
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) return (int)getDouble();
+		return (int)value;
+	}
+
+	/** @return the value of the current number or string token as a long, fractions are truncated.
+	 * @throws NumberFormatException if the value is not a number */
+	public long getLong () {
+		checkNumeric();
+		int i = 0;
+		boolean negative = textLength > 0 && text[0] == '-';
+		if (negative) i++;
+		if (i == textLength || textLength - i > 18) return (long)getDouble();
+		long value = 0;
+		for (; i < textLength; i++) {
+			char c = text[i];
+			if (c < '0' || c > '9') return (long)getDouble();
+			value = value * 10 + (c - '0');
+		}
+		return negative ? -value : value;
+	}
+
+	private void checkNumeric () {
+		if (token != Token.number && token != Token.string)
+			throw new NumberFormatException("Current token is not a number: " + token);
+	}
+
+	static private final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13,
+		1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+	private long mantissa;
+	private int exponent;
+	private boolean negative;
+
+	/** Splits the text into {@link #mantissa} and decimal {@link #exponent} for the fast paths of {@link #getFloat()} and
+	 * {@link #getDouble()}.
+	 * @return false if the text is not a plain decimal number or has too many digits, the caller falls back to the JDK parser. */
+	private boolean parseDecimal () {
+		int i = 0, n = textLength;
+		negative = n > 0 && text[0] == '-';
+		if (negative) i++;
+		long mantissa = 0;
+		int exponent = 0, digits = 0;
+		boolean fraction = false, any = false;
+		for (; i < n; i++) {
+			char c = text[i];
+			if (c >= '0' && c <= '9') {
+				any = true;
+				if (mantissa == 0 && c == '0') {
+					if (fraction) exponent--;
+					continue;
+				}
+				if (++digits > 18) return false;
+				mantissa = mantissa * 10 + (c - '0');
+				if (fraction) exponent--;
+			} else if (c == '.' && !fraction) {
+				fraction = true;
+			} else if (c == 'e' || c == 'E') {
+				break;
+			} else
+				return false;
+		}
+		if (!any) return false;
+		if (i < n) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < n && (text[i] == '-' || text[i] == '+')) negativeExponent = text[i++] == '-';
+			if (i == n || n - i > 4) return false;
+			int value = 0;
+			for (; i < n; i++) {
+				char c = text[i];
+				if (c < '0' || c > '9') return false;
+				value = value * 10 + (c - '0');
+			}
+			exponent += negativeExponent ? -value : value;
+		}
+		if (mantissa == 0) exponent = 0;
+		this.mantissa = mantissa;
+		this.exponent = exponent;
+		return true;
+	}
+
+	/** Skips the current value. If the current token is {@link Token#objectStart} or {@link Token#arrayStart}, the reader advances
+	 * to the matching end token, otherwise nothing happens. */
+	public void skipValue () {
+		if (token != Token.objectStart && token != Token.arrayStart) return;
+		int targetDepth = depth - 1;
+		while (true) {
+			Token token = next();
+			if ((token == Token.objectEnd || token == Token.arrayEnd) && depth == targetDepth) return;
+		}
+	}
+
+	/** Closes the underlying reader. */
+	public void close () {
+		try {
+			reader.close();
+		} catch (IOException ignored) {
+		}
+	}
+}
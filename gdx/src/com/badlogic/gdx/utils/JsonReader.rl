@@ -29,6 +29,7 @@ import com.badlogic.gdx.files.FileHandle;
  * <br>
  * The default behavior is to parse the JSON into a DOM made up of {@link OrderedMap}, {@link Array}, String, Float, and Boolean objects.
  * Extend this class and override methods to perform event driven parsing. When this is done, the parse methods will return null.
+ * @see JsonPullReader
  * @author Nathan Sweet */
 public class JsonReader {
 	public Object parse (String json) {
@@ -82,6 +82,58 @@ public class JsonWriter extends Writer {
 	}
 
 	public JsonWriter value (Object value) throws IOException {
+		beforeValue();
+		if (value == null || value instanceof Number || value instanceof Boolean) {
+			writer.write(String.valueOf(value));
+		} else {
+			writer.write(outputType.quoteValue(value.toString()));
+		}
+		return this;
+	}
+
+	/** Writes the value without boxing it. */
+	public JsonWriter value (int value) throws IOException {
+		beforeValue();
+		writer.write(Integer.toString(value));
+		return this;
+	}
+
+	/** Writes the value without boxing it. */
+	public JsonWriter value (long value) throws IOException {
+		beforeValue();
+		writer.write(Long.toString(value));
+		return this;
+	}
+
+	/** Writes the value without boxing it. */
+	public JsonWriter value (float value) throws IOException {
+		beforeValue();
+		writer.write(Float.toString(value));
+		return this;
+	}
+
+	/** Writes the value without boxing it. */
+	public JsonWriter value (double value) throws IOException {
+		beforeValue();
+		writer.write(Double.toString(value));
+		return this;
+	}
+
+	/** Writes the value without boxing it. */
+	public JsonWriter value (boolean value) throws IOException {
+		beforeValue();
+		writer.write(value ? "true" : "false");
+		return this;
+	}
+
+	/** Writes the value as a string, the same as a boxed Character. */
+	public JsonWriter value (char value) throws IOException {
+		beforeValue();
+		writer.write(outputType.quoteValue(String.valueOf(value)));
+		return this;
+	}
+
+	private void beforeValue () throws IOException {
 		if (current != null) {
 			if (current.array) {
 				if (!current.needsComma)
@@ -93,12 +145,6 @@ public class JsonWriter extends Writer {
 				named = false;
 			}
 		}
-		if (value == null || value instanceof Number || value instanceof Boolean) {
-			writer.write(String.valueOf(value));
-		} else {
-			writer.write(outputType.quoteValue(value.toString()));
-		}
-		return this;
 	}
 
 	public JsonWriter object (String name) throws IOException {
@@ -161,6 +207,7 @@ public class JsonWriter extends Writer {
 //		static private Pattern minimalPattern = Pattern.compile("[a-zA-Z_$][^:}\\], ]*");
 
 		public String quoteValue (String value) {
+			if (!needsEscape(value)) return '"' + value + '"';
 			value = value.replace("\\", "\\\\");
 			// FIXME Avian regex matcher isn't powerful enough
 //			if (this == OutputType.minimal && !value.equals("true") && !value.equals("false") && !value.equals("null")
@@ -169,6 +216,7 @@ public class JsonWriter extends Writer {
 		}
 
 		public String quoteName (String value) {
+			if (!needsEscape(value)) return '"' + value + '"';
 			value = value.replace("\\", "\\\\");
 			switch (this) {
 			case minimal:
@@ -183,5 +231,10 @@ public class JsonWriter extends Writer {
 				return '"' + value.replace("\"", "\\\"") + '"';
 			}
 		}
+
+		/** Avoids the regex based {@link String#replace(CharSequence, CharSequence)} for the common case. */
+		static private boolean needsEscape (String value) {
+			return value.indexOf('\\') != -1 || value.indexOf('"') != -1;
+		}
 	}
 }
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** A bounded lock-free queue that allows any number of threads to call {@link #put(Object)} and any number of threads to call
+ * {@link #poll()}. Each slot of the ring buffer carries a sequence number that tells producers and consumers whether it is free
+ * or holds a value, so a thread only contends with others on the counter of its own side.
+ * @see MpscQueue */
+public class MpmcQueue<T> {
+	private final PaddedAtomicLong tail = new PaddedAtomicLong();
+	private final PaddedAtomicLong head = new PaddedAtomicLong();
+	private final AtomicReferenceArray<T> items;
+	private final AtomicLongArray sequences;
+	private final int mask;
+
+	/** @param capacity Rounded up to the next power of two. */
+	public MpmcQueue (int capacity) {
+		capacity = MathUtils.nextPowerOfTwo(Math.max(capacity, 2));
+		items = new AtomicReferenceArray(capacity);
+		sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++)
+			sequences.set(i, i);
+		mask = capacity - 1;
+	}
+
+	/** @return false if the queue is full. */
+	public boolean put (T value) {
+		if (value == null) throw new IllegalArgumentException("value cannot be null.");
+		while (true) {
+			long tail = this.tail.get();
+			int index = (int)tail & mask;
+			long diff = sequences.get(index) - tail;
+			if (diff == 0) {
+				if (this.tail.compareAndSet(tail, tail + 1)) {
+					items.lazySet(index, value);
+					sequences.lazySet(index, tail + 1);
+					return true;
+				}
+			} else if (diff < 0) return false;
+		}
+	}
+
+	/** @return The oldest value, or null if the queue is empty. */
+	public T poll () {
+		while (true) {
+			long head = this.head.get();
+			int index = (int)head & mask;
+			long diff = sequences.get(index) - (head + 1);
+			if (diff == 0) {
+				if (this.head.compareAndSet(head, head + 1)) {
+					T value = items.get(index);
+					items.lazySet(index, null);
+					sequences.lazySet(index, head + mask + 1);
+					return value;
+				}
+			} else if (diff < 0) return null;
+		}
+	}
+
+	/** Removes all available values and adds them to the array.
+	 * @return The number of values added. */
+	public int drainTo (Array<? super T> array) {
+		return drainTo(array, Integer.MAX_VALUE);
+	}
+
+	/** Removes up to max values and adds them to the array.
+	 * @return The number of values added. */
+	public int drainTo (Array<? super T> array, int max) {
+		int count = 0;
+		while (count < max) {
+			T value = poll();
+			if (value == null) break;
+			array.add(value);
+			count++;
+		}
+		return count;
+	}
+
+	/** Returns the number of values in the queue. This is only an estimate when other threads are using the queue. */
+	public int size () {
+		while (true) {
+			long head = this.head.get();
+			long tail = this.tail.get();
+			if (head == this.head.get()) return (int)Math.max(0, Math.min(tail - head, mask + 1));
+		}
+	}
+
+	public boolean isEmpty () {
+		return size() == 0;
+	}
+
+	public int getCapacity () {
+		return mask + 1;
+	}
+
+	/** An AtomicLong that occupies a cache line by itself, so the head and tail counters do not invalidate each other. */
+	static class PaddedAtomicLong extends AtomicLong {
+		private static final long serialVersionUID = 6157164843916437458L;
+
+		private volatile long p1, p2, p3, p4, p5, p6, p7;
+
+		/** Reads the padding so it is not removed as unused. */
+		long sum () {
+			return p1 + p2 + p3 + p4 + p5 + p6 + p7;
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.MpmcQueue.PaddedAtomicLong;
+
+/** A bounded lock-free queue that allows any number of threads to call {@link #put(Object)} and one thread to call
+ * {@link #poll()} and {@link #drainTo(Array)}, eg worker threads posting results to the rendering thread. The consumer never
+ * needs a compare-and-set, which makes draining cheaper than with {@link MpmcQueue}.
+ * @see AtomicQueue */
+public class MpscQueue<T> {
+	private final PaddedAtomicLong tail = new PaddedAtomicLong();
+	private final PaddedAtomicLong head = new PaddedAtomicLong();
+	private final AtomicReferenceArray<T> items;
+	private final AtomicLongArray sequences;
+	private final int mask;
+
+	/** @param capacity Rounded up to the next power of two. */
+	public MpscQueue (int capacity) {
+		capacity = MathUtils.nextPowerOfTwo(Math.max(capacity, 2));
+		items = new AtomicReferenceArray(capacity);
+		sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++)
+			sequences.set(i, i);
+		mask = capacity - 1;
+	}
+
+	/** May be called by any thread.
+	 * @return false if the queue is full. */
+	public boolean put (T value) {
+		if (value == null) throw new IllegalArgumentException("value cannot be null.");
+		while (true) {
+			long tail = this.tail.get();
+			int index = (int)tail & mask;
+			long diff = sequences.get(index) - tail;
+			if (diff == 0) {
+				if (this.tail.compareAndSet(tail, tail + 1)) {
+					items.lazySet(index, value);
+					sequences.lazySet(index, tail + 1);
+					return true;
+				}
+			} else if (diff < 0) return false;
+		}
+	}
+
+	/** Must only be called by the consumer thread.
+	 * @return The oldest value, or null if the queue is empty. */
+	public T poll () {
+		long head = this.head.get();
+		int index = (int)head & mask;
+		if (sequences.get(index) != head + 1) return null;
+		T value = items.get(index);
+		items.lazySet(index, null);
+		sequences.lazySet(index, head + mask + 1);
+		this.head.lazySet(head + 1);
+		return value;
+	}
+
+	/** Removes all available values and adds them to the array. Must only be called by the consumer thread.
+	 * @return The number of values added. */
+	public int drainTo (Array<? super T> array) {
+		return drainTo(array, Integer.MAX_VALUE);
+	}
+
+	/** Removes up to max values and adds them to the array. Must only be called by the consumer thread.
+	 * @return The number of values added. */
+	public int drainTo (Array<? super T> array, int max) {
+		long head = this.head.get();
+		int count = 0;
+		for (; count < max; count++, head++) {
+			int index = (int)head & mask;
+			if (sequences.get(index) != head + 1) break;
+			array.add(items.get(index));
+			items.lazySet(index, null);
+			sequences.lazySet(index, head + mask + 1);
+		}
+		this.head.lazySet(head);
+		return count;
+	}
+
+	/** Returns the number of values in the queue. This is only an estimate when other threads are using the queue. */
+	public int size () {
+		while (true) {
+			long head = this.head.get();
+			long tail = this.tail.get();
+			if (head == this.head.get()) return (int)Math.max(0, Math.min(tail - head, mask + 1));
+		}
+	}
+
+	public boolean isEmpty () {
+		return size() == 0;
+	}
+
+	public int getCapacity () {
+		return mask + 1;
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.GLStateCache;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Drives a {@link GLStateCache} with a GL20 that only records the names of the calls passed to it, and checks that redundant
+ * state changes are skipped and that calls are passed on again after {@link GLStateCache#invalidate()}. Does not need a GPU. */
+public class GLStateCacheFilterTest extends GdxTest {
+	final Array<String> calls = new Array();
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		GL20 recorder = (GL20)Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class[] {GL20.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					calls.add(method.getName());
+					Class type = method.getReturnType();
+					if (type == int.class) return 0;
+					if (type == boolean.class) return false;
+					return null;
+				}
+			});
+		GLStateCache cache = new GLStateCache(recorder);
+
+		cache.glEnable(GL10.GL_BLEND);
+		cache.glEnable(GL10.GL_BLEND);
+		cache.glDisable(GL10.GL_DEPTH_TEST);
+		cache.glDisable(GL10.GL_DEPTH_TEST);
+		cache.glBlendFunc(GL10.GL_SRC_ALPHA, GL10.GL_ONE_MINUS_SRC_ALPHA);
+		cache.glBlendFunc(GL10.GL_SRC_ALPHA, GL10.GL_ONE_MINUS_SRC_ALPHA);
+		cache.glDepthMask(false);
+		cache.glDepthMask(false);
+		cache.glActiveTexture(GL10.GL_TEXTURE0);
+		cache.glBindTexture(GL10.GL_TEXTURE_2D, 5);
+		cache.glActiveTexture(GL10.GL_TEXTURE0);
+		cache.glBindTexture(GL10.GL_TEXTURE_2D, 5);
+		check("glEnable, glDisable, glBlendFunc, glDepthMask, glActiveTexture, glBindTexture");
+		checkCount(cache.issuedCalls, 6);
+		checkCount(cache.elidedCalls, 6);
+
+		// A changed state is passed on, calls that set no state always are.
+		cache.glBlendFunc(GL10.GL_ONE, GL10.GL_ONE);
+		cache.glEnable(GL10.GL_DEPTH_TEST);
+		cache.glClear(GL10.GL_COLOR_BUFFER_BIT);
+		cache.glClear(GL10.GL_COLOR_BUFFER_BIT);
+		check("glBlendFunc, glEnable, glClear, glClear");
+
+		// Deleting the bound texture binds 0, so binding it again is passed on.
+		IntBuffer handles = BufferUtils.newIntBuffer(1);
+		handles.put(0, 5);
+		cache.glDeleteTextures(1, handles);
+		cache.glBindTexture(GL10.GL_TEXTURE_2D, 5);
+		check("glDeleteTextures, glBindTexture");
+
+		// After invalidate the same state is passed on once more.
+		cache.invalidate();
+		cache.glEnable(GL10.GL_BLEND);
+		cache.glEnable(GL10.GL_BLEND);
+		cache.glBlendFunc(GL10.GL_ONE, GL10.GL_ONE);
+		cache.glDepthMask(false);
+		cache.glActiveTexture(GL10.GL_TEXTURE0);
+		cache.glBindTexture(GL10.GL_TEXTURE_2D, 5);
+		check("glEnable, glBlendFunc, glDepthMask, glActiveTexture, glBindTexture");
+
+		Gdx.app.log("GLStateCacheFilterTest", "All checks passed.");
+	}
+
+	/** Checks that the recorded calls are the expected ones and clears them. */
+	private void check (String expected) {
+		String actual = calls.toString(", ");
+		calls.clear();
+		if (!actual.equals(expected)) throw new GdxRuntimeException("Expected calls: " + expected + ", but got: " + actual);
+	}
+
+	private void checkCount (int actual, int expected) {
+		if (actual != expected) throw new GdxRuntimeException("Expected count: " + expected + ", but got: " + actual);
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+	}
+}
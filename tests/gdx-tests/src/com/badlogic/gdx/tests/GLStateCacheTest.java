@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.GLStateCache;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.tests.utils.GdxTest;
+
+/** Switches between {@link SpriteBatch} and {@link ShapeRenderer} several times per frame with a {@link GLStateCache} installed,
+ * showing how many state changes are passed to OpenGL and how many are skipped. Touch to toggle the cache. */
+public class GLStateCacheTest extends GdxTest {
+	static final int SWITCHES = 20;
+
+	GLStateCache cache;
+	SpriteBatch batch;
+	ShapeRenderer renderer;
+	Texture texture;
+	BitmapFont font;
+	int issued, elided;
+
+	@Override
+	public boolean needsGL20 () {
+		return true;
+	}
+
+	@Override
+	public void create () {
+		cache = GLStateCache.install();
+		batch = new SpriteBatch();
+		renderer = new ShapeRenderer();
+		texture = new Texture(Gdx.files.internal("data/badlogicsmall.jpg"));
+		font = new BitmapFont();
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			if (Gdx.gl20 == cache)
+				GLStateCache.uninstall();
+			else
+				cache = GLStateCache.install();
+		}
+
+		cache.issuedCalls = 0;
+		cache.elidedCalls = 0;
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+		for (int i = 0; i < SWITCHES; i++) {
+			batch.begin();
+			batch.draw(texture, i * 20, 100);
+			batch.end();
+
+			renderer.begin(ShapeType.FilledRectangle);
+			renderer.setColor(Color.RED);
+			renderer.filledRect(i * 20, 200, 16, 16);
+			renderer.end();
+		}
+		issued = cache.issuedCalls;
+		elided = cache.elidedCalls;
+
+		batch.begin();
+		if (Gdx.gl20 == cache)
+			font.draw(batch, "Cache on, state calls per frame: " + issued + " issued, " + elided + " skipped", 10, 30);
+		else
+			font.draw(batch, "Cache off", 10, 30);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		GLStateCache.uninstall();
+		batch.dispose();
+		renderer.dispose();
+		texture.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Hit tests a group of 10000 tiles at the pointer, with and without {@link Group#setSpatialIndex(float) a spatial index}, and
+ * shows the time per hit. The tile under the pointer is tinted. Touch to toggle the index. */
+public class GroupHitTest extends GdxTest {
+	static final int SIZE = 100, HITS = 100;
+
+	Stage stage;
+	Group tiles;
+	Texture texture;
+	SpriteBatch batch;
+	BitmapFont font;
+	boolean indexed = true;
+	Actor lastHit;
+	final Vector2 point = new Vector2();
+
+	@Override
+	public void create () {
+		stage = new Stage(SIZE, SIZE, false);
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		texture = new Texture(Gdx.files.internal("data/badlogicsmall.jpg"));
+		TextureRegion region = new TextureRegion(texture);
+
+		tiles = new Group("tiles");
+		for (int y = 0; y < SIZE; y++) {
+			for (int x = 0; x < SIZE; x++) {
+				Image tile = new Image(region);
+				tile.x = x;
+				tile.y = y;
+				tile.width = 0.9f;
+				tile.height = 0.9f;
+				tiles.addActor(tile);
+			}
+		}
+		tiles.setSpatialIndex(2);
+		stage.addActor(tiles);
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			indexed = !indexed;
+			tiles.setSpatialIndex(indexed ? 2 : 0);
+		}
+
+		stage.act(Gdx.graphics.getDeltaTime());
+		stage.toStageCoordinates(Gdx.input.getX(), Gdx.input.getY(), point);
+		Actor hit = null;
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < HITS; i++)
+			hit = stage.hit(point.x, point.y);
+		long time = (TimeUtils.nanoTime() - start) / HITS;
+		if (hit != lastHit) {
+			if (lastHit != null) lastHit.color.set(1, 1, 1, 1);
+			if (hit != null) hit.color.set(1, 0, 0, 1);
+			lastHit = hit;
+		}
+
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+		stage.draw();
+		batch.begin();
+		font.draw(batch, (indexed ? "Spatial index: " : "No index: ") + time / 1000f + " us per hit, "
+			+ Gdx.graphics.getFramesPerSecond() + " fps", 10, 30);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		stage.dispose();
+		batch.dispose();
+		font.dispose();
+		texture.dispose();
+	}
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+}
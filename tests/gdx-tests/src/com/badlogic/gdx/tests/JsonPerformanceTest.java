@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonPullReader;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Measures serializing a save game sized list of entities with {@link Json}, reading it back through the DOM and through
+ * {@link JsonPullReader}, and the same for the binary form. Results are logged. */
+public class JsonPerformanceTest extends GdxTest {
+	static final int ENTITIES = 10000;
+	static final int ROUNDS = 10;
+
+	static public class Entity {
+		public String name;
+		public float x, y, rotation;
+		public int health = 100, team;
+		public long id;
+		public boolean alive = true;
+		public float[] path;
+		public Entity target;
+	}
+
+	@Override
+	public void create () {
+		Array<Entity> entities = new Array();
+		for (int i = 0; i < ENTITIES; i++) {
+			Entity entity = new Entity();
+			entity.name = "entity" + i;
+			entity.x = i * 1.5f;
+			entity.y = -i * 0.25f;
+			entity.rotation = i % 360;
+			entity.health = i % 100;
+			entity.team = i % 4;
+			entity.id = i * 31L;
+			entity.alive = i % 7 != 0;
+			entity.path = new float[] {i, i + 1, i + 2, i + 3};
+			if (i % 3 == 0) {
+				entity.target = new Entity();
+				entity.target.id = i + 1;
+			}
+			entities.add(entity);
+		}
+
+		Json json = new Json();
+		String text = null;
+		byte[] binary = null;
+		long write = 0, readDom = 0, readStream = 0, writeBinary = 0, readBinary = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = TimeUtils.nanoTime();
+			text = json.toJson(entities, Array.class, Entity.class);
+			write += TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			json.fromJson(Array.class, Entity.class, text);
+			readDom += TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			json.fromJson(Array.class, Entity.class, new JsonPullReader(text));
+			readStream += TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			binary = json.toBinary(entities, Array.class, Entity.class);
+			writeBinary += TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			json.fromBinary(Array.class, Entity.class, binary);
+			readBinary += TimeUtils.nanoTime() - start;
+		}
+		Gdx.app.log("JsonPerformanceTest", ENTITIES + " entities, " + text.length() + " chars");
+		Gdx.app.log("JsonPerformanceTest", "write: " + write / ROUNDS / 1000000f + " ms");
+		Gdx.app.log("JsonPerformanceTest", "read, JsonReader: " + readDom / ROUNDS / 1000000f + " ms");
+		Gdx.app.log("JsonPerformanceTest", "read, JsonPullReader: " + readStream / ROUNDS / 1000000f + " ms");
+		Gdx.app.log("JsonPerformanceTest", "binary, " + binary.length + " bytes");
+		Gdx.app.log("JsonPerformanceTest", "binary write: " + writeBinary / ROUNDS / 1000000f + " ms");
+		Gdx.app.log("JsonPerformanceTest", "binary read: " + readBinary / ROUNDS / 1000000f + " ms");
+		Gdx.app.log("JsonPerformanceTest", "binary size: " + binary.length * 100 / text.length() + "% of text, binary read: "
+			+ (float)readDom / readBinary + "x faster than JsonReader");
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectManager;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Keeps a few hundred pooled effects alive with a {@link ParticleEffectManager} and shows the time spent updating and drawing
+ * them. Touch to switch between using all processors and a single thread. */
+public class ParticleEffectManagerTest extends GdxTest {
+	static final int EFFECTS = 300;
+
+	SpriteBatch batch;
+	BitmapFont font;
+	ParticleEffect prototype;
+	ParticleEffectPool pool;
+	ParticleEffectManager manager;
+	int threads = Runtime.getRuntime().availableProcessors();
+	long time;
+	int frames;
+	float averageTime;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		prototype = new ParticleEffect();
+		prototype.load(Gdx.files.internal("data/test.p"), Gdx.files.internal("data"));
+		pool = new ParticleEffectPool(prototype, EFFECTS, EFFECTS);
+		manager = new ParticleEffectManager(threads, 0);
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			threads = threads == 1 ? Runtime.getRuntime().availableProcessors() : 1;
+			Array<ParticleEffect> effects = new Array(manager.getEffects());
+			manager.dispose();
+			manager = new ParticleEffectManager(threads, 0);
+			for (int i = 0; i < effects.size; i++)
+				manager.add(effects.get(i));
+			time = 0;
+			frames = 0;
+		}
+
+		while (manager.getEffects().size < EFFECTS) {
+			PooledEffect effect = pool.obtain();
+			effect.setDuration(MathUtils.random(500, 2000));
+			effect.setPosition(MathUtils.random(Gdx.graphics.getWidth()), MathUtils.random(Gdx.graphics.getHeight()));
+			manager.add(effect);
+		}
+
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+		batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		batch.begin();
+		long start = TimeUtils.nanoTime();
+		manager.update(Gdx.graphics.getDeltaTime());
+		manager.draw(batch);
+		time += TimeUtils.nanoTime() - start;
+		if (++frames == 60) {
+			averageTime = time / frames / 1000000f;
+			time = 0;
+			frames = 0;
+		}
+		font.draw(batch, threads + " threads, " + manager.getEffects().size + " effects, " + averageTime + " ms, "
+			+ Gdx.graphics.getFramesPerSecond() + " fps", 10, 30);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		manager.dispose();
+		batch.dispose();
+		font.dispose();
+		prototype.dispose();
+	}
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+}
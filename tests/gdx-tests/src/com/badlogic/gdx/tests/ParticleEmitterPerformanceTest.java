@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Keeps about 30000 particles alive and shows the time spent updating and drawing them. Touch to switch between a
+ * {@link ParticleEmitter} using a sprite per particle and a {@link ParticleEmitter#setPacked(boolean) packed} one. */
+public class ParticleEmitterPerformanceTest extends GdxTest {
+	static final int PARTICLES = 30000;
+
+	SpriteBatch batch;
+	BitmapFont font;
+	ParticleEffect effect;
+	ParticleEmitter emitter;
+	long time;
+	int frames;
+	float averageTime;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+
+		effect = new ParticleEffect();
+		effect.load(Gdx.files.internal("data/test.p"), Gdx.files.internal("data"));
+		emitter = effect.getEmitters().get(0);
+		effect.getEmitters().truncate(1);
+		emitter.setContinuous(true);
+		emitter.setMaxParticleCount(PARTICLES);
+		emitter.getEmission().setHigh(PARTICLES / emitter.getLife().getHighMax() * 1000);
+		effect.setPosition(Gdx.graphics.getWidth() / 2, Gdx.graphics.getHeight() / 2);
+		effect.start();
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) {
+			emitter.setPacked(!emitter.isPacked());
+			time = 0;
+			frames = 0;
+		}
+
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+		batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		batch.begin();
+		long start = TimeUtils.nanoTime();
+		effect.draw(batch, Gdx.graphics.getDeltaTime());
+		time += TimeUtils.nanoTime() - start;
+		if (++frames == 60) {
+			averageTime = time / frames / 1000000f;
+			time = 0;
+			frames = 0;
+		}
+		font.draw(batch, (emitter.isPacked() ? "Packed: " : "Sprites: ") + emitter.getActiveCount() + " particles, " + averageTime
+			+ " ms, " + Gdx.graphics.getFramesPerSecond() + " fps", 10, 30);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+		effect.dispose();
+	}
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+}
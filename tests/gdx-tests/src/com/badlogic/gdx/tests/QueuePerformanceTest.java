@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.AtomicQueue;
+import com.badlogic.gdx.utils.MpmcQueue;
+import com.badlogic.gdx.utils.MpscQueue;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Measures the throughput of worker threads posting to a single consumer thread through {@link AtomicQueue} (one producer
+ * only), {@link ConcurrentLinkedQueue}, {@link MpscQueue} and {@link MpmcQueue}. Results are logged. */
+public class QueuePerformanceTest extends GdxTest {
+	static final int ITEMS = 1000000;
+	static final int CAPACITY = 1024;
+
+	/** Adapts the queues under test to a common interface, so the loops below are the same for each. */
+	static abstract class Target {
+		abstract boolean put (Object value);
+
+		/** @return The number of values taken. */
+		abstract int take (Array batch);
+	}
+
+	@Override
+	public void create () {
+		int producers = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+		Object item = new Object();
+
+		final AtomicQueue atomicQueue = new AtomicQueue(CAPACITY);
+		log("AtomicQueue, 1 producer", 1, item, new Target() {
+			boolean put (Object value) {
+				return atomicQueue.put(value);
+			}
+
+			int take (Array batch) {
+				int count = 0;
+				while (atomicQueue.poll() != null)
+					count++;
+				return count;
+			}
+		});
+
+		final ConcurrentLinkedQueue linkedQueue = new ConcurrentLinkedQueue();
+		Target linked = new Target() {
+			boolean put (Object value) {
+				return linkedQueue.offer(value);
+			}
+
+			int take (Array batch) {
+				int count = 0;
+				while (linkedQueue.poll() != null)
+					count++;
+				return count;
+			}
+		};
+
+		final MpscQueue mpscQueue = new MpscQueue(CAPACITY);
+		Target mpsc = new Target() {
+			boolean put (Object value) {
+				return mpscQueue.put(value);
+			}
+
+			int take (Array batch) {
+				batch.clear();
+				return mpscQueue.drainTo(batch);
+			}
+		};
+
+		final MpmcQueue mpmcQueue = new MpmcQueue(CAPACITY);
+		Target mpmc = new Target() {
+			boolean put (Object value) {
+				return mpmcQueue.put(value);
+			}
+
+			int take (Array batch) {
+				batch.clear();
+				return mpmcQueue.drainTo(batch);
+			}
+		};
+
+		log("ConcurrentLinkedQueue, 1 producer", 1, item, linked);
+		log("MpscQueue, 1 producer", 1, item, mpsc);
+		log("MpmcQueue, 1 producer", 1, item, mpmc);
+		log("ConcurrentLinkedQueue, " + producers + " producers", producers, item, linked);
+		log("MpscQueue, " + producers + " producers", producers, item, mpsc);
+		log("MpmcQueue, " + producers + " producers", producers, item, mpmc);
+	}
+
+	private void log (String name, int producers, final Object item, final Target target) {
+		Thread[] threads = new Thread[producers];
+		final int itemsPerProducer = ITEMS / producers;
+		for (int i = 0; i < producers; i++) {
+			threads[i] = new Thread() {
+				public void run () {
+					for (int i = 0; i < itemsPerProducer; i++)
+						while (!target.put(item))
+							Thread.yield();
+				}
+			};
+		}
+
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < producers; i++)
+			threads[i].start();
+		Array batch = new Array(CAPACITY);
+		int remaining = itemsPerProducer * producers;
+		while (remaining > 0) {
+			int count = target.take(batch);
+			if (count == 0) Thread.yield();
+			remaining -= count;
+		}
+		long time = TimeUtils.nanoTime() - start;
+		Gdx.app.log("QueuePerformanceTest", name + ": " + (int)(itemsPerProducer * producers / (time / 1000000000.0)) + " items/s");
+	}
+}
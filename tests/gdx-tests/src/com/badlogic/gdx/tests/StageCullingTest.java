@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Scrolls the camera over a map of 6400 tiles in 64 chunk groups, some of them rotating, with and without
+ * {@link Stage#setCulling(boolean) culling}, and shows the time to draw the stage. Touch to toggle culling. */
+public class StageCullingTest extends GdxTest {
+	static final int CHUNKS = 8, TILES = 10;
+
+	Stage stage;
+	Group[] chunks = new Group[CHUNKS * CHUNKS];
+	Texture texture;
+	SpriteBatch batch;
+	BitmapFont font;
+	float time, drawTime;
+
+	@Override
+	public void create () {
+		stage = new Stage(20, 15, false);
+		stage.setCulling(true);
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		texture = new Texture(Gdx.files.internal("data/badlogicsmall.jpg"));
+		TextureRegion region = new TextureRegion(texture);
+
+		for (int cy = 0, i = 0; cy < CHUNKS; cy++) {
+			for (int cx = 0; cx < CHUNKS; cx++, i++) {
+				Group chunk = new Group();
+				chunk.x = cx * TILES;
+				chunk.y = cy * TILES;
+				chunk.width = TILES;
+				chunk.height = TILES;
+				chunk.originX = TILES / 2;
+				chunk.originY = TILES / 2;
+				for (int y = 0; y < TILES; y++) {
+					for (int x = 0; x < TILES; x++) {
+						Image tile = new Image(region);
+						tile.x = x;
+						tile.y = y;
+						tile.width = 0.9f;
+						tile.height = 0.9f;
+						chunk.addActor(tile);
+					}
+				}
+				chunks[i] = chunk;
+				stage.addActor(chunk);
+			}
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) stage.setCulling(!stage.getCulling());
+
+		float delta = Gdx.graphics.getDeltaTime();
+		time += delta;
+		for (int i = 0; i < chunks.length; i += 7)
+			chunks[i].rotation += delta * 20;
+		// Circle around the middle of the map.
+		Camera camera = stage.getCamera();
+		float middle = CHUNKS * TILES / 2;
+		camera.position.set(middle + MathUtils.cos(time * 0.2f) * middle * 0.8f, middle + MathUtils.sin(time * 0.2f) * middle * 0.8f,
+			0);
+		stage.act(delta);
+
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+		long start = TimeUtils.nanoTime();
+		stage.draw();
+		drawTime = drawTime * 0.95f + (TimeUtils.nanoTime() - start) / 1000000f * 0.05f;
+		batch.begin();
+		font.draw(batch, (stage.getCulling() ? "Culling: " : "No culling: ") + (int)(drawTime * 100) / 100f + " ms to draw, "
+			+ Gdx.graphics.getFramesPerSecond() + " fps", 10, 30);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		stage.dispose();
+		batch.dispose();
+		font.dispose();
+		texture.dispose();
+	}
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+}
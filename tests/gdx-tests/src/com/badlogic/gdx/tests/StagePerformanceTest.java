@@ -31,8 +31,12 @@ import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
 
+/** Draws 24 * 12 images with a stage, with a stage where each row is in a group nested in a static HUD group, and as sprites, and
+ * shows the time to draw them. Touch to switch between them. */
 public class StagePerformanceTest extends GdxTest {
+	static final String[] MODES = {"stage", "stage, groups", "sprites"};
 
 	@Override
 	public boolean needsGL20 () {
@@ -42,16 +46,21 @@ public class StagePerformanceTest extends GdxTest {
 	Texture texture;
 	TextureRegion[] regions;
 	Stage stage;
+	Stage groupStage;
 	SpriteBatch batch;
 	BitmapFont font;
 	Sprite[] sprites;
-	boolean useStage = true;
+	int mode;
+	float drawTime;
 
 	@Override
 	public void create () {
 		batch = new SpriteBatch();
 		font = new BitmapFont();
 		stage = new Stage(24, 12, true);
+		groupStage = new Stage(24, 12, true);
+		Group hud = new Group("hud");
+		groupStage.addActor(hud);
 		regions = new TextureRegion[8 * 8];
 		sprites = new Sprite[24 * 12];
 
@@ -64,13 +73,22 @@ public class StagePerformanceTest extends GdxTest {
 
 		Random rand = new Random();
 		for (int y = 0, i = 0; y < 12; y++) {
+			Group row = new Group();
+			row.y = y;
+			hud.addActor(row);
 			for (int x = 0; x < 24; x++) {
-				Image img = new Image(regions[rand.nextInt(8 * 8)]);
+				TextureRegion region = regions[rand.nextInt(8 * 8)];
+				Image img = new Image(region);
 				img.x = x;
 				img.y = y;
 				img.width = 1;
 				img.height = 1;
 				stage.addActor(img);
+				Image rowImg = new Image(region);
+				rowImg.x = x;
+				rowImg.width = 1;
+				rowImg.height = 1;
+				row.addActor(rowImg);
 				sprites[i] = new Sprite(regions[rand.nextInt(8 * 8)]);
 				sprites[i].setPosition(x, y);
 				sprites[i].setSize(1, 1);
@@ -83,7 +101,9 @@ public class StagePerformanceTest extends GdxTest {
 	public void render () {
 		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
 
-		if (useStage) {
+		long start = TimeUtils.nanoTime();
+		if (mode < 2) {
+			Stage stage = mode == 0 ? this.stage : groupStage;
 			stage.act(Gdx.graphics.getDeltaTime());
 			stage.getSpriteBatch().disableBlending();
 			Group root = stage.getRoot();
@@ -103,23 +123,26 @@ public class StagePerformanceTest extends GdxTest {
 			}
 			batch.end();
 		}
+		drawTime = drawTime * 0.95f + (TimeUtils.nanoTime() - start) / 1000000f * 0.05f;
 
 		batch.getProjectionMatrix().setToOrtho2D(0, 0, 480, 320);
 		batch.enableBlending();
 		batch.begin();
 		font.setColor(0, 0, 1, 1);
 		font.setScale(2);
-		font.draw(batch, "fps: " + Gdx.graphics.getFramesPerSecond() + (useStage ? ", stage" : "sprite"), 10, 40);
+		font.draw(batch, "fps: " + Gdx.graphics.getFramesPerSecond() + ", " + MODES[mode] + ", " + (int)(drawTime * 100) / 100f
+			+ " ms", 10, 40);
 		batch.end();
 
 		if (Gdx.input.justTouched()) {
-			useStage = !useStage;
+			mode = (mode + 1) % MODES.length;
 		}
 	}
 
 	@Override
 	public void dispose () {
 		stage.dispose();
+		groupStage.dispose();
 		batch.dispose();
 		font.dispose();
 		texture.dispose();
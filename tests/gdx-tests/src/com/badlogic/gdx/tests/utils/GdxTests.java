@@ -61,12 +61,12 @@ public class GdxTests {
 			ExitTest.class, FilesTest.class, FlickScrollPaneTest.class,
 			FloatTest.class, FrameBufferTest.class,
 			FramebufferToTextureTest.class, FrustumTest.class,
-			FullscreenTest.class, Gdx2DTest.class, GroupFadeTest.class,
-			ImmediateModeRendererTest.class,
+			FullscreenTest.class, Gdx2DTest.class, GroupFadeTest.class, GroupHitTest.class, GLStateCacheTest.class,
+			GLStateCacheFilterTest.class, ImmediateModeRendererTest.class,
 			ImmediateModeRendererAlphaTest.class,
 			IndexBufferObjectClassTest.class,
 			IndexBufferObjectShaderTest.class, InputTest.class,
-			IntegerBitmapFontTest.class, InverseKinematicsTest.class,
+			IntegerBitmapFontTest.class, InverseKinematicsTest.class, JsonPerformanceTest.class,
 			IsoCamTest.class, IsometricTileTest.class, KinematicBodyTest.class,
 			LifeCycleTest.class, LineDrawingTest.class, ScrollPaneTest.class,
 			ManagedTest.class, ManualBindTest.class, MatrixJNITest.class,
@@ -74,10 +74,11 @@ public class GdxTests {
 			MeshTest.class, MipMapTest.class, MultitouchTest.class,
 			MusicTest.class, MyFirstTriangle.class, ObjTest.class,
 			OnscreenKeyboardTest.class, OrthoCamBorderTest.class,
-			ParallaxTest.class, ParticleEmitterTest.class, PickingTest.class,
+			ParallaxTest.class, ParticleEffectManagerTest.class, ParticleEmitterTest.class,
+			ParticleEmitterPerformanceTest.class, PickingTest.class,
 			PixelsPerInchTest.class, PixmapBlendingTest.class,
 			PixmapTest.class, PreferencesTest.class,
-			ProjectiveTextureTest.class, Pong.class, ProjectTest.class,
+			ProjectiveTextureTest.class, Pong.class, ProjectTest.class, QueuePerformanceTest.class,
 			RemoteTest.class, RotationTest.class, ShaderMultitextureTest.class,
 			ShadowMappingTest.class, SplineTest.class,
 			SimpleAnimationTest.class, SimpleDecalTest.class,
@@ -85,7 +86,7 @@ public class GdxTests {
 			SpriteCacheTest.class, SpriteCacheOffsetTest.class,
 			SpriteBatchRotationTest.class, SpriteBatchShaderTest.class,
 			SpriteBatchTest.class, SpritePerformanceTest.class,
-			SpritePerformanteTest2.class, StagePerformanceTest.class,
+			SpritePerformanteTest2.class, StageCullingTest.class, StagePerformanceTest.class,
 			StageTest.class, TerrainTest.class, TextureDataTest.class,
 			TextureDownloadTest.class, TextureFormatTest.class,
 			TextureAtlasTest.class, TextInputDialogTest.class,